@@ -0,0 +1,46 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.StringException;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Reads the boards in {@code src/main/resources/board} for the benchmarks.
+ *
+ * <p>The benchmarks name the boards {@code easy}, {@code normal}, {@code hard} and
+ * {@code monopoly} in their parameters, and must be run from the project folder.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+final class BenchmarkBoards {
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private BenchmarkBoards() {
+  }
+
+  /**
+   * Reads a board by its benchmark name.
+   *
+   * @param name the name of the board
+   * @return the board
+   * @throws IOException if the board file could not be read
+   * @throws StringException if there is no board with the name
+   */
+  static Board read(String name) throws IOException {
+    String path = switch (name) {
+      case "easy" -> Constants.SNAKES_AND_LADDERS_EASY_BOARD_FILE_PATH;
+      case "normal" -> Constants.SNAKES_AND_LADDERS_NORMAL_BOARD_FILE_PATH;
+      case "hard" -> Constants.SNAKES_AND_LADDERS_HARD_BOARD_FILE_PATH;
+      case "monopoly" -> Constants.MONOPOLY_BOARD_FILE_PATH;
+      default -> throw new StringException("There is no board named " + name);
+    };
+    return new BoardFileReaderGson().readBoard(Path.of(path));
+  }
+}
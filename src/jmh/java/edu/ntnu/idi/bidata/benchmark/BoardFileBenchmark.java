@@ -0,0 +1,108 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileWriterGson;
+import edu.ntnu.idi.bidata.filehandler.board.BoardGenerator;
+import edu.ntnu.idi.bidata.filehandler.board.BoardGenerator.GameType;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing board files of growing size with
+ * {@link BoardFileReaderGson} and {@link BoardFileWriterGson}.
+ *
+ * <p>The boards are square Snakes and Ladders boards with the number of tiles in the
+ * parameter, made by a {@link BoardGenerator} with a fixed seed. The board is
+ * generated to a temporary file before the measurement, which is then read in every
+ * operation. Both the throughput and the time of each
+ * operation are measured, so the percentiles show how the time is spread. Run with
+ * {@code -prof gc} to see the bytes allocated per operation.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardFileBenchmark {
+  @Param({"100", "10000", "1000000"})
+  private int tileCount;
+
+  private final BoardFileReaderGson reader = new BoardFileReaderGson();
+  private final BoardFileWriterGson writer = new BoardFileWriterGson();
+  private Path directory;
+  private Path boardFile;
+  private Path writtenFile;
+  private Board board;
+
+  /**
+   * Generates the board to a temporary file, and reads it for the write benchmark.
+   *
+   * @throws IOException if the file could not be written or read
+   * @throws NullOrBlankException never, the game type is given
+   */
+  @Setup
+  public void setUp() throws IOException, NullOrBlankException {
+    int side = (int) Math.sqrt(tileCount);
+    directory = Files.createTempDirectory("board-benchmark");
+    boardFile = directory.resolve("board.json");
+    writtenFile = directory.resolve("written.json");
+    new BoardGenerator(GameType.SNAKES_AND_LADDERS, side, side, 42).generate(boardFile);
+    board = reader.readBoard(boardFile);
+  }
+
+  /**
+   * Deletes the temporary files.
+   *
+   * @throws IOException if the files could not be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(boardFile);
+    Files.deleteIfExists(writtenFile);
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Reads the board from the file.
+   *
+   * @return the board read
+   * @throws IOException if the file could not be read
+   */
+  @Benchmark
+  public Board readBoard() throws IOException {
+    return reader.readBoard(boardFile);
+  }
+
+  /**
+   * Writes the board to a file, over the file written by the last operation.
+   *
+   * @return the path of the file written
+   * @throws IOException if the file could not be written
+   */
+  @Benchmark
+  public Path writeBoard() throws IOException {
+    writer.writeBoard(board, writtenFile);
+    return writtenFile;
+  }
+}
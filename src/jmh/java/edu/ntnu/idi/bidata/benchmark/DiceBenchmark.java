@@ -0,0 +1,54 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.model.engine.Dice;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Dice#roll()}, which every turn of every game starts with.
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+  @Param({"1", "2"})
+  private int numberOfDice;
+
+  private Dice dice;
+
+  /**
+   * Creates seeded dice, so every run rolls the same values.
+   */
+  @Setup
+  public void setUp() {
+    dice = new Dice(numberOfDice, new SplittableRandom(42));
+  }
+
+  /**
+   * Rolls the dice.
+   *
+   * @return the sum of the dice
+   */
+  @Benchmark
+  public int roll() {
+    return dice.roll();
+  }
+}
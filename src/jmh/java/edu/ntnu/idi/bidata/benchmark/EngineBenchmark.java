@@ -0,0 +1,154 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.model.engine.BoardGame;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hot paths of a turn on each board: looking up a tile, moving a player
+ * and playing a whole turn.
+ *
+ * <p>The game is set up like the game pages do it, with two dice and a compiled board,
+ * so {@link Player#move(int)} uses the jump table. The start tiles and steps are drawn
+ * from a seeded generator before the measurement, and used in a loop, so every run
+ * measures the same moves. Run with {@code -prof gc} to see the allocation rate.</p>
+ *
+ * <p>Each benchmark runs with and without {@link EngineMetrics}, to show what
+ * recording the metrics costs.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmark {
+  private static final int SAMPLES = 1024;
+  private static final int START_BALANCE = 1500;
+
+  @Param({"easy", "normal", "hard", "monopoly"})
+  private String boardName;
+
+  @Param({"false", "true"})
+  private boolean metrics;
+
+  private Board board;
+  private BoardGame game;
+  private Player mover;
+  private final int[] tileIds = new int[SAMPLES];
+  private final Tile[] startTiles = new Tile[SAMPLES];
+  private final int[] steps = new int[SAMPLES];
+  private int index;
+
+  /**
+   * Reads the board, sets up a game with two players, and draws the samples.
+   *
+   * @throws IOException if the board could not be read
+   * @throws NullOrBlankException if the game could not be set up
+   */
+  @Setup
+  public void setUp() throws IOException, NullOrBlankException {
+    board = BenchmarkBoards.read(boardName);
+    game = new BoardGame();
+    game.createBoard(board);
+    game.createDice(2, new SplittableRandom(42));
+    game.compileBoard();
+    if (metrics) {
+      game.setMetrics(new EngineMetrics(boardName));
+    }
+    game.addPlayer(new Player("Player 1", "RED", game, START_BALANCE, 1));
+    game.addPlayer(new Player("Player 2", "BLUE", game, START_BALANCE, 1));
+    mover = new Player("Mover", "GREEN", game, START_BALANCE, 1);
+    resetPlayers();
+
+    SplittableRandom random = new SplittableRandom(7);
+    for (int i = 0; i < SAMPLES; i++) {
+      tileIds[i] = random.nextInt(1, board.getTileCount() + 1);
+      startTiles[i] = board.getTileById(random.nextInt(1, board.getTileCount() + 1));
+      steps[i] = random.nextInt(2, 13);
+    }
+  }
+
+  /**
+   * Puts the players back on the first tile with the start balance.
+   */
+  private void resetPlayers() {
+    Tile startTile = board.getTileById(1);
+    game.getPlayerIterator().forEachRemaining(player -> {
+      player.placeOnTile(startTile);
+      player.setBalance(START_BALANCE);
+      player.setInSkipped(false);
+    });
+  }
+
+  /**
+   * Returns the index of the next sample.
+   *
+   * @return the index
+   */
+  private int nextIndex() {
+    index = (index + 1) & (SAMPLES - 1);
+    return index;
+  }
+
+  /**
+   * Looks up a tile by its ID.
+   *
+   * @return the tile
+   */
+  @Benchmark
+  public Tile getTileById() {
+    return board.getTileById(tileIds[nextIndex()]);
+  }
+
+  /**
+   * Moves a player from a tile, including the action of the tile it lands on.
+   *
+   * @return the tile the player ends on
+   */
+  @Benchmark
+  public Tile playerMove() {
+    int i = nextIndex();
+    mover.placeOnTile(startTiles[i]);
+    mover.setBalance(START_BALANCE);
+    mover.move(steps[i]);
+    return mover.getCurrentTile();
+  }
+
+  /**
+   * Plays one turn. When a player has won, the players are put back on the
+   * first tile, so the game goes on.
+   *
+   * @return the player who has the turn next
+   * @throws NullOrBlankException if the game has no players
+   */
+  @Benchmark
+  public Player boardGamePlay() throws NullOrBlankException {
+    game.play();
+    if (game.isFinished() || nextIndex() == 0) {
+      resetPlayers();
+    }
+    return game.getCurrentPlayer();
+  }
+}
@@ -0,0 +1,111 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.filehandler.player.PlayerFileReader;
+import edu.ntnu.idi.bidata.filehandler.player.PlayerFileWriter;
+import edu.ntnu.idi.bidata.model.engine.BoardGame;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading and writing player files of growing size with
+ * {@link PlayerFileReader} and {@link PlayerFileWriter}.
+ *
+ * <p>The players are written to a temporary CSV file before the measurement, with the
+ * number of rows in the parameter. Every read adds the players to a new
+ * {@link BoardGame}. Both the throughput and the time of each operation are measured,
+ * so the percentiles show how the time is spread. Run with {@code -prof gc} to see the
+ * bytes allocated per operation.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerFileBenchmark {
+  private static final String[] COLORS = {"RED", "BLUE", "GREEN", "YELLOW", "PURPLE"};
+
+  @Param({"2", "1000", "100000"})
+  private int rowCount;
+
+  private final PlayerFileReader reader = new PlayerFileReader();
+  private Path directory;
+  private String playerFile;
+  private String writtenFile;
+  private List<Player> players;
+
+  /**
+   * Creates the players and writes them to a temporary file.
+   *
+   * @throws IOException if the directory could not be created
+   */
+  @Setup
+  public void setUp() throws IOException {
+    BoardGame game = new BoardGame();
+    players = new ArrayList<>(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      players.add(new Player("Player " + (i + 1), COLORS[i % COLORS.length], game,
+          1500 + i % 500, 1 + i % 100));
+    }
+    directory = Files.createTempDirectory("player-benchmark");
+    playerFile = directory.resolve("players.csv").toString();
+    writtenFile = directory.resolve("written.csv").toString();
+    PlayerFileWriter.writeToCsv(players, playerFile);
+  }
+
+  /**
+   * Deletes the temporary files.
+   *
+   * @throws IOException if the files could not be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(Path.of(playerFile));
+    Files.deleteIfExists(Path.of(writtenFile));
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Reads the players from the file into a new game.
+   *
+   * @return the game with the players read
+   */
+  @Benchmark
+  public BoardGame readCsvBuffered() {
+    BoardGame game = new BoardGame();
+    reader.readCsvBuffered(playerFile, game);
+    return game;
+  }
+
+  /**
+   * Writes the players to a file, over the file written by the last operation.
+   *
+   * @return the name of the file written
+   */
+  @Benchmark
+  public String writeToCsv() {
+    PlayerFileWriter.writeToCsv(players, writtenFile);
+    return writtenFile;
+  }
+}
@@ -0,0 +1,104 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.model.engine.BoardGame;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import edu.ntnu.idi.bidata.utils.exception.StringException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link TileAction#perform(Player)} for each type of action on each board.
+ *
+ * <p>The parameter names a board and an action type, like {@code hard:SkipAction}.
+ * Only the types found on the board are listed. Each operation performs the next
+ * action of that type on the board, in a loop, on a player with a fixed balance, so
+ * money actions always do the same work.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TileActionBenchmark {
+  private static final int START_BALANCE = 1500;
+
+  @Param({
+      "easy:LadderAction", "easy:SnakeAction",
+      "normal:LadderAction", "normal:SnakeAction",
+      "hard:LadderAction", "hard:SnakeAction", "hard:SkipAction",
+      "monopoly:BankAction", "monopoly:LooseMoneyAction", "monopoly:SkipAction"
+  })
+  private String boardAction;
+
+  private TileAction[] actions;
+  private Player player;
+  private int index;
+
+  /**
+   * Reads the board and collects its actions of the type in the parameter.
+   *
+   * @throws IOException if the board could not be read
+   * @throws NullOrBlankException if the game could not be set up
+   * @throws StringException if the board has no actions of the type
+   */
+  @Setup
+  public void setUp() throws IOException, NullOrBlankException {
+    String[] parts = boardAction.split(":");
+    Board board = BenchmarkBoards.read(parts[0]);
+    List<TileAction> found = new ArrayList<>();
+    Iterator<Tile> tiles = board.getTileIterator();
+    while (tiles.hasNext()) {
+      TileAction action = tiles.next().getLandAction();
+      if (action != null && action.getClass().getSimpleName().equals(parts[1])) {
+        found.add(action);
+      }
+    }
+    if (found.isEmpty()) {
+      throw new StringException("The " + parts[0] + " board has no " + parts[1]);
+    }
+    actions = found.toArray(new TileAction[0]);
+
+    BoardGame game = new BoardGame();
+    game.createBoard(board);
+    player = new Player("Player", "RED", game, START_BALANCE, 1);
+    player.placeOnTile(board.getTileById(1));
+  }
+
+  /**
+   * Performs the next action.
+   *
+   * @return the player the action was performed on
+   * @throws NullOrBlankException if the action could not be performed
+   */
+  @Benchmark
+  public Player perform() throws NullOrBlankException {
+    TileAction action = actions[index];
+    index = index + 1 == actions.length ? 0 : index + 1;
+    player.setBalance(START_BALANCE);
+    action.perform(player);
+    return player;
+  }
+}
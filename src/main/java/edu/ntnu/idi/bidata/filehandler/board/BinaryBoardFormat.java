@@ -0,0 +1,110 @@
+package edu.ntnu.idi.bidata.filehandler.board;
+
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import java.io.IOException;
+
+/**
+ * The layout of the binary board format, shared by {@link BoardFileReaderBinary}
+ * and {@link BoardFileWriterBinary}.
+ *
+ * <p>All numbers are big-endian. The file has four parts:</p>
+ * <pre>
+ * header       magic, version, rows, columns, number of tiles, actions and strings,
+ *              string index of the name and the description, size of the string pool
+ * tiles        one record per tile: id, x, y, next tile id, action index
+ * actions      one record per action: type, string index of the description,
+ *              destination tile id, amount
+ * string pool  one entry per string: length in bytes, UTF-8 bytes
+ * </pre>
+ *
+ * <p>The tile and action records have a fixed width, so a record is found from its
+ * index alone. A missing next tile, action or string is stored as {@code -1}.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+final class BinaryBoardFormat {
+  /**
+   * The first four bytes of every binary board file, "SLBD".
+   */
+  static final int MAGIC = 0x534C4244;
+  static final short VERSION = 1;
+  static final int HEADER_SIZE = 40;
+  static final int TILE_RECORD_SIZE = 20;
+  static final int ACTION_RECORD_SIZE = 16;
+  static final int NONE = -1;
+
+  static final int LADDER_ACTION = 1;
+  static final int SNAKE_ACTION = 2;
+  static final int SKIP_ACTION = 3;
+  static final int BANK_ACTION = 4;
+  static final int LOOSE_MONEY_ACTION = 5;
+
+  // Prevent instantiation
+  private BinaryBoardFormat() {}
+
+  /**
+   * Returns the type code of a tile action.
+   *
+   * @param action the tile action
+   * @return the type code of the action
+   * @throws IOException if the action has no type code
+   */
+  static int typeOf(TileAction action) throws IOException {
+    return switch (action) {
+      case LadderAction ladderAction -> LADDER_ACTION;
+      case SnakeAction snakeAction -> SNAKE_ACTION;
+      case SkipAction skipAction -> SKIP_ACTION;
+      case BankAction bankAction -> BANK_ACTION;
+      case LooseMoneyAction looseMoneyAction -> LOOSE_MONEY_ACTION;
+      default -> throw new IOException("Can not write the action "
+          + action.getClass().getSimpleName());
+    };
+  }
+
+  /**
+   * Returns the amount of money of a tile action.
+   *
+   * @param action the tile action
+   * @return the amount of money, or 0 if the action has none
+   */
+  static int amountOf(TileAction action) {
+    return switch (action) {
+      case BankAction bankAction -> bankAction.getMoney();
+      case LooseMoneyAction looseMoneyAction -> looseMoneyAction.getLooseMoney();
+      default -> 0;
+    };
+  }
+
+  /**
+   * Creates a tile action from its record.
+   *
+   * @param type the type code of the action
+   * @param description the description of the action
+   * @param destinationTileId the ID of the destination tile
+   * @param amount the amount of money
+   * @return the tile action
+   * @throws IOException if the type code is unknown, or the values are not valid
+   */
+  static TileAction createAction(int type, String description, int destinationTileId,
+                                 int amount) throws IOException {
+    try {
+      return switch (type) {
+        case LADDER_ACTION -> new LadderAction(destinationTileId, description);
+        case SNAKE_ACTION -> new SnakeAction(destinationTileId, description);
+        case SKIP_ACTION -> new SkipAction(description);
+        case BANK_ACTION -> new BankAction(amount, description);
+        case LOOSE_MONEY_ACTION -> new LooseMoneyAction(amount, description);
+        default -> throw new IOException("Unknown action type " + type);
+      };
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid action: " + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package edu.ntnu.idi.bidata.filehandler.board;
+
+import edu.ntnu.idi.bidata.model.engine.BoardTemplate;
+import edu.ntnu.idi.bidata.model.engine.GameState;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A shared cache of the boards read from board files.
+ *
+ * <p>A board file is read the first time it is asked for, and the board is kept
+ * together with the modification time and size of the file. Later requests
+ * only check the file attributes, and read the file again if it has changed. The cached
+ * board is never handed out; every request gets its own {@link Board#copy()}, so the games
+ * can not change it.</p>
+ *
+ * <p>Games that keep their state in a {@link GameState} can instead share one immutable
+ * {@link BoardTemplate} of the board, from {@link #getTemplate(Path)}, without any
+ * copying.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.1.0
+ * @since 0.8.0
+ */
+public final class BoardCache {
+  private static final Map<Path, CachedBoard> BOARDS = new ConcurrentHashMap<>();
+
+  // Prevent instantiation
+  private BoardCache() {}
+
+  /**
+   * A board read from a file, with the attributes the file had when it was read.
+   *
+   * @param lastModified the modification time of the file
+   * @param size the size of the file
+   * @param board the board read from the file
+   * @param template the immutable template of the board
+   */
+  private record CachedBoard(FileTime lastModified, long size, Board board,
+                             BoardTemplate template) {
+  }
+
+  /**
+   * Returns a copy of the board in a file, in the format given by its extension.
+   *
+   * @param path the path to the board file
+   * @return a copy of the board
+   * @throws IOException if the board could not be read
+   */
+  public static Board getBoard(Path path) throws IOException {
+    return getCachedBoard(path).board().copy();
+  }
+
+  /**
+   * Returns the shared template of the board in a file, in the format given by its
+   * extension.
+   *
+   * @param path the path to the board file
+   * @return the template of the board
+   * @throws IOException if the board could not be read
+   */
+  public static BoardTemplate getTemplate(Path path) throws IOException {
+    return getCachedBoard(path).template();
+  }
+
+  /**
+   * Returns the cached board of a file, and reads the file if it is not cached
+   * or has changed.
+   *
+   * @param path the path to the board file
+   * @return the cached board
+   * @throws IOException if the board could not be read
+   */
+  private static CachedBoard getCachedBoard(Path path) throws IOException {
+    Path key = path.toAbsolutePath().normalize();
+    BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+    CachedBoard cached = BOARDS.get(key);
+    if (cached == null || !cached.lastModified().equals(attributes.lastModifiedTime())
+        || cached.size() != attributes.size()) {
+      Board board = BoardFileConverter.readBoard(key);
+      try {
+        cached = new CachedBoard(attributes.lastModifiedTime(), attributes.size(), board,
+            BoardTemplate.of(board));
+      } catch (NullOrBlankException e) {
+        throw new IOException("Could not read the board in " + path, e);
+      }
+      BOARDS.put(key, cached);
+    }
+    return cached;
+  }
+
+  /**
+   * Removes the board of a file from the cache, so it is read again on the next request.
+   *
+   * @param path the path to the board file
+   */
+  public static void invalidate(Path path) {
+    BOARDS.remove(path.toAbsolutePath().normalize());
+  }
+
+  /**
+   * Removes every board from the cache.
+   */
+  public static void clear() {
+    BOARDS.clear();
+  }
+}
@@ -0,0 +1,86 @@
+package edu.ntnu.idi.bidata.filehandler.board;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.utils.Constants;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Converts board files between the JSON format and the binary board format.
+ *
+ * <p>The format of a file is chosen by its extension. Files ending with
+ * {@link Constants#BINARY_BOARD_FILE_EXTENSION} are in the binary board format,
+ * all other files are JSON.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>BoardFileConverter sourceFile targetFile</pre>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public class BoardFileConverter {
+  // Prevent instantiation
+  private BoardFileConverter() {}
+
+  /**
+   * Converts the board file given as the first argument to the file given as the second.
+   *
+   * @param args the source file and the target file
+   * @throws IOException if the board could not be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: BoardFileConverter sourceFile targetFile");
+      return;
+    }
+    convert(Path.of(args[0]), Path.of(args[1]));
+  }
+
+  /**
+   * Reads a board from one file and writes it to another, in the format of each file.
+   *
+   * @param source the file to read the board from
+   * @param target the file to write the board to
+   * @throws IOException if the board could not be read or written
+   */
+  public static void convert(Path source, Path target) throws IOException {
+    writeBoard(readBoard(source), target);
+  }
+
+  /**
+   * Reads a board from a file, in the format given by its extension.
+   *
+   * @param path the path to the file
+   * @return the board read from the file
+   * @throws IOException if the board could not be read
+   */
+  public static Board readBoard(Path path) throws IOException {
+    BoardFileReader reader = isBinary(path)
+        ? new BoardFileReaderBinary() : new BoardFileReaderGson();
+    return reader.readBoard(path);
+  }
+
+  /**
+   * Writes a board to a file, in the format given by its extension.
+   *
+   * @param board the board to write
+   * @param path the path to the file
+   * @throws IOException if the board could not be written
+   */
+  public static void writeBoard(Board board, Path path) throws IOException {
+    BoardFileWriter writer = isBinary(path)
+        ? new BoardFileWriterBinary() : new BoardFileWriterGson();
+    writer.writeBoard(board, path);
+  }
+
+  /**
+   * Checks if a file is in the binary board format.
+   *
+   * @param path the path to the file
+   * @return true if the file has the extension of the binary board format
+   */
+  public static boolean isBinary(Path path) {
+    return path.getFileName().toString().endsWith(Constants.BINARY_BOARD_FILE_EXTENSION);
+  }
+}
@@ -0,0 +1,209 @@
+package edu.ntnu.idi.bidata.filehandler.board;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.BoardLoadJfrEvent;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class that reads a {@link Board} from a file in the binary board format.
+ *
+ * <p>The file is mapped into memory with a {@link MappedByteBuffer}, and the fixed-width
+ * records are read straight from the buffer. The only objects created are the board, its
+ * tiles, the actions and the strings of the string pool. The layout of the file is
+ * described by {@link BinaryBoardFormat}.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public class BoardFileReaderBinary implements BoardFileReader {
+
+  /**
+   * Reads a board from a file in the binary board format.
+   *
+   * @param filePath the path to the file
+   * @return the board read from the file
+   * @throws IOException if the file could not be read, or is not a valid board file
+   */
+  @Override
+  public Board readBoard(Path filePath) throws IOException {
+    BoardLoadJfrEvent event = new BoardLoadJfrEvent();
+    event.begin();
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    try {
+      Board board = readBoard(buffer);
+      event.finish(filePath, "binary", board);
+      return board;
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IOException("The board file " + filePath + " is cut short", e);
+    }
+  }
+
+  /**
+   * Reads a board from a buffer holding a binary board file.
+   *
+   * @param buffer the buffer to read from
+   * @return the board read from the buffer
+   * @throws IOException if the buffer does not hold a valid board file
+   */
+  private static Board readBoard(ByteBuffer buffer) throws IOException {
+    if (buffer.getInt() != BinaryBoardFormat.MAGIC) {
+      throw new IOException("The file is not a binary board file");
+    }
+    short version = buffer.getShort();
+    if (version != BinaryBoardFormat.VERSION) {
+      throw new IOException("Unsupported binary board version " + version);
+    }
+    buffer.getShort();
+    final int rows = buffer.getInt();
+    final int columns = buffer.getInt();
+    final int tileCount = buffer.getInt();
+    final int actionCount = buffer.getInt();
+    final int stringCount = buffer.getInt();
+    final int nameIndex = buffer.getInt();
+    final int descriptionIndex = buffer.getInt();
+    final int stringPoolSize = buffer.getInt();
+    if (tileCount < 0 || actionCount < 0 || stringCount < 0 || stringPoolSize < 0) {
+      throw new IOException("The board file has a negative size in its header");
+    }
+
+    final int tileStart = BinaryBoardFormat.HEADER_SIZE;
+    final long actionStart = tileStart + (long) tileCount * BinaryBoardFormat.TILE_RECORD_SIZE;
+    final long stringStart = actionStart
+        + (long) actionCount * BinaryBoardFormat.ACTION_RECORD_SIZE;
+    if (stringStart + stringPoolSize != buffer.limit()) {
+      throw new IOException("The size of the board file does not match its header");
+    }
+
+    String[] strings = readStrings(buffer, (int) stringStart, stringCount);
+    TileAction[] actions = readActions(buffer, (int) actionStart, actionCount, strings);
+
+    Board board;
+    try {
+      board = new Board(rows, columns);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid board: " + e.getMessage(), e);
+    }
+    board.setName(getString(strings, nameIndex));
+    board.setDescription(getString(strings, descriptionIndex));
+    readTiles(buffer, tileStart, tileCount, board, actions);
+    return board;
+  }
+
+  /**
+   * Reads the strings of the string pool.
+   *
+   * @param buffer the buffer to read from
+   * @param start the position of the string pool
+   * @param stringCount the number of strings
+   * @return the strings
+   */
+  private static String[] readStrings(ByteBuffer buffer, int start, int stringCount) {
+    String[] strings = new String[stringCount];
+    buffer.position(start);
+    for (int i = 0; i < stringCount; i++) {
+      byte[] bytes = new byte[buffer.getInt()];
+      buffer.get(bytes);
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return strings;
+  }
+
+  /**
+   * Reads the actions of the action table.
+   *
+   * @param buffer the buffer to read from
+   * @param start the position of the action table
+   * @param actionCount the number of actions
+   * @param strings the strings of the string pool
+   * @return the actions
+   * @throws IOException if an action is not valid
+   */
+  private static TileAction[] readActions(ByteBuffer buffer, int start, int actionCount,
+                                          String[] strings) throws IOException {
+    TileAction[] actions = new TileAction[actionCount];
+    buffer.position(start);
+    for (int i = 0; i < actionCount; i++) {
+      int type = buffer.getInt();
+      String description = getString(strings, buffer.getInt());
+      int destinationTileId = buffer.getInt();
+      int amount = buffer.getInt();
+      actions[i] = BinaryBoardFormat.createAction(type, description, destinationTileId, amount);
+    }
+    return actions;
+  }
+
+  /**
+   * Reads the tiles, adds them to the board, and links each tile to its next tile.
+   *
+   * <p>The next tile links are read in a second pass over the records, since a tile
+   * can link to a tile further down.</p>
+   *
+   * @param buffer the buffer to read from
+   * @param start the position of the tile records
+   * @param tileCount the number of tiles
+   * @param board the board to add the tiles to
+   * @param actions the actions of the action table
+   * @throws IOException if a tile is not valid
+   */
+  private static void readTiles(ByteBuffer buffer, int start, int tileCount, Board board,
+                                TileAction[] actions) throws IOException {
+    Tile[] tiles = new Tile[tileCount];
+    buffer.position(start);
+    for (int i = 0; i < tileCount; i++) {
+      int tileId = buffer.getInt();
+      int x = buffer.getInt();
+      int y = buffer.getInt();
+      buffer.getInt();
+      int actionIndex = buffer.getInt();
+      try {
+        tiles[i] = new Tile(tileId, x, y);
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Invalid tile: " + e.getMessage(), e);
+      }
+      if (actionIndex != BinaryBoardFormat.NONE) {
+        if (actionIndex < 0 || actionIndex >= actions.length) {
+          throw new IOException("Tile " + tileId + " has an unknown action " + actionIndex);
+        }
+        tiles[i].setLandAction(actions[actionIndex]);
+      }
+      board.addTile(tiles[i]);
+    }
+    for (int i = 0; i < tileCount; i++) {
+      int nextTileId = buffer.getInt(start + i * BinaryBoardFormat.TILE_RECORD_SIZE + 12);
+      if (nextTileId != BinaryBoardFormat.NONE) {
+        tiles[i].setNextTile(board.getTileById(nextTileId));
+      }
+    }
+  }
+
+  /**
+   * Returns a string of the string pool.
+   *
+   * @param strings the strings of the string pool
+   * @param index the index of the string
+   * @return the string, or null if the index is {@link BinaryBoardFormat#NONE}
+   * @throws IOException if the index is not in the string pool
+   */
+  private static String getString(String[] strings, int index) throws IOException {
+    if (index == BinaryBoardFormat.NONE) {
+      return null;
+    }
+    if (index < 0 || index >= strings.length) {
+      throw new IOException("Unknown string " + index + " in the board file");
+    }
+    return strings[index];
+  }
+}
@@ -1,11 +1,10 @@
 package edu.ntnu.idi.bidata.filehandler.board;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import edu.ntnu.idi.bidata.model.entity.Board;
 import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.BoardLoadJfrEvent;
 import edu.ntnu.idi.bidata.model.tileactions.BankAction;
 import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
 import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
@@ -13,12 +12,12 @@ import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
 import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
 import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.utils.Constants;
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Class is responsible for reading a board from a file using Gson.
@@ -26,8 +25,14 @@ import java.util.Map;
  * <p>Reads the file and parses tiles, board dimensions, tile connections, and tile actions.
  * Returns a new {@link Board} object</p>
  *
+ * <p>The file is read as a stream of tokens with a {@link JsonReader}, in one pass,
+ * so the whole file is never held in memory as a tree. Tiles are created as they are
+ * read. The next tile links and the tile actions are kept until the end of the file,
+ * since a tile can link to a tile further down, and the name of the board, which decides
+ * the supported actions, can come after the tiles.</p>
+ *
  * @author A. Sahoo, B.I. Høie
- * @version 0.5.1
+ * @version 0.6.2
  * @since 0.0.1
  */
 public class BoardFileReaderGson implements BoardFileReader {
@@ -42,101 +47,182 @@ public class BoardFileReaderGson implements BoardFileReader {
   /**
    * Reads a {@link Board} from a JSON file using Gson.
    *
+   * <p>The read is a {@link BoardLoadJfrEvent} in a flight recording.</p>
+   *
    * @param filePath the path to the JSON file
    * @return the {@link  Board} object read from the file
-   * @throws IOException if the file could not be read
+   * @throws IOException if the file could not be read, or a tile is missing its ID
    */
   @Override
   public Board readBoard(Path filePath) throws IOException {
-    try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()))) {
-      JsonObject rootObj = JsonParser.parseReader(reader).getAsJsonObject();
-      JsonArray tilesArray = rootObj.getAsJsonArray("tiles");
-      int rows = rootObj.get("rows").getAsInt();
-      int columns = rootObj.get("columns").getAsInt();
-      Board board = new Board(rows, columns);
-
-      Map<Integer, Tile> tileMap = getTileMap(tilesArray, board);
-      linkNextTile(tilesArray, tileMap);
-      createTileAction(tilesArray, tileMap, rootObj);
-
-      return board;
+    BoardLoadJfrEvent event = new BoardLoadJfrEvent();
+    event.begin();
+    Board board = read(filePath);
+    event.finish(filePath, "JSON", board);
+    return board;
+  }
+
+  /**
+   * Reads the board from the JSON file.
+   *
+   * @param filePath the path to the JSON file
+   * @return the board read from the file
+   * @throws IOException if the file could not be read, or a tile is missing its ID
+   */
+  private static Board read(Path filePath) throws IOException {
+    try (JsonReader reader = new JsonReader(Files.newBufferedReader(filePath))) {
+      BoardData boardData = new BoardData();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "name" -> boardData.name = reader.nextString();
+          case Constants.DESCRIPTION -> boardData.description = reader.nextString();
+          case "rows" -> boardData.rows = reader.nextInt();
+          case "columns" -> boardData.columns = reader.nextInt();
+          case "tiles" -> readTiles(reader, boardData);
+          default -> reader.skipValue();
+        }
+      }
+      reader.endObject();
+      return createBoard(boardData);
     }
   }
 
   /**
-   * Creates the tiles from the JSON array and adds them to the board.
+   * Reads the tiles from the JSON array.
    *
-   * <p>Each tile is created with an id and its position using x and y coordinates,
-   *   and stores the tile in a {@link  HashMap}.</p>
+   * @param reader the reader, placed at the start of the array
+   * @param boardData the data the tiles are added to
+   * @throws IOException if the tiles could not be read
+   */
+  private static void readTiles(JsonReader reader, BoardData boardData) throws IOException {
+    reader.beginArray();
+    while (reader.hasNext()) {
+      readTile(reader, boardData);
+    }
+    reader.endArray();
+  }
+
+  /**
+   * Reads one tile, with its position, next tile and action.
    *
-   * @param tilesArray the JSON array containing the tiles
-   * @param board the board where the tiles will be added
-   * @return the map of tiles
+   * @param reader the reader, placed at the start of the tile object
+   * @param boardData the data the tile is added to
+   * @throws IOException if the tile could not be read
    */
-  private static Map<Integer, Tile> getTileMap(JsonArray tilesArray, Board board) {
-    Map<Integer, Tile> tileMap = new HashMap<>();
-    for (JsonElement element : tilesArray) {
-      JsonObject tileObj = element.getAsJsonObject();
-      int id = tileObj.get("id").getAsInt();
-      int x = tileObj.get("x").getAsInt();
-      int y = tileObj.get("y").getAsInt();
-
-      Tile tile = new Tile(id, x, y);
-      board.addTile(tile);
-      tileMap.put(id, tile);
+  private static void readTile(JsonReader reader, BoardData boardData) throws IOException {
+    int id = -1;
+    int x = 0;
+    int y = 0;
+    int nextTileId = 0;
+    ActionData action = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "id" -> id = reader.nextInt();
+        case "x" -> x = reader.nextInt();
+        case "y" -> y = reader.nextInt();
+        case "nextTile" -> nextTileId = readOptionalInt(reader);
+        case Constants.ACTION -> action = readAction(reader);
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (id < 0) {
+      throw new IOException("A tile is missing its id");
     }
-    return tileMap;
+    boardData.addTile(new Tile(id, x, y), nextTileId, action);
   }
 
   /**
-   * Links each tile to its next tile using {@code setNextTile()} method.
+   * Reads the action of a tile.
    *
-   * @param tilesArray the JSON array containing the tiles
-   * @param tileMap the map of tiles
+   * @param reader the reader, placed at the start of the action object
+   * @return the data of the action, or {@code null} if the action is null
+   * @throws IOException if the action could not be read
    */
-  private static void linkNextTile(JsonArray tilesArray, Map<Integer, Tile> tileMap) {
-    for (JsonElement element : tilesArray) {
-      JsonObject tileObj = element.getAsJsonObject();
-      int id = tileObj.get("id").getAsInt();
-      Tile currentTile = tileMap.get(id);
-
-      if (tileObj.has("nextTile")) {
-        int nextTileId = tileObj.get("nextTile").getAsInt();
-        Tile nextTile = tileMap.get(nextTileId);
-        currentTile.setNextTile(nextTile);
+  private static ActionData readAction(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    String type = null;
+    String description = null;
+    int destinationTileId = 0;
+    int amount = 0;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "type" -> type = reader.nextString();
+        case Constants.DESCRIPTION -> description = reader.nextString();
+        case "destinationTileId" -> destinationTileId = readOptionalInt(reader);
+        case "amount" -> amount = readOptionalInt(reader);
+        default -> reader.skipValue();
       }
     }
+    reader.endObject();
+    return new ActionData(type, description, destinationTileId, amount);
   }
 
   /**
-   * Creates a tile action for the tiles.
+   * Reads an integer that may be null.
    *
-   * <p>Supports both board games Snakes and Ladders and Monopoly tile actions</p>
+   * @param reader the reader, placed at the value
+   * @return the integer, or 0 if the value is null
+   * @throws IOException if the value could not be read
+   */
+  private static int readOptionalInt(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return 0;
+    }
+    return reader.nextInt();
+  }
+
+  /**
+   * Creates the board from the data read from the file.
+   *
+   * <p>Adds the tiles, links each tile to its next tile, and creates the tile actions
+   * supported by the board game named in the file.</p>
    *
-   * @param tilesArray the JSON array containing the tiles
-   * @param tileMap the map of tiles
+   * @param boardData the data read from the file
+   * @return the board
    */
-  private static void createTileAction(JsonArray tilesArray,
-                                       Map<Integer, Tile> tileMap,
-                                       JsonObject rootObj) {
-    for (JsonElement element : tilesArray) {
-      JsonObject tileObj = element.getAsJsonObject();
-      int id = tileObj.get("id").getAsInt();
-      Tile currentTile = tileMap.get(id);
-      if (tileObj.has(Constants.ACTION)
-          && "Snakes and Ladders".equals(rootObj.get("name").getAsString())) {
-        JsonObject actionObj = tileObj.getAsJsonObject(Constants.ACTION);
-        TileAction tileAction = createTileActionSnakesAndLadders(actionObj);
-        currentTile.setLandAction(tileAction);
-      } else if (tileObj.has(Constants.ACTION)
-          && "Monopoly".equals(rootObj.get("name").getAsString())) {
-        JsonObject actionObj = tileObj.getAsJsonObject(Constants.ACTION);
-        TileAction tileAction = createTileMonopolyAction(actionObj);
-        currentTile.setLandAction(tileAction);
-      } else {
-        currentTile.setLandAction(null);
+  private static Board createBoard(BoardData boardData) {
+    Board board = new Board(boardData.rows, boardData.columns);
+    board.setName(boardData.name);
+    board.setDescription(boardData.description);
+    for (int i = 0; i < boardData.tiles.size(); i++) {
+      board.addTile(boardData.tiles.get(i));
+    }
+    for (int i = 0; i < boardData.tiles.size(); i++) {
+      Tile tile = boardData.tiles.get(i);
+      if (boardData.nextTileIds[i] != 0) {
+        tile.setNextTile(board.getTileById(boardData.nextTileIds[i]));
       }
+      tile.setLandAction(createTileAction(boardData.actions.get(i), boardData.name));
+    }
+    return board;
+  }
+
+  /**
+   * Creates a tile action for a tile.
+   *
+   * <p>Supports both board games Snakes and Ladders and Monopoly tile actions</p>
+   *
+   * @param actionData the data of the action, or {@code null} if the tile has no action
+   * @param name the name of the board game
+   * @return the tile action, or {@code null} if the action is not supported
+   */
+  private static TileAction createTileAction(ActionData actionData, String name) {
+    if (actionData == null || actionData.type() == null) {
+      return null;
+    } else if ("Snakes and Ladders".equals(name)) {
+      return createTileActionSnakesAndLadders(actionData);
+    } else if ("Monopoly".equals(name)) {
+      return createTileMonopolyAction(actionData);
     }
+    return null;
   }
 
   /**
@@ -144,21 +230,17 @@ public class BoardFileReaderGson implements BoardFileReader {
    *
    * <p>Supports actions of type {@link LadderAction} and {@link SnakeAction}</p>
    *
-   * @param actionObj the JSON object of the action
+   * @param actionData the data of the action
    * @return either the {@link TileAction} or {@code null} if the action is not supported
    */
-  private static TileAction createTileActionSnakesAndLadders(JsonObject actionObj) {
-    String type = actionObj.get("type").getAsString();
+  private static TileAction createTileActionSnakesAndLadders(ActionData actionData) {
+    String type = actionData.type();
     if ("LadderAction".equals(type)) {
-      int destinationTileId = actionObj.get("destinationTileId").getAsInt();
-      String description = actionObj.get(Constants.DESCRIPTION).getAsString();
-      return new LadderAction(destinationTileId, description);
+      return new LadderAction(actionData.destinationTileId(), actionData.description());
     } else if ("SnakeAction".equals(type)) {
-      int destinationTileId = actionObj.get("destinationTileId").getAsInt();
-      String description = actionObj.get(Constants.DESCRIPTION).getAsString();
-      return new SnakeAction(destinationTileId, description);
+      return new SnakeAction(actionData.destinationTileId(), actionData.description());
     } else if ("SkipAction".equals(type)) {
-      return getSkipAction(actionObj);
+      return new SkipAction(actionData.description());
     }
     return null;
   }
@@ -169,34 +251,61 @@ public class BoardFileReaderGson implements BoardFileReader {
    * <p>Supports actions of type {@link BankAction}, {@link LooseMoneyAction},
    * and {@link SkipAction}</p>
    *
-   * @param actionObj the JSON object of the action
+   * @param actionData the data of the action
    * @return either the {@link TileAction} or {@code null} if the action is not supported
    */
-  private static TileAction createTileMonopolyAction(JsonObject actionObj) {
-    String type = actionObj.get("type").getAsString();
+  private static TileAction createTileMonopolyAction(ActionData actionData) {
+    String type = actionData.type();
     if ("BankAction".equals(type)) {
-      int amount = actionObj.get("amount").getAsInt();
-      String description = actionObj.get(Constants.DESCRIPTION).getAsString();
-      return new BankAction(amount, description);
+      return new BankAction(actionData.amount(), actionData.description());
     } else if ("LooseMoneyAction".equals(type)) {
-      int amount = actionObj.get("amount").getAsInt();
-      String description = actionObj.get(Constants.DESCRIPTION).getAsString();
-      return new LooseMoneyAction(amount, description);
+      return new LooseMoneyAction(actionData.amount(), actionData.description());
     } else if ("SkipAction".equals(type)) {
-      return getSkipAction(actionObj);
+      return new SkipAction(actionData.description());
     }
     return null;
   }
 
   /**
-   * Creates a {@link SkipAction} for the board game.
+   * The values of a tile action, as read from the file.
    *
-   * @param actionObj the JSON object of the action
-   * @return the {@link SkipAction}
+   * @param type the type of the action
+   * @param description the description of the action
+   * @param destinationTileId the ID of the destination tile, or 0 if there is none
+   * @param amount the amount of money, or 0 if there is none
    */
-  private static SkipAction getSkipAction(JsonObject actionObj) {
-    String description = actionObj.get(Constants.DESCRIPTION).getAsString();
-    return new SkipAction(description);
+  private record ActionData(String type, String description, int destinationTileId,
+                            int amount) {
   }
 
+  /**
+   * The values of a board, as read from the file.
+   *
+   * <p>The next tile IDs and actions are stored at the same index as their tile.</p>
+   */
+  private static final class BoardData {
+    private String name;
+    private String description;
+    private int rows;
+    private int columns;
+    private final List<Tile> tiles = new ArrayList<>();
+    private final List<ActionData> actions = new ArrayList<>();
+    private int[] nextTileIds = new int[16];
+
+    /**
+     * Adds a tile with its next tile ID and action.
+     *
+     * @param tile the tile
+     * @param nextTileId the ID of the next tile, or 0 if there is none
+     * @param action the data of the action, or {@code null} if there is none
+     */
+    private void addTile(Tile tile, int nextTileId, ActionData action) {
+      if (tiles.size() == nextTileIds.length) {
+        nextTileIds = Arrays.copyOf(nextTileIds, nextTileIds.length * 2);
+      }
+      nextTileIds[tiles.size()] = nextTileId;
+      tiles.add(tile);
+      actions.add(action);
+    }
+  }
 }
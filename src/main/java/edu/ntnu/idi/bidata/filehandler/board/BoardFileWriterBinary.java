@@ -0,0 +1,179 @@
+package edu.ntnu.idi.bidata.filehandler.board;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that writes a {@link Board} to a file in the binary board format.
+ *
+ * <p>The layout of the file is described by {@link BinaryBoardFormat}. Every string,
+ * like the name of the board and the descriptions of the actions, is stored once in
+ * the string pool. An action shared by several tiles is stored once in the action
+ * table.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public class BoardFileWriterBinary implements BoardFileWriter {
+
+  /**
+   * Writes a board to a file in the binary board format.
+   *
+   * @param board the board to write
+   * @param filePath the path for the file
+   * @throws IOException if the file can not be written, or a tile has an action that
+   *     can not be stored in the format
+   */
+  @Override
+  public void writeBoard(Board board, Path filePath) throws IOException {
+    Tables tables = new Tables(board);
+    try (DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(filePath), 1 << 16))) {
+      writeHeader(output, board, tables);
+      for (Tile tile : tables.tiles) {
+        writeTile(output, tile, tables);
+      }
+      for (TileAction action : tables.actions) {
+        writeAction(output, action, tables);
+      }
+      for (byte[] string : tables.strings) {
+        output.writeInt(string.length);
+        output.write(string);
+      }
+    }
+  }
+
+  /**
+   * Writes the header of the file.
+   *
+   * @param output the stream to write to
+   * @param board the board to write
+   * @param tables the tables of the board
+   * @throws IOException if the header could not be written
+   */
+  private static void writeHeader(DataOutputStream output, Board board, Tables tables)
+      throws IOException {
+    output.writeInt(BinaryBoardFormat.MAGIC);
+    output.writeShort(BinaryBoardFormat.VERSION);
+    output.writeShort(0);
+    output.writeInt(board.getRows());
+    output.writeInt(board.getColumns());
+    output.writeInt(tables.tiles.size());
+    output.writeInt(tables.actions.size());
+    output.writeInt(tables.strings.size());
+    output.writeInt(tables.getStringIndex(board.getName()));
+    output.writeInt(tables.getStringIndex(board.getDescription()));
+    output.writeInt(tables.stringPoolSize);
+  }
+
+  /**
+   * Writes the record of a tile.
+   *
+   * @param output the stream to write to
+   * @param tile the tile to write
+   * @param tables the tables of the board
+   * @throws IOException if the record could not be written
+   */
+  private static void writeTile(DataOutputStream output, Tile tile, Tables tables)
+      throws IOException {
+    output.writeInt(tile.getTileId());
+    output.writeInt(tile.getXCoordinate());
+    output.writeInt(tile.getYCoordinate());
+    Tile nextTile = tile.getNextTile();
+    output.writeInt(nextTile == null ? BinaryBoardFormat.NONE : nextTile.getTileId());
+    TileAction action = tile.getLandAction();
+    output.writeInt(action == null
+        ? BinaryBoardFormat.NONE : tables.actionIndexes.get(action));
+  }
+
+  /**
+   * Writes the record of an action.
+   *
+   * @param output the stream to write to
+   * @param action the action to write
+   * @param tables the tables of the board
+   * @throws IOException if the record could not be written
+   */
+  private static void writeAction(DataOutputStream output, TileAction action, Tables tables)
+      throws IOException {
+    output.writeInt(BinaryBoardFormat.typeOf(action));
+    output.writeInt(tables.getStringIndex(action.getDescription()));
+    output.writeInt(action.getDestinationTile());
+    output.writeInt(BinaryBoardFormat.amountOf(action));
+  }
+
+  /**
+   * The tiles, the action table and the string pool of a board, collected before
+   * the file is written, so the header can hold their sizes.
+   */
+  private static final class Tables {
+    private final List<Tile> tiles;
+    private final List<TileAction> actions = new ArrayList<>();
+    private final Map<TileAction, Integer> actionIndexes = new IdentityHashMap<>();
+    private final List<byte[]> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private int stringPoolSize;
+
+    /**
+     * Collects the tiles of the board, and adds their actions and strings to the tables.
+     *
+     * @param board the board to write
+     * @throws IOException if a tile has an action that can not be stored in the format
+     */
+    private Tables(Board board) throws IOException {
+      addString(board.getName());
+      addString(board.getDescription());
+      tiles = new ArrayList<>(board.getTileCount());
+      Iterator<Tile> iterator = board.getTileIterator();
+      while (iterator.hasNext()) {
+        Tile tile = iterator.next();
+        TileAction action = tile.getLandAction();
+        if (action != null && !actionIndexes.containsKey(action)) {
+          BinaryBoardFormat.typeOf(action);
+          actionIndexes.put(action, actions.size());
+          actions.add(action);
+          addString(action.getDescription());
+        }
+        tiles.add(tile);
+      }
+    }
+
+    /**
+     * Adds a string to the string pool, unless it is already there.
+     *
+     * @param string the string to add, or null
+     */
+    private void addString(String string) {
+      if (string != null && !stringIndexes.containsKey(string)) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        stringIndexes.put(string, strings.size());
+        strings.add(bytes);
+        stringPoolSize += Integer.BYTES + bytes.length;
+      }
+    }
+
+    /**
+     * Returns the index of a string in the string pool.
+     *
+     * @param string the string, or null
+     * @return the index of the string, or {@link BinaryBoardFormat#NONE} if it is null
+     */
+    private int getStringIndex(String string) {
+      return string == null ? BinaryBoardFormat.NONE : stringIndexes.get(string);
+    }
+  }
+}
@@ -1,11 +1,14 @@
 package edu.ntnu.idi.bidata.filehandler.board;
 
+import com.google.gson.stream.JsonWriter;
 import edu.ntnu.idi.bidata.model.entity.Board;
 import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
 import edu.ntnu.idi.bidata.model.tileactions.TileAction;
-import java.io.BufferedWriter;
-import java.io.FileWriter;
+import edu.ntnu.idi.bidata.utils.Constants;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
 
@@ -15,16 +18,24 @@ import java.util.Iterator;
  * <p>Each tile is written with an id, its position and {@code TileAction} if it exists,
  *   and stores it as JSON file.</p>
  *
+ * <p>The file is written as a stream of tokens with a {@link JsonWriter}, so large boards
+ * are written without building the JSON in memory. Every action is written with the
+ * values needed to read it back: the destination tile of ladders and snakes, and the
+ * amount of money of bank and loose money actions.</p>
+ *
  * @author A. Sahoo, B.I. Høie
- * @version 0.2.4
+ * @version 0.3.0
  * @since 0.0.1
  */
 public class BoardFileWriterGson implements BoardFileWriter {
+  private static final String DEFAULT_NAME = "Snakes and Ladders";
+  private static final String DEFAULT_DESCRIPTION = "A simple snakes and ladders board game";
 
   /**
    * Writes a board into file using Gson.
    *
-   * <p>This includes writing the data for the tiles.</p>
+   * <p>This includes writing the data for the tiles. A board without a name is written
+   * as a Snakes and Ladders board.</p>
    *
    * @param board the board to write
    * @param filePath the path for the file
@@ -32,18 +43,17 @@ public class BoardFileWriterGson implements BoardFileWriter {
    */
   @Override
   public void writeBoard(Board board, Path filePath) throws IOException {
-    try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath.toFile()))) {
-      writer.write("{\n");
-      writer.write("  \"name\": \"" + "Snakes and Ladders" + "\",\n");
-      writer.write("  \"description\": \"" + "A simple snakes and ladders board game" + "\",\n");
-      writer.write("  \"rows\": " + board.getRows() + ",\n");
-      writer.write("  \"columns\": " + board.getColumns() + ",\n");
-      writer.write("  \"tiles\": [\n");
-
+    try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(filePath))) {
+      writer.setIndent("  ");
+      writer.beginObject();
+      writer.name("name").value(board.getName() == null ? DEFAULT_NAME : board.getName());
+      writer.name(Constants.DESCRIPTION).value(board.getDescription() == null
+          ? DEFAULT_DESCRIPTION : board.getDescription());
+      writer.name("rows").value(board.getRows());
+      writer.name("columns").value(board.getColumns());
+      writer.name("tiles");
       writeTiles(board, writer);
-
-      writer.write("  ]\n");
-      writer.write("}");
+      writer.endObject();
     }
   }
 
@@ -57,47 +67,50 @@ public class BoardFileWriterGson implements BoardFileWriter {
    * @param writer the writer to write to the file
    * @throws IOException if the file could not be written
    */
-  private static void writeTiles(Board board, BufferedWriter writer) throws IOException {
+  private static void writeTiles(Board board, JsonWriter writer) throws IOException {
+    writer.beginArray();
     Iterator<Tile> iterator = board.getTileIterator();
     while (iterator.hasNext()) {
       Tile tile = iterator.next();
-      writer.write("    {");
-      writer.write("\"id\": " + tile.getTileId() + ", ");
-      writer.write("\"x\": " + tile.getXCoordinate() + ", ");
-      writer.write("\"y\": " + tile.getYCoordinate());
-
+      writer.beginObject();
+      writer.name("id").value(tile.getTileId());
+      writer.name("x").value(tile.getXCoordinate());
+      writer.name("y").value(tile.getYCoordinate());
       if (tile.getNextTile() != null) {
-        writer.write(", " + "\"nextTile\": " + tile.getNextTile().getTileId());
+        writer.name("nextTile").value(tile.getNextTile().getTileId());
       }
-
       if (tile.getLandAction() != null) {
-        writeTileAction(writer, tile);
-      }
-
-
-      if (iterator.hasNext()) {
-        writer.write("},\n");
-      } else {
-        writer.write("}\n");
+        writeTileAction(writer, tile.getLandAction());
       }
+      writer.endObject();
     }
+    writer.endArray();
   }
 
   /**
    * Writes the action of the tile to the file.
    *
-   * <p>Each action includes the type, description and destination tile id.</p>
+   * <p>Each action includes the type and description, and the destination tile id
+   * or the amount of money if the action has one.</p>
    *
    * @param writer the writer to write to the file
-   * @param tile the tile to write
+   * @param action the action to write
    * @throws IOException if the file could not be written
    */
-  private static void writeTileAction(BufferedWriter writer, Tile tile) throws IOException {
-    TileAction action = tile.getLandAction();
-    writer.write(", " + "\"action\": { ");
-    writer.write("\"type\": \"" + action.getClass().getSimpleName() + "\"");
-    writer.write(", " + "\"description\": \"" + action.getDescription() + "\"");
-    writer.write(", " + "\"destinationTileId\": " + action.getDestinationTile());
-    writer.write("}");
+  private static void writeTileAction(JsonWriter writer, TileAction action) throws IOException {
+    writer.name(Constants.ACTION).beginObject();
+    writer.name("type").value(action.getClass().getSimpleName());
+    writer.name(Constants.DESCRIPTION).value(action.getDescription());
+    switch (action) {
+      case BankAction bankAction -> writer.name("amount").value(bankAction.getMoney());
+      case LooseMoneyAction looseMoneyAction ->
+          writer.name("amount").value(looseMoneyAction.getLooseMoney());
+      default -> {
+        if (action.getDestinationTile() > 0) {
+          writer.name("destinationTileId").value(action.getDestinationTile());
+        }
+      }
+    }
+    writer.endObject();
   }
-}
\ No newline at end of file
+}
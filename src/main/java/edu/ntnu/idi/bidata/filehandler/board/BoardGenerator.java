@@ -0,0 +1,372 @@
+package edu.ntnu.idi.bidata.filehandler.board;
+
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Generates boards of any size, and writes them as JSON files that
+ * {@link BoardFileReaderGson} can read.
+ *
+ * <p>The tiles are laid out row by row, turning at the end of each row like the
+ * Snakes and Ladders boards, and each tile links to the next. On a Monopoly board the
+ * last tile links back to the first. Each tile between the first and the last gets an
+ * action with the chance given by the density of the action, and the amounts of money
+ * are drawn evenly between a lowest and a highest amount.</p>
+ *
+ * <p>The tiles are written to the file as they are generated, with a
+ * {@link JsonWriter}, so no board is held in memory, and boards larger than the heap
+ * can be written. A ladder or snake only needs its own tile ID to pick a destination,
+ * so no tile is kept after it is written. All choices are drawn from a
+ * {@link SplittableRandom} with the seed, so the same seed and settings give the same
+ * file.</p>
+ *
+ * <p>Usage, with the default densities and amounts:</p>
+ * <pre>BoardGenerator snakesAndLadders|monopoly rows columns seed targetFile</pre>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public class BoardGenerator {
+  /**
+   * The longest jump of a ladder or a snake, in rows.
+   */
+  public static final int MAX_JUMP_ROWS = 3;
+
+  /**
+   * The board game a board is generated for.
+   */
+  public enum GameType {
+    SNAKES_AND_LADDERS("Snakes and Ladders"),
+    MONOPOLY("Monopoly");
+
+    private final String boardName;
+
+    /**
+     * Constructs a {@code GameType}.
+     *
+     * @param boardName the name of the board game, as written to the file
+     */
+    GameType(String boardName) {
+      this.boardName = boardName;
+    }
+
+    /**
+     * Returns the name of the board game, which decides the actions the reader creates.
+     *
+     * @return the name of the board game
+     */
+    public String getBoardName() {
+      return boardName;
+    }
+  }
+
+  private final GameType gameType;
+  private final int rows;
+  private final int columns;
+  private final long seed;
+  private double ladderDensity = 0.08;
+  private double snakeDensity = 0.08;
+  private double skipDensity;
+  private double bankDensity = 0.3;
+  private double looseMoneyDensity = 0.25;
+  private int minBankAmount = 100_000;
+  private int maxBankAmount = 500_000;
+  private int minLooseMoneyAmount = 50_000;
+  private int maxLooseMoneyAmount = 250_000;
+
+  /**
+   * Constructs a {@code BoardGenerator} with the default densities and amounts.
+   *
+   * @param gameType the board game to generate a board for
+   * @param rows the number of rows on the board
+   * @param columns the number of columns on the board
+   * @param seed the seed of the random choices
+   * @throws NullOrBlankException if the game type is null
+   * @throws IntegerException if the number of rows or columns is less than 1, or the
+   *     board has more tiles than an {@code int} can count
+   */
+  public BoardGenerator(GameType gameType, int rows, int columns, long seed)
+      throws NullOrBlankException {
+    if (gameType == null) {
+      throw new NullOrBlankException("The game type can not be null.");
+    }
+    if (rows <= 0 || columns <= 0) {
+      throw new IntegerException("Rows and columns must be greater than 0");
+    }
+    if ((long) rows * columns > Integer.MAX_VALUE) {
+      throw new IntegerException("The board can have at most " + Integer.MAX_VALUE + " tiles");
+    }
+    this.gameType = gameType;
+    this.rows = rows;
+    this.columns = columns;
+    this.seed = seed;
+    this.skipDensity = gameType == GameType.MONOPOLY ? 0.15 : 0.03;
+  }
+
+  /**
+   * Generates a board with the default densities and amounts, and writes it to a file.
+   *
+   * @param args the game type, the rows, the columns, the seed and the target file
+   * @throws IOException if the file could not be written
+   * @throws NullOrBlankException never, since the game type is checked first
+   */
+  public static void main(String[] args) throws IOException, NullOrBlankException {
+    GameType gameType = args.length != 5 ? null : switch (args[0]) {
+      case "snakesAndLadders" -> GameType.SNAKES_AND_LADDERS;
+      case "monopoly" -> GameType.MONOPOLY;
+      default -> null;
+    };
+    if (gameType == null) {
+      System.err.println(
+          "Usage: BoardGenerator snakesAndLadders|monopoly rows columns seed targetFile");
+      return;
+    }
+    new BoardGenerator(gameType, Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+        Long.parseLong(args[3])).generate(Path.of(args[4]));
+  }
+
+  /**
+   * Sets the share of the tiles on a Snakes and Ladders board that get a ladder,
+   * a snake or a skip action. The densities must add up to at most 1.
+   *
+   * @param ladderDensity the share of tiles with a ladder, from 0 to 1
+   * @param snakeDensity the share of tiles with a snake, from 0 to 1
+   * @param skipDensity the share of tiles with a skip action, from 0 to 1
+   * @throws IllegalArgumentException if a density is outside 0 to 1, or the sum is above 1
+   */
+  public void setSnakesAndLaddersDensities(double ladderDensity, double snakeDensity,
+                                           double skipDensity) {
+    checkDensities(ladderDensity, snakeDensity, skipDensity);
+    this.ladderDensity = ladderDensity;
+    this.snakeDensity = snakeDensity;
+    this.skipDensity = skipDensity;
+  }
+
+  /**
+   * Sets the share of the tiles on a Monopoly board that get a bank, a loose money
+   * or a skip action. The densities must add up to at most 1.
+   *
+   * @param bankDensity the share of tiles with a bank action, from 0 to 1
+   * @param looseMoneyDensity the share of tiles with a loose money action, from 0 to 1
+   * @param skipDensity the share of tiles with a skip action, from 0 to 1
+   * @throws IllegalArgumentException if a density is outside 0 to 1, or the sum is above 1
+   */
+  public void setMonopolyDensities(double bankDensity, double looseMoneyDensity,
+                                   double skipDensity) {
+    checkDensities(bankDensity, looseMoneyDensity, skipDensity);
+    this.bankDensity = bankDensity;
+    this.looseMoneyDensity = looseMoneyDensity;
+    this.skipDensity = skipDensity;
+  }
+
+  /**
+   * Sets the range of the money a bank action gives.
+   *
+   * @param minAmount the lowest amount
+   * @param maxAmount the highest amount
+   * @throws IntegerException if the lowest amount is below 1, or above the highest
+   */
+  public void setBankAmounts(int minAmount, int maxAmount) {
+    checkAmounts(minAmount, maxAmount);
+    this.minBankAmount = minAmount;
+    this.maxBankAmount = maxAmount;
+  }
+
+  /**
+   * Sets the range of the money a loose money action takes.
+   *
+   * @param minAmount the lowest amount
+   * @param maxAmount the highest amount
+   * @throws IntegerException if the lowest amount is below 1, or above the highest
+   */
+  public void setLooseMoneyAmounts(int minAmount, int maxAmount) {
+    checkAmounts(minAmount, maxAmount);
+    this.minLooseMoneyAmount = minAmount;
+    this.maxLooseMoneyAmount = maxAmount;
+  }
+
+  /**
+   * Checks that three densities are each from 0 to 1, and add up to at most 1.
+   *
+   * @param first the first density
+   * @param second the second density
+   * @param third the third density
+   * @throws IllegalArgumentException if the densities are not valid
+   */
+  private static void checkDensities(double first, double second, double third) {
+    if (!(first >= 0 && first <= 1 && second >= 0 && second <= 1
+        && third >= 0 && third <= 1)) {
+      throw new IllegalArgumentException("A density must be from 0 to 1");
+    }
+    if (first + second + third > 1) {
+      throw new IllegalArgumentException("The densities can not add up to more than 1");
+    }
+  }
+
+  /**
+   * Checks that a range of amounts is valid. The actions only take positive amounts,
+   * so the lowest amount must be at least 1.
+   *
+   * @param minAmount the lowest amount
+   * @param maxAmount the highest amount
+   * @throws IntegerException if the range is not valid
+   */
+  private static void checkAmounts(int minAmount, int maxAmount) {
+    if (minAmount < 1 || minAmount > maxAmount) {
+      throw new IntegerException("The lowest amount must be from 1 to the highest amount");
+    }
+  }
+
+  /**
+   * Generates the board and writes it to a file, over any file already there.
+   *
+   * @param filePath the path of the file
+   * @throws IOException if the file could not be written
+   */
+  public void generate(Path filePath) throws IOException {
+    SplittableRandom random = new SplittableRandom(seed);
+    int tileCount = rows * columns;
+    try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(filePath))) {
+      writer.beginObject();
+      writer.name("name").value(gameType.getBoardName());
+      writer.name(Constants.DESCRIPTION).value("A generated board of " + tileCount
+          + " tiles, from seed " + seed);
+      writer.name("rows").value(rows);
+      writer.name("columns").value(columns);
+      writer.name("tiles").beginArray();
+      for (int tileId = 1; tileId <= tileCount; tileId++) {
+        writeTile(writer, random, tileId, tileCount);
+      }
+      writer.endArray();
+      writer.endObject();
+    }
+  }
+
+  /**
+   * Writes one tile, with its position, next tile and action.
+   *
+   * @param writer the writer to write to the file
+   * @param random the random generator of the board
+   * @param tileId the ID of the tile
+   * @param tileCount the number of tiles on the board
+   * @throws IOException if the file could not be written
+   */
+  private void writeTile(JsonWriter writer, SplittableRandom random, int tileId,
+                         int tileCount) throws IOException {
+    int row = (tileId - 1) / columns;
+    int column = (tileId - 1) % columns;
+    writer.beginObject();
+    writer.name("id").value(tileId);
+    writer.name("x").value(row % 2 == 0 ? column : columns - 1 - column);
+    writer.name("y").value(row);
+    if (tileId < tileCount) {
+      writer.name("nextTile").value(tileId + 1);
+    } else if (gameType == GameType.MONOPOLY && tileCount > 1) {
+      writer.name("nextTile").value(1);
+    }
+    if (tileId > 1 && tileId < tileCount) {
+      if (gameType == GameType.MONOPOLY) {
+        writeMonopolyAction(writer, random);
+      } else {
+        writeSnakesAndLaddersAction(writer, random, tileId, tileCount);
+      }
+    }
+    writer.endObject();
+  }
+
+  /**
+   * Writes a ladder, a snake, a skip action or nothing, for a Snakes and Ladders tile.
+   *
+   * <p>A ladder leads up to a tile before the last, and a snake leads down to a tile
+   * at or after the first, at most {@link #MAX_JUMP_ROWS} rows away.</p>
+   *
+   * @param writer the writer to write to the file
+   * @param random the random generator of the board
+   * @param tileId the ID of the tile
+   * @param tileCount the number of tiles on the board
+   * @throws IOException if the file could not be written
+   */
+  private void writeSnakesAndLaddersAction(JsonWriter writer, SplittableRandom random,
+                                           int tileId, int tileCount) throws IOException {
+    long maxJump = (long) MAX_JUMP_ROWS * columns;
+    double choice = random.nextDouble();
+    if (choice < ladderDensity && tileId < tileCount - 1) {
+      int destination = (int) Math.min(tileCount - 1, tileId + maxJump);
+      int destinationTileId = random.nextInt(tileId + 1, destination + 1);
+      writeAction(writer, "LadderAction",
+          "Ladder from " + tileId + " to " + destinationTileId);
+      writer.name("destinationTileId").value(destinationTileId);
+      writer.endObject();
+    } else if (choice >= ladderDensity && choice < ladderDensity + snakeDensity) {
+      int destination = (int) Math.max(1, tileId - maxJump);
+      int destinationTileId = random.nextInt(destination, tileId);
+      writeAction(writer, "SnakeAction",
+          "Snake from " + tileId + " to " + destinationTileId);
+      writer.name("destinationTileId").value(destinationTileId);
+      writer.endObject();
+    } else if (choice >= ladderDensity + snakeDensity
+        && choice < ladderDensity + snakeDensity + skipDensity) {
+      writeSkipAction(writer);
+    }
+  }
+
+  /**
+   * Writes a bank action, a loose money action, a skip action or nothing,
+   * for a Monopoly tile.
+   *
+   * @param writer the writer to write to the file
+   * @param random the random generator of the board
+   * @throws IOException if the file could not be written
+   */
+  private void writeMonopolyAction(JsonWriter writer, SplittableRandom random)
+      throws IOException {
+    double choice = random.nextDouble();
+    if (choice < bankDensity) {
+      int amount = (int) random.nextLong(minBankAmount, maxBankAmount + 1L);
+      writeAction(writer, "BankAction", "You received $" + amount);
+      writer.name("amount").value(amount);
+      writer.endObject();
+    } else if (choice < bankDensity + looseMoneyDensity) {
+      int amount = (int) random.nextLong(minLooseMoneyAmount, maxLooseMoneyAmount + 1L);
+      writeAction(writer, "LooseMoneyAction", "You lost " + amount);
+      writer.name("amount").value(amount);
+      writer.endObject();
+    } else if (choice < bankDensity + looseMoneyDensity + skipDensity) {
+      writeSkipAction(writer);
+    }
+  }
+
+  /**
+   * Writes a skip action.
+   *
+   * @param writer the writer to write to the file
+   * @throws IOException if the file could not be written
+   */
+  private static void writeSkipAction(JsonWriter writer) throws IOException {
+    writeAction(writer, "SkipAction", "SKIP: your turn is skipped!");
+    writer.endObject();
+  }
+
+  /**
+   * Starts the action object of a tile, with its type and description.
+   * The caller adds the values of the action and ends the object.
+   *
+   * @param writer the writer to write to the file
+   * @param type the type of the action
+   * @param description the description of the action
+   * @throws IOException if the file could not be written
+   */
+  private static void writeAction(JsonWriter writer, String type, String description)
+      throws IOException {
+    writer.name(Constants.ACTION).beginObject();
+    writer.name("type").value(type);
+    writer.name(Constants.DESCRIPTION).value(description);
+  }
+}
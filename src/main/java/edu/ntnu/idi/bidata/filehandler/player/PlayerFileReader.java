@@ -2,6 +2,7 @@ package edu.ntnu.idi.bidata.filehandler.player;
 
 import edu.ntnu.idi.bidata.model.engine.BoardGame;
 import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.metrics.PlayerLoadJfrEvent;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -17,7 +18,7 @@ import java.nio.file.Path;
  * <pre>playerName, playerColor, playerBalance, currentTileID</pre>
  *
  * @author A. Sahoo, B.I. Høie
- * @version 0.0.6
+ * @version 0.0.7
  * @since 0.0.1
  */
 public class PlayerFileReader {
@@ -28,10 +29,15 @@ public class PlayerFileReader {
    * <p>The CSV file should contain player names, separated by commas. Each line
    * represents one player. Only the first column (player name) is used.
    *
+   * <p>The read is a {@link PlayerLoadJfrEvent} in a flight recording.</p>
+   *
    * @param fileName the path to the CSV file
    * @param game the {@link  BoardGame} instance to which players will be added
    */
   public void readCsvBuffered(String fileName, BoardGame game) {
+    PlayerLoadJfrEvent event = new PlayerLoadJfrEvent();
+    event.begin();
+    int playerCount = 0;
     try (BufferedReader reader = Files.newBufferedReader(Path.of(fileName))) {
       String line;
       while ((line = reader.readLine()) != null) {
@@ -42,6 +48,7 @@ public class PlayerFileReader {
           int balance = Integer.parseInt(words[2].strip());
           int currentTileId = Integer.parseInt(words[3].strip());
           game.addPlayer(new Player(name, color, game, balance, currentTileId));
+          playerCount++;
         } else {
           System.out.println("Skipping invalid line: " + line);
         }
@@ -53,5 +60,6 @@ public class PlayerFileReader {
     } catch (NumberFormatException e) {
       System.out.println("Not an integer: " + e.getMessage());
     }
+    event.finish(Path.of(fileName), playerCount);
   }
 }
\ No newline at end of file
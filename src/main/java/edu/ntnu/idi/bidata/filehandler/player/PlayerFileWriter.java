@@ -12,7 +12,7 @@ import java.util.logging.Logger;
  * PlayerFileWriter writes and saves all the players that are stored in the game.
  *
  * @author A. Sahoo, B.I. Høie
- * @version 0.1.2
+ * @version 0.1.3
  * @since 0.0.1
  */
 public class PlayerFileWriter {
@@ -28,8 +28,9 @@ public class PlayerFileWriter {
    *
    * @param playersToSave The list of players.
    * @param fileName The file name.
+   * @return true if the file was written, false if an error occurred
    */
-  public static void writeToCsv(List<Player> playersToSave, String fileName) {
+  public static boolean writeToCsv(List<Player> playersToSave, String fileName) {
     try (BufferedWriter writer = Files.newBufferedWriter(Path.of(fileName))) {
       for (Player player : playersToSave) {
         String playerName = player.getName().replace(",", "");
@@ -41,7 +42,10 @@ public class PlayerFileWriter {
             + currentTileId + "\n");
       }
     } catch (IOException e) {
-      Logger.getLogger("Error writing to file: " + e.getMessage());
+      Logger.getLogger(PlayerFileWriter.class.getName())
+          .warning("Error writing to file: " + e.getMessage());
+      return false;
     }
+    return true;
   }
 }
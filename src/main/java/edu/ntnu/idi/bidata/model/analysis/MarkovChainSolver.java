@@ -0,0 +1,635 @@
+package edu.ntnu.idi.bidata.model.analysis;
+
+import edu.ntnu.idi.bidata.model.engine.Die;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Computes exact results for one player on a Snakes and Ladders board using a Markov chain.
+ *
+ * <p>Each tile has three states: the player stands on the tile, the player stands on the tile
+ * and the next turn is skipped, or the player landed on the tile and is moved on by its action.
+ * The transitions follow the next tile links and the destinations of {@code LadderAction} and
+ * {@code SnakeAction} the same way as {@code Player.move}. Landing on a {@link SkipAction} tile
+ * leads to the skipped state of the tile, which costs one turn. The moved state takes no turn,
+ * and always leads to the destination of the action. The last tile of the board, with the ID
+ * equal to the tile count, is absorbing.</p>
+ *
+ * <p>The transition matrix is stored in compressed sparse row form, since a state has at most
+ * one transition per dice sum. The incoming transitions of each state are kept the same way.
+ * The finish probabilities are found by moving the probability distribution one turn
+ * at a time.</p>
+ *
+ * <p>The expected number of turns and the expected visits are solved exactly. Most moves go
+ * forward, so the states are swept from the end of the board towards the start, and each
+ * value is written in terms of the few states that a snake leads back to. Only those values are
+ * solved as a small dense system, which keeps large boards with few snakes fast.</p>
+ *
+ * <p>The players do not affect each other, so the results for one player also describe
+ * each player in a game with more players.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public class MarkovChainSolver {
+  private static final int START_TILE_ID = 1;
+  private static final int ON_TILE = 0;
+  private static final int SKIPPED = 1;
+  private static final int MOVED = 2;
+  private static final int STATES_PER_TILE = 3;
+
+  private final int finishTileId;
+  private final int numberOfStates;
+  private final boolean[] absorbing;
+  private final int[] rowStart;
+  private final int[] columns;
+  private final double[] probabilities;
+  private final int[] incomingStart;
+  private final int[] sources;
+  private final double[] incomingProbabilities;
+  private final boolean[] reachable;
+  private double expectedTurns = Double.NaN;
+  private double[] expectedVisits;
+
+  /**
+   * Constructs a {@code MarkovChainSolver} and builds the transition matrix.
+   *
+   * @param board the board to analyse
+   * @param numberOfDice the number of dice rolled each turn
+   * @throws NullOrBlankException if the board is null or has no start tile
+   * @throws IntegerException if the number of dice is less than 1
+   * @throws IllegalStateException if a tile links to a tile that is not on the board
+   */
+  public MarkovChainSolver(Board board, int numberOfDice) throws NullOrBlankException {
+    if (board == null) {
+      throw new NullOrBlankException("The board can not be null.");
+    }
+    if (numberOfDice <= 0) {
+      throw new IntegerException("Number of dice must be greater than 0");
+    }
+    if (board.getTileById(START_TILE_ID) == null) {
+      throw new NullOrBlankException("The board has no start tile.");
+    }
+    int maxSteps = numberOfDice * Die.SIDES;
+    double[] sumProbabilities = getSumProbabilities(numberOfDice);
+
+    int maxTileId = 0;
+    for (Tile tile : (Iterable<Tile>) board::getTileIterator) {
+      maxTileId = Math.max(maxTileId, tile.getTileId());
+    }
+    finishTileId = board.getTileCount();
+    numberOfStates = (maxTileId + 1) * STATES_PER_TILE;
+    absorbing = new boolean[numberOfStates];
+    rowStart = new int[numberOfStates + 1];
+
+    int capacity = numberOfStates * (maxSteps - numberOfDice + 2);
+    int[] columnBuffer = new int[capacity];
+    double[] probabilityBuffer = new double[capacity];
+    int size = 0;
+
+    for (int tileId = 0; tileId <= maxTileId; tileId++) {
+      Tile tile = board.getTileById(tileId);
+      int destination = tile == null ? 0 : getDestination(board, tile);
+      absorbing[getState(tileId, ON_TILE)] = tile != null && tileId == finishTileId;
+      absorbing[getState(tileId, SKIPPED)] = absorbing[getState(tileId, ON_TILE)];
+
+      rowStart[getState(tileId, ON_TILE)] = size;
+      if (tile != null && !absorbing[getState(tileId, ON_TILE)]) {
+        int rowFirst = size;
+        Tile walkedTile = tile;
+        for (int steps = 1; steps <= maxSteps; steps++) {
+          if (walkedTile.getNextTile() != null) {
+            walkedTile = walkedTile.getNextTile();
+          }
+          if (steps >= numberOfDice) {
+            size = addTransition(columnBuffer, probabilityBuffer, rowFirst, size,
+                getLandingState(board, walkedTile), sumProbabilities[steps]);
+          }
+        }
+      }
+      rowStart[getState(tileId, SKIPPED)] = size;
+      if (tile != null && !absorbing[getState(tileId, SKIPPED)]) {
+        columnBuffer[size] = getState(tileId, ON_TILE);
+        probabilityBuffer[size] = 1;
+        size++;
+      }
+      rowStart[getState(tileId, MOVED)] = size;
+      if (destination > 0) {
+        columnBuffer[size] = getState(destination, ON_TILE);
+        probabilityBuffer[size] = 1;
+        size++;
+      }
+    }
+    rowStart[numberOfStates] = size;
+    columns = Arrays.copyOf(columnBuffer, size);
+    probabilities = Arrays.copyOf(probabilityBuffer, size);
+
+    incomingStart = new int[numberOfStates + 1];
+    for (int column : columns) {
+      incomingStart[column + 1]++;
+    }
+    for (int state = 0; state < numberOfStates; state++) {
+      incomingStart[state + 1] += incomingStart[state];
+    }
+    sources = new int[size];
+    incomingProbabilities = new double[size];
+    int[] fill = Arrays.copyOf(incomingStart, numberOfStates);
+    for (int state = 0; state < numberOfStates; state++) {
+      for (int k = rowStart[state]; k < rowStart[state + 1]; k++) {
+        int position = fill[columns[k]]++;
+        sources[position] = state;
+        incomingProbabilities[position] = probabilities[k];
+      }
+    }
+    reachable = findReachableStates();
+  }
+
+  /**
+   * Returns the expected number of turns for a player to reach the last tile.
+   *
+   * <p>Skipped turns are counted as turns.</p>
+   *
+   * @return the expected number of turns, or {@link Double#POSITIVE_INFINITY}
+   *     if the player can get stuck without reaching the last tile
+   */
+  public double getExpectedTurns() {
+    if (Double.isNaN(expectedTurns)) {
+      expectedTurns = canAlwaysFinish() ? solveExpectedTurns() : Double.POSITIVE_INFINITY;
+    }
+    return expectedTurns;
+  }
+
+  /**
+   * Returns the probability that a player reaches the last tile on each turn.
+   *
+   * @param maxTurns the highest turn to compute the probability for
+   * @return an array where index {@code t} is the probability to finish on turn {@code t},
+   *     index 0 is always 0
+   * @throws IntegerException if the number of turns is negative
+   */
+  public double[] getFinishProbabilities(int maxTurns) throws IntegerException {
+    if (maxTurns < 0) {
+      throw new IntegerException("Max turns cannot be negative");
+    }
+    double[] finish = new double[maxTurns + 1];
+    double[] distribution = new double[numberOfStates];
+    double[] next = new double[numberOfStates];
+    distribution[getState(START_TILE_ID, ON_TILE)] = 1;
+    int[] targets = new int[columns.length];
+    for (int k = 0; k < columns.length; k++) {
+      int target = columns[k];
+      targets[k] = target % STATES_PER_TILE == MOVED ? columns[rowStart[target]] : target;
+    }
+
+    for (int turn = 1; turn <= maxTurns; turn++) {
+      Arrays.fill(next, 0);
+      double finished = 0;
+      for (int state = 0; state < numberOfStates; state++) {
+        double mass = distribution[state];
+        if (mass == 0) {
+          continue;
+        }
+        for (int k = rowStart[state]; k < rowStart[state + 1]; k++) {
+          int target = targets[k];
+          if (absorbing[target]) {
+            finished += mass * probabilities[k];
+          } else {
+            next[target] += mass * probabilities[k];
+          }
+        }
+      }
+      finish[turn] = finished;
+      double[] swap = distribution;
+      distribution = next;
+      next = swap;
+    }
+    return finish;
+  }
+
+  /**
+   * Returns the expected number of turns that end on a tile in one game.
+   *
+   * <p>Turns that are skipped on a tile count as turns ending on the tile.
+   * The last tile is visited once.</p>
+   *
+   * @param tileId the ID of the tile
+   * @return the expected number of visits, or {@link Double#POSITIVE_INFINITY}
+   *     if the player can get stuck without reaching the last tile
+   */
+  public double getExpectedVisits(int tileId) {
+    if (getExpectedTurns() == Double.POSITIVE_INFINITY) {
+      return Double.POSITIVE_INFINITY;
+    }
+    if (tileId == finishTileId) {
+      return 1;
+    }
+    if (tileId < 0 || getState(tileId, ON_TILE) >= numberOfStates) {
+      return 0;
+    }
+    if (expectedVisits == null) {
+      expectedVisits = solveExpectedVisits();
+    }
+    return expectedVisits[getState(tileId, ON_TILE)] + expectedVisits[getState(tileId, SKIPPED)];
+  }
+
+  /**
+   * Returns the share of the turns in a game that end on a tile.
+   *
+   * <p>This is the long run tile occupancy of a player who starts a new game
+   * each time the last tile is reached.</p>
+   *
+   * @param tileId the ID of the tile
+   * @return the share of the turns between 0 and 1, or 0 if the expected
+   *     number of turns is infinite
+   */
+  public double getOccupancy(int tileId) {
+    double turns = getExpectedTurns();
+    if (turns == Double.POSITIVE_INFINITY) {
+      return 0;
+    }
+    return getExpectedVisits(tileId) / turns;
+  }
+
+  /**
+   * Returns the number of non-zero entries in the transition matrix.
+   *
+   * @return the number of transitions
+   */
+  public int getNumberOfTransitions() {
+    return columns.length;
+  }
+
+  /**
+   * Solves the expected number of turns from each state to the last tile.
+   *
+   * @return the expected number of turns from the start tile
+   */
+  private double solveExpectedTurns() {
+    int[] order = getSweepOrder();
+    double[] turns = new double[numberOfStates];
+    for (int state = 0; state < numberOfStates; state++) {
+      turns[state] = state % STATES_PER_TILE == MOVED ? 0 : 1;
+    }
+    return solve(order, rowStart, columns, probabilities, turns)[getState(START_TILE_ID, ON_TILE)];
+  }
+
+  /**
+   * Solves the expected number of turns ending in each state.
+   *
+   * <p>The solved values count the start state once more, since the player is
+   * there before the first turn, so that is subtracted afterwards.</p>
+   *
+   * @return the expected visits indexed by state
+   */
+  private double[] solveExpectedVisits() {
+    int[] order = getSweepOrder();
+    for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+      int swap = order[i];
+      order[i] = order[j];
+      order[j] = swap;
+    }
+    int start = getState(START_TILE_ID, ON_TILE);
+    double[] starts = new double[numberOfStates];
+    starts[start] = 1;
+    double[] visits = solve(order, incomingStart, sources, incomingProbabilities, starts);
+    visits[start] -= 1;
+    return visits;
+  }
+
+  /**
+   * Returns the states the player can reach without finishing, from the end of the board
+   * towards the start. The states of a tile are kept in the order they are numbered,
+   * so the skipped state comes after the state it leads to.
+   *
+   * @return the states in sweep order
+   */
+  private int[] getSweepOrder() {
+    int[] order = new int[numberOfStates];
+    int size = 0;
+    for (int first = numberOfStates - STATES_PER_TILE; first >= 0; first -= STATES_PER_TILE) {
+      for (int state = first; state < first + STATES_PER_TILE; state++) {
+        if (reachable[state] && !absorbing[state]) {
+          order[size++] = state;
+        }
+      }
+    }
+    return Arrays.copyOf(order, size);
+  }
+
+  /**
+   * Solves {@code x[s] = constants[s] + sum of weights[k] * x[neighbors[k]]} for the states
+   * in the order, where the neighbors of a state are given in compressed sparse row form.
+   * Neighbors that are not in the order have the value 0.
+   *
+   * <p>The states are visited in the order. A neighbor that comes later in the order is an
+   * unknown, and every value is kept as a linear function of the unknowns. The function of
+   * a state is only kept until the last state that uses it, so few are held at a time.
+   * The unknowns are then solved with Gaussian elimination, and a second pass in the same
+   * order finds the rest of the values.</p>
+   *
+   * @param order the states to solve for
+   * @param neighborStart the index of the first neighbor of each state
+   * @param neighbors the neighbors
+   * @param weights the weight of each neighbor
+   * @param constants the constant term of each state
+   * @return the values indexed by state
+   */
+  private double[] solve(int[] order, int[] neighborStart, int[] neighbors,
+                         double[] weights, double[] constants) {
+    int[] position = new int[numberOfStates];
+    Arrays.fill(position, -1);
+    for (int p = 0; p < order.length; p++) {
+      position[order[p]] = p;
+    }
+
+    int[] unknown = new int[numberOfStates];
+    Arrays.fill(unknown, -1);
+    int[] lastUse = new int[numberOfStates];
+    int numberOfUnknowns = 0;
+    for (int p = 0; p < order.length; p++) {
+      int state = order[p];
+      for (int k = neighborStart[state]; k < neighborStart[state + 1]; k++) {
+        int neighbor = neighbors[k];
+        if (position[neighbor] > p && unknown[neighbor] < 0) {
+          unknown[neighbor] = numberOfUnknowns++;
+        } else if (position[neighbor] >= 0 && position[neighbor] < p) {
+          lastUse[neighbor] = p;
+        }
+      }
+    }
+
+    int width = numberOfUnknowns + 1;
+    double[][] functions = new double[numberOfStates][];
+    double[][] system = new double[numberOfUnknowns][];
+    Deque<double[]> unused = new ArrayDeque<>();
+    for (int p = 0; p < order.length; p++) {
+      int state = order[p];
+      double[] function = unused.isEmpty() ? new double[width] : unused.pop();
+      Arrays.fill(function, 0);
+      function[numberOfUnknowns] = constants[state];
+      double self = 0;
+      for (int k = neighborStart[state]; k < neighborStart[state + 1]; k++) {
+        int neighbor = neighbors[k];
+        double weight = weights[k];
+        if (neighbor == state) {
+          self += weight;
+        } else if (unknown[neighbor] >= 0) {
+          function[unknown[neighbor]] += weight;
+        } else if (position[neighbor] >= 0) {
+          double[] neighborFunction = functions[neighbor];
+          for (int i = 0; i < width; i++) {
+            function[i] += weight * neighborFunction[i];
+          }
+        }
+      }
+      double scale = 1 / (1 - self);
+      for (int i = 0; i < width; i++) {
+        function[i] *= scale;
+      }
+
+      if (unknown[state] >= 0) {
+        system[unknown[state]] = function;
+      } else if (lastUse[state] > p) {
+        functions[state] = function;
+      } else {
+        unused.push(function);
+      }
+      for (int k = neighborStart[state]; k < neighborStart[state + 1]; k++) {
+        int neighbor = neighbors[k];
+        if (functions[neighbor] != null && lastUse[neighbor] == p) {
+          unused.push(functions[neighbor]);
+          functions[neighbor] = null;
+        }
+      }
+    }
+
+    double[] values = new double[numberOfStates];
+    double[] solution = solveDense(system, numberOfUnknowns);
+    for (int state = 0; state < numberOfStates; state++) {
+      if (unknown[state] >= 0) {
+        values[state] = solution[unknown[state]];
+      }
+    }
+    for (int state : order) {
+      if (unknown[state] >= 0) {
+        continue;
+      }
+      double sum = constants[state];
+      double self = 0;
+      for (int k = neighborStart[state]; k < neighborStart[state + 1]; k++) {
+        if (neighbors[k] == state) {
+          self += weights[k];
+        } else {
+          sum += weights[k] * values[neighbors[k]];
+        }
+      }
+      values[state] = sum / (1 - self);
+    }
+    return values;
+  }
+
+  /**
+   * Solves {@code x = A x + b} with Gaussian elimination and partial pivoting,
+   * where each row holds the coefficients of {@code A} followed by {@code b}.
+   *
+   * @param rows the rows of the system, which are changed
+   * @param size the number of unknowns
+   * @return the solution
+   */
+  private static double[] solveDense(double[][] rows, int size) {
+    for (int i = 0; i < size; i++) {
+      double[] row = rows[i];
+      for (int j = 0; j < size; j++) {
+        row[j] = (i == j ? 1 : 0) - row[j];
+      }
+    }
+    for (int column = 0; column < size; column++) {
+      int pivot = column;
+      for (int i = column + 1; i < size; i++) {
+        if (Math.abs(rows[i][column]) > Math.abs(rows[pivot][column])) {
+          pivot = i;
+        }
+      }
+      double[] swap = rows[column];
+      rows[column] = rows[pivot];
+      rows[pivot] = swap;
+      double[] pivotRow = rows[column];
+      for (int i = column + 1; i < size; i++) {
+        double factor = rows[i][column] / pivotRow[column];
+        if (factor != 0) {
+          for (int j = column; j <= size; j++) {
+            rows[i][j] -= factor * pivotRow[j];
+          }
+        }
+      }
+    }
+    double[] solution = new double[size];
+    for (int i = size - 1; i >= 0; i--) {
+      double sum = rows[i][size];
+      for (int j = i + 1; j < size; j++) {
+        sum -= rows[i][j] * solution[j];
+      }
+      solution[i] = sum / rows[i][i];
+    }
+    return solution;
+  }
+
+  /**
+   * Finds the states the player can reach from the start tile.
+   *
+   * @return true for each state that can be reached
+   */
+  private boolean[] findReachableStates() {
+    boolean[] reached = new boolean[numberOfStates];
+    Deque<Integer> queue = new ArrayDeque<>();
+    int start = getState(START_TILE_ID, ON_TILE);
+    reached[start] = true;
+    queue.add(start);
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int k = rowStart[state]; k < rowStart[state + 1]; k++) {
+        int target = columns[k];
+        if (!reached[target]) {
+          reached[target] = true;
+          queue.add(target);
+        }
+      }
+    }
+    return reached;
+  }
+
+  /**
+   * Checks that every state the player can reach from the start can also
+   * reach the last tile.
+   *
+   * @return true if the player always finishes, false otherwise
+   */
+  private boolean canAlwaysFinish() {
+    boolean[] canFinish = new boolean[numberOfStates];
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int state = 0; state < numberOfStates; state++) {
+      if (absorbing[state]) {
+        canFinish[state] = true;
+        queue.add(state);
+      }
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int k = incomingStart[state]; k < incomingStart[state + 1]; k++) {
+        int source = sources[k];
+        if (!canFinish[source]) {
+          canFinish[source] = true;
+          queue.add(source);
+        }
+      }
+    }
+    for (int state = 0; state < numberOfStates; state++) {
+      if (reachable[state] && !canFinish[state]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds the state of a player who stops on a tile.
+   *
+   * @param board the board
+   * @param landedTile the tile the player stops on
+   * @return the state after landing on the tile
+   * @throws IllegalStateException if the tile is not on the board
+   */
+  private static int getLandingState(Board board, Tile landedTile) {
+    int tileId = landedTile.getTileId();
+    if (board.getTileById(tileId) != landedTile) {
+      throw new IllegalStateException("Tile " + tileId + " is linked to, but is not on the board");
+    }
+    if (getDestination(board, landedTile) > 0) {
+      return getState(tileId, MOVED);
+    }
+    if (tileId != board.getTileCount() && landedTile.getLandAction() instanceof SkipAction) {
+      return getState(tileId, SKIPPED);
+    }
+    return getState(tileId, ON_TILE);
+  }
+
+  /**
+   * Returns the tile the action of a tile moves the player to.
+   *
+   * @param board the board
+   * @param tile the tile
+   * @return the ID of the destination, or 0 if the action does not move the player
+   */
+  private static int getDestination(Board board, Tile tile) {
+    TileAction action = tile.getLandAction();
+    if (action == null || action.getDestinationTile() <= 0
+        || board.getTileById(action.getDestinationTile()) == null) {
+      return 0;
+    }
+    return action.getDestinationTile();
+  }
+
+  /**
+   * Adds a transition to the current row, or adds to its probability if the
+   * row already has a transition to the same state.
+   *
+   * @param columnBuffer the target states
+   * @param probabilityBuffer the probabilities
+   * @param rowFirst the index of the first transition of the row
+   * @param size the number of transitions
+   * @param target the target state
+   * @param probability the probability of the transition
+   * @return the new number of transitions
+   */
+  private static int addTransition(int[] columnBuffer, double[] probabilityBuffer,
+                                   int rowFirst, int size, int target, double probability) {
+    for (int k = rowFirst; k < size; k++) {
+      if (columnBuffer[k] == target) {
+        probabilityBuffer[k] += probability;
+        return size;
+      }
+    }
+    columnBuffer[size] = target;
+    probabilityBuffer[size] = probability;
+    return size + 1;
+  }
+
+  /**
+   * Computes the probability of each sum when rolling a number of dice.
+   *
+   * @param numberOfDice the number of dice
+   * @return the probabilities indexed by the sum
+   */
+  private static double[] getSumProbabilities(int numberOfDice) {
+    double[] probabilities = {1};
+    for (int die = 0; die < numberOfDice; die++) {
+      double[] next = new double[probabilities.length + Die.SIDES];
+      for (int sum = 0; sum < probabilities.length; sum++) {
+        for (int side = 1; side <= Die.SIDES; side++) {
+          next[sum + side] += probabilities[sum] / Die.SIDES;
+        }
+      }
+      probabilities = next;
+    }
+    return probabilities;
+  }
+
+  /**
+   * Returns the index of a state.
+   *
+   * @param tileId the ID of the tile
+   * @param kind {@link #ON_TILE}, {@link #SKIPPED} or {@link #MOVED}
+   * @return the index of the state
+   */
+  private static int getState(int tileId, int kind) {
+    return tileId * STATES_PER_TILE + kind;
+  }
+}
@@ -3,37 +3,59 @@ package edu.ntnu.idi.bidata.model.engine;
 import edu.ntnu.idi.bidata.model.entity.Board;
 import edu.ntnu.idi.bidata.model.entity.Player;
 import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import edu.ntnu.idi.bidata.model.metrics.TurnJfrEvent;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.observer.BoardGameObserver;
 import edu.ntnu.idi.bidata.observer.Subjects;
+import edu.ntnu.idi.bidata.observer.TurnEvent;
+import edu.ntnu.idi.bidata.observer.event.BalanceChangedEvent;
+import edu.ntnu.idi.bidata.observer.event.GameEvent;
+import edu.ntnu.idi.bidata.observer.event.GameEventBus;
+import edu.ntnu.idi.bidata.observer.event.GameEventPublisher;
+import edu.ntnu.idi.bidata.observer.event.GameWonEvent;
+import edu.ntnu.idi.bidata.observer.event.PlayerMovedEvent;
+import edu.ntnu.idi.bidata.observer.event.TileActionEvent;
+import edu.ntnu.idi.bidata.observer.event.TurnSkippedEvent;
 import edu.ntnu.idi.bidata.utils.Constants;
 import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@code engine.BoardGame} class represents the logic for a playing a board game.
  *
  * <p>The class manages players, the board, dice and the turn,
- * It also implements the {@link Subjects} interface for notifying the observers</p>
+ * It also implements the {@link Subjects} interface for notifying the observers,
+ * and publishes typed {@link GameEvent}s to subscribers.</p>
  *
  * @author A. Sahoo, B.I. Høie
- * @version 0.7.0
+ * @version 0.13.1
  * @since 0.0.1
  */
 public class BoardGame implements Subjects {
   private final List<Player> players;
   private Board board;
   private Dice dice;
+  private CompiledBoard compiledBoard;
   private int currentPlayerIndex;
   private final List<BoardGameObserver> observers;
+  private boolean batchNotifications;
+  private GameEventPublisher eventPublisher;
+  private GameEventBus eventBus;
+  private long turns;
+  private EngineMetrics metrics;
 
   /**
    * A constructor the {@code engine.BoardGame} class.
    */
   public BoardGame() {
     players = new ArrayList<>();
-    observers = new ArrayList<>();
+    observers = new CopyOnWriteArrayList<>();
   }
 
   /**
@@ -78,6 +100,19 @@ public class BoardGame implements Subjects {
     this.dice = new Dice(numberOfDice);
   }
 
+  /**
+   * Creates a new set of dice with a specific amount,
+   * rolling with the given random generator.
+   *
+   * <p>Using a seeded generator makes the game reproducible.</p>
+   *
+   * @param numberOfDice the number of dice to create
+   * @param random the random generator the dice roll with
+   */
+  public void createDice(int numberOfDice, RandomGenerator random) {
+    this.dice = new Dice(numberOfDice, random);
+  }
+
   /**
    * Returns the {@link Dice} used in the game.
    *
@@ -98,6 +133,72 @@ public class BoardGame implements Subjects {
       throw new NullOrBlankException("The board can not be null.");
     }
     this.board = board;
+    this.compiledBoard = null;
+  }
+
+  /**
+   * Restarts the game on a new board, with the same players and dice.
+   *
+   * <p>The board is compiled again if the dice are created. Every player is placed on
+   * the first tile and is no longer skipped, and the first player has the turn.</p>
+   *
+   * @param board the board to play on
+   * @throws NullOrBlankException if the board is null
+   */
+  public void restart(Board board) throws NullOrBlankException {
+    createBoard(board);
+    if (dice != null) {
+      compileBoard();
+    }
+    currentPlayerIndex = 0;
+    turns = 0;
+    Tile startTile = board.getTileById(1);
+    players.forEach(player -> {
+      player.setInSkipped(false);
+      player.placeOnTile(startTile);
+    });
+  }
+
+  /**
+   * Compiles a jump table for the board, which the players use to move.
+   *
+   * <p>The table covers the highest sum of the dice in the game. It should be
+   * compiled after the board and dice are created, and compiled again if the
+   * tiles of the board are changed.</p>
+   *
+   * @throws NullOrBlankException if the board or the dice are not created
+   */
+  public void compileBoard() throws NullOrBlankException {
+    if (dice == null) {
+      throw new NullOrBlankException("The dice must be created before compiling the board.");
+    }
+    this.compiledBoard = CompiledBoard.compile(board, dice.getNumberOfDice() * Die.SIDES);
+  }
+
+  /**
+   * Sets an already compiled jump table for the board.
+   *
+   * <p>A {@link CompiledBoard} is not changed by moving players, so games
+   * played on the same board can share one.</p>
+   *
+   * @param compiledBoard the compiled board
+   * @throws NullOrBlankException if the compiled board is null or not compiled
+   *     from the board of this game
+   */
+  public void setCompiledBoard(CompiledBoard compiledBoard) throws NullOrBlankException {
+    if (compiledBoard == null || compiledBoard.getBoard() != board) {
+      throw new NullOrBlankException("The compiled board must be compiled from the game board.");
+    }
+    this.compiledBoard = compiledBoard;
+  }
+
+  /**
+   * Returns the compiled jump table for the board.
+   *
+   * @return the compiled board, or {@code null} if the board is not compiled
+   */
+  public CompiledBoard getCompiledBoard() {
+    return compiledBoard;
   }
 
   /**
@@ -119,29 +220,71 @@ public class BoardGame implements Subjects {
    * that is not the last tile,
    * it will move to the next player.</p>
    *
+   * <p>If the game has {@link EngineMetrics}, the turn is counted, and timed if it
+   * is in the sample. The turn is also a {@link TurnJfrEvent} in a flight
+   * recording.</p>
+   *
    * @throws NullOrBlankException if there are no players in the game
    */
   public void play() throws NullOrBlankException {
-
     if (players.isEmpty()) {
       throw new NullOrBlankException("There are no players in the game.");
     }
+    Player currentPlayer = players.get(currentPlayerIndex);
+    boolean skipped = currentPlayer.isPlayerIsSkipped();
+    int fromTileId = getTileId(currentPlayer);
+    EngineMetrics turnMetrics = metrics;
+    long start = turnMetrics != null ? turnMetrics.startTimer() : EngineMetrics.NOT_TIMED;
+    TurnJfrEvent event = new TurnJfrEvent();
+    event.begin();
+    playTurn();
+    event.finish(currentPlayer, turns, fromTileId, skipped, board.getTileCount());
+    if (turnMetrics != null) {
+      turnMetrics.recordTurn(start, skipped);
+    }
+  }
 
+  /**
+   * Plays the turn of the current player. {@link #play()} checks that there are
+   * players.
+   */
+  private void playTurn() {
     Player currentPlayer = players.get(currentPlayerIndex);
+    int fromTileId = getTileId(currentPlayer);
+    boolean publishing = hasEventSubscribers();
+    turns++;
 
     if (currentPlayer.isPlayerIsSkipped()) {
-      notifyObservers();
+      if (!batchNotifications) {
+        notifyObservers();
+      }
       currentPlayer.setInSkipped(false);
       goToNextPlayer();
+      notifyTurnPlayed(currentPlayer, fromTileId, true);
+      if (publishing) {
+        publish(new TurnSkippedEvent(turns, currentPlayer.getName(), fromTileId));
+      }
       return;
     }
+    int balance = currentPlayer.getBalance();
     int steps = dice.roll();
+    List<Integer> path = publishing ? getPath(currentPlayer.getCurrentTile(), steps) : null;
     currentPlayer.move(steps);
+    if (publishing) {
+      publishMove(currentPlayer, fromTileId, path, balance);
+    }
+    if (batchNotifications) {
+      if (!isFinished()) {
+        goToNextPlayer();
+      }
+      notifyTurnPlayed(currentPlayer, fromTileId, false);
+      return;
+    }
     notifyObservers();
 
     Tile currentTile = currentPlayer.getCurrentTile();
 
-    if (currentTile.getTileId() == board.getTiles().size()) {
+    if (currentTile.getTileId() == board.getTileCount()) {
       notifyObservers();
       return;
     }
@@ -149,15 +292,264 @@ public class BoardGame implements Subjects {
     goToNextPlayer();
   }
 
+  /**
+   * Sets whether the observers are notified once per turn.
+   *
+   * <p>Without batching, a turn calls {@link #notifyObservers()} up to three times,
+   * and each call may queue its own update of a view. With batching, the turn is
+   * collected into one {@link TurnEvent}, which is given to
+   * {@link BoardGameObserver#observerTurnPlayed(TurnEvent)} once per observer.</p>
+   *
+   * @param batchNotifications true to notify the observers once per turn
+   */
+  public void setBatchNotifications(boolean batchNotifications) {
+    this.batchNotifications = batchNotifications;
+  }
+
+  /**
+   * Checks if the observers are notified once per turn.
+   *
+   * @return true if the notifications are batched
+   */
+  public boolean isBatchNotifications() {
+    return batchNotifications;
+  }
+
+  /**
+   * Subscribes to the {@link GameEvent}s of the game.
+   *
+   * <p>Unlike the observers, a subscriber is told exactly what happened in each turn:
+   * the tiles passed, the action performed and how the balance changed. It gets the
+   * events on its own thread and requests them at its own pace, see
+   * {@link GameEventPublisher}. The events are only created while there are
+   * subscribers.</p>
+   *
+   * @param subscriber the subscriber
+   * @throws NullOrBlankException if the subscriber is null
+   */
+  public void subscribe(Flow.Subscriber<? super GameEvent> subscriber)
+      throws NullOrBlankException {
+    getEventPublisher().subscribe(subscriber);
+  }
+
+  /**
+   * Returns the publisher of the {@link GameEvent}s of the game, and creates it
+   * the first time.
+   *
+   * @return the event publisher
+   */
+  public GameEventPublisher getEventPublisher() {
+    if (eventPublisher == null) {
+      eventPublisher = new GameEventPublisher();
+    }
+    return eventPublisher;
+  }
+
+  /**
+   * Sets the {@link EngineMetrics} the turns, moves and tile actions of the game
+   * are recorded in.
+   *
+   * <p>A game has no metrics until this is called, and then records nothing.
+   * Metrics can be shared by many games.</p>
+   *
+   * @param metrics the metrics, or {@code null} to stop recording
+   */
+  public void setMetrics(EngineMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the {@link EngineMetrics} of the game.
+   *
+   * @return the metrics, or {@code null} if the game has none
+   */
+  public EngineMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets the {@link GameEventBus} the events of the game are published to.
+   *
+   * <p>A bus can be shared by many games, like a logger for all the games in a
+   * simulation. The subscribers of the bus never slow down the game, unless they
+   * choose to block.</p>
+   *
+   * @param eventBus the event bus
+   * @throws NullOrBlankException if the event bus is null
+   */
+  public void setEventBus(GameEventBus eventBus) throws NullOrBlankException {
+    if (eventBus == null) {
+      throw new NullOrBlankException("The event bus can not be null.");
+    }
+    this.eventBus = eventBus;
+  }
+
+  /**
+   * Returns the {@link GameEventBus} the events of the game are published to,
+   * and creates it the first time.
+   *
+   * @return the event bus
+   */
+  public GameEventBus getEventBus() {
+    if (eventBus == null) {
+      eventBus = new GameEventBus();
+    }
+    return eventBus;
+  }
+
+  /**
+   * Checks if anyone is subscribed to the events of the game.
+   *
+   * @return true if the publisher or the bus has subscribers
+   */
+  private boolean hasEventSubscribers() {
+    return eventPublisher != null && eventPublisher.hasSubscribers()
+        || eventBus != null && eventBus.hasSubscribers();
+  }
+
+  /**
+   * Publishes an event to the subscribers of the publisher and the bus.
+   *
+   * @param event the event to publish
+   */
+  private void publish(GameEvent event) {
+    if (eventBus != null) {
+      eventBus.publish(event);
+    }
+    if (eventPublisher != null) {
+      eventPublisher.publish(event);
+    }
+  }
+
+  /**
+   * Returns the number of turns played since the game was started, including
+   * skipped turns.
+   *
+   * @return the number of turns
+   */
+  public long getTurns() {
+    return turns;
+  }
+
+  /**
+   * Notifies the observers about a finished turn, if the notifications are batched.
+   *
+   * <p>The event is only created if there are observers to give it to.</p>
+   *
+   * @param player the player who had the turn
+   * @param fromTileId the ID of the tile the player started on
+   * @param turnSkipped true if the player lost the turn
+   */
+  private void notifyTurnPlayed(Player player, int fromTileId, boolean turnSkipped) {
+    if (!batchNotifications || observers.isEmpty()) {
+      return;
+    }
+    List<Integer> diceValues = turnSkipped ? List.of() : getDiceValues();
+    int toTileId = getTileId(player);
+    TurnEvent event = new TurnEvent(player.getName(), diceValues, fromTileId, toTileId,
+        turnSkipped, player.isPlayerIsSkipped(), player.getBalance(),
+        toTileId == board.getTileCount(),
+        player.getBalance() >= Constants.WINNING_BALANCE);
+    observers.forEach(observer -> observer.observerTurnPlayed(event));
+  }
+
+  /**
+   * Publishes the events of a turn in which the player moved.
+   *
+   * @param player the player who had the turn
+   * @param fromTileId the ID of the tile the player started on
+   * @param path the IDs of the tiles the player passed
+   * @param balance the balance of the player before the turn
+   */
+  private void publishMove(Player player, int fromTileId, List<Integer> path, int balance) {
+    String name = player.getName();
+    PlayerMovedEvent moved = new PlayerMovedEvent(turns, name, getDiceValues(), fromTileId,
+        path);
+    publish(moved);
+
+    int toTileId = getTileId(player);
+    TileAction action = board.getTileAction(moved.landedTileId());
+    if (action != null) {
+      publish(new TileActionEvent(turns, name, moved.landedTileId(),
+          action.getClass().getSimpleName(), action.getDescription(), toTileId));
+    }
+    if (player.getBalance() != balance) {
+      publish(new BalanceChangedEvent(turns, name, balance, player.getBalance()));
+    }
+    if (toTileId == board.getTileCount() || player.getBalance() >= Constants.WINNING_BALANCE) {
+      publish(new GameWonEvent(turns, name, toTileId, player.getBalance()));
+    }
+  }
+
+  /**
+   * Returns the IDs of the tiles passed by moving a number of steps along the next
+   * tile links, the same way {@link Player#move(int)} does.
+   *
+   * @param start the tile to move from
+   * @param steps the number of steps
+   * @return the IDs of the tiles passed, in order
+   */
+  private static List<Integer> getPath(Tile start, int steps) {
+    List<Integer> path = new ArrayList<>(steps);
+    Tile tile = start;
+    for (int i = 0; i < steps && tile != null && tile.getNextTile() != null; i++) {
+      tile = tile.getNextTile();
+      path.add(tile.getTileId());
+    }
+    return path;
+  }
+
+  /**
+   * Returns the values of the dice from the last roll.
+   *
+   * @return the value of each die
+   */
+  private List<Integer> getDiceValues() {
+    List<Integer> values = new ArrayList<>(dice.getNumberOfDice());
+    for (int i = 0; i < dice.getNumberOfDice(); i++) {
+      values.add(dice.getDie(i));
+    }
+    return values;
+  }
+
+  /**
+   * Returns the ID of the tile a player is on.
+   *
+   * @param player the player
+   * @return the ID of the tile, or 0 if the player is not on a tile
+   */
+  private static int getTileId(Player player) {
+    Tile tile = player.getCurrentTile();
+    return tile == null ? 0 : tile.getTileId();
+  }
+
   /**
    * Returns the player whose turn it currently is in the game.
    *
+   * <p>After a player has won, the turn is not advanced,
+   * so this returns the winning player.</p>
+   *
    * @return currentPlayer
    */
-  private Player getCurrentPlayer() {
+  public Player getCurrentPlayer() {
     return players.get(currentPlayerIndex);
   }
 
+  /**
+   * Checks if the current player has reached the last tile of the board.
+   *
+   * <p>This is the winning condition for Snakes and Ladders.</p>
+   *
+   * @return true if the current player is on the last tile, false otherwise
+   */
+  public boolean isFinished() {
+    if (players.isEmpty()) {
+      return false;
+    }
+    Tile currentTile = getCurrentPlayer().getCurrentTile();
+    return currentTile != null && currentTile.getTileId() == board.getTileCount();
+  }
+
   /**
    * Advances the turn to the next player in the game.
    */
@@ -168,6 +560,9 @@ public class BoardGame implements Subjects {
   /**
    * Adds an observer to the list of observers.
    *
+   * <p>The list is copied when it changes, so observers can be added and removed
+   * while the observers are notified, also from an observer.</p>
+   *
    * @param observer the observer to add
    */
   @Override
@@ -193,9 +588,12 @@ public class BoardGame implements Subjects {
    */
   @Override
   public void notifyObservers() {
+    if (observers.isEmpty()) {
+      return;
+    }
     Player currentPlayer = getCurrentPlayer();
     boolean isWinnerSnakesAndLadders = currentPlayer
-        .getCurrentTile().getTileId() == board.getTiles().size();
+        .getCurrentTile().getTileId() == board.getTileCount();
     boolean isWinnerMonopoly = currentPlayer
         .getBalance() >= Constants.WINNING_BALANCE;
 
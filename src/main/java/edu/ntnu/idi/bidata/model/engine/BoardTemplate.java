@@ -0,0 +1,301 @@
+package edu.ntnu.idi.bidata.model.engine;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An immutable snapshot of a {@link Board}, which any number of games can share.
+ *
+ * <p>A {@link Board} is built from mutable {@link Tile} objects, and the players of a
+ * {@link BoardGame} point to its tiles, so one board can not be shared by games played
+ * at the same time. A template instead stores the tiles in arrays indexed by tile ID:
+ * the coordinates, the next tile, and the effect of the tile action. The arrays are
+ * filled when the template is created and never changed, so a template is thread-safe.
+ * Everything that changes while playing is kept in a {@link GameState}.</p>
+ *
+ * <p>The tile actions are reduced to their effect:</p>
+ * <ul>
+ *   <li>{@link ActionType#MOVE} moves the player to a destination tile, like
+ *       {@code LadderAction} and {@code SnakeAction}.</li>
+ *   <li>{@link ActionType#SKIP} makes the player skip the next turn.</li>
+ *   <li>{@link ActionType#MONEY} changes the balance of the player, up for a
+ *       {@link BankAction} and down for a {@link LooseMoneyAction}.</li>
+ * </ul>
+ *
+ * <p>Later changes to the board are not seen by the template.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public final class BoardTemplate {
+  /**
+   * The tile ID used for a tile that is not on the board.
+   */
+  public static final int NO_TILE = -1;
+
+  /**
+   * The ID of the tile the players start on.
+   */
+  public static final int START_TILE_ID = 1;
+
+  /**
+   * The effect of the action of a tile.
+   */
+  public enum ActionType {
+    NONE, MOVE, SKIP, MONEY
+  }
+
+  private static final ActionType[] ACTION_TYPES = ActionType.values();
+
+  private final String name;
+  private final int rows;
+  private final int columns;
+  private final int tileCount;
+  private final int[] nextTileIds;
+  private final int[] xCoordinates;
+  private final int[] yCoordinates;
+  private final byte[] actionTypes;
+  private final int[] actionValues;
+  private final String[] actionDescriptions;
+
+  /**
+   * Constructs a {@code BoardTemplate} with arrays of the given length.
+   * Use {@link #of(Board)} to create one.
+   *
+   * @param board the board to take the name and size from
+   * @param length the highest tile ID plus one
+   */
+  private BoardTemplate(Board board, int length) {
+    name = board.getName();
+    rows = board.getRows();
+    columns = board.getColumns();
+    tileCount = board.getTileCount();
+    nextTileIds = new int[length];
+    xCoordinates = new int[length];
+    yCoordinates = new int[length];
+    actionTypes = new byte[length];
+    actionValues = new int[length];
+    actionDescriptions = new String[length];
+    Arrays.fill(nextTileIds, NO_TILE);
+  }
+
+  /**
+   * Creates a template of a board.
+   *
+   * <p>Actions other than the ones listed in the class description are kept as
+   * {@link ActionType#MOVE} if they have a destination tile on the board,
+   * and ignored otherwise.</p>
+   *
+   * @param board the board to create a template of
+   * @return the template
+   * @throws NullOrBlankException if the board is null
+   */
+  public static BoardTemplate of(Board board) throws NullOrBlankException {
+    if (board == null) {
+      throw new NullOrBlankException("The board can not be null.");
+    }
+    int maxTileId = 0;
+    Iterator<Tile> iterator = board.getTileIterator();
+    while (iterator.hasNext()) {
+      maxTileId = Math.max(maxTileId, iterator.next().getTileId());
+    }
+    BoardTemplate template = new BoardTemplate(board, maxTileId + 1);
+    iterator = board.getTileIterator();
+    while (iterator.hasNext()) {
+      template.addTile(iterator.next(), board);
+    }
+    return template;
+  }
+
+  /**
+   * Stores a tile in the arrays. Only called while the template is created.
+   *
+   * @param tile the tile to store
+   * @param board the board of the tile
+   */
+  private void addTile(Tile tile, Board board) {
+    int tileId = tile.getTileId();
+    Tile nextTile = tile.getNextTile();
+    nextTileIds[tileId] = nextTile != null && board.getTileById(nextTile.getTileId()) == nextTile
+        ? nextTile.getTileId() : tileId;
+    xCoordinates[tileId] = tile.getXCoordinate();
+    yCoordinates[tileId] = tile.getYCoordinate();
+
+    TileAction action = tile.getLandAction();
+    if (action == null) {
+      return;
+    }
+    ActionType type;
+    int value;
+    switch (action) {
+      case SkipAction skipAction -> {
+        type = ActionType.SKIP;
+        value = 0;
+      }
+      case BankAction bankAction -> {
+        type = ActionType.MONEY;
+        value = bankAction.getMoney();
+      }
+      case LooseMoneyAction looseMoneyAction -> {
+        type = ActionType.MONEY;
+        value = -looseMoneyAction.getLooseMoney();
+      }
+      default -> {
+        value = action.getDestinationTile();
+        boolean onBoard = value > 0 && board.getTileById(value) != null;
+        type = onBoard ? ActionType.MOVE : ActionType.NONE;
+      }
+    }
+    actionTypes[tileId] = (byte) type.ordinal();
+    actionValues[tileId] = value;
+    actionDescriptions[tileId] = action.getDescription();
+  }
+
+  /**
+   * Checks if there is a tile with the given ID.
+   *
+   * @param tileId the ID of the tile
+   * @return true if the tile is on the board
+   */
+  public boolean hasTile(int tileId) {
+    return tileId >= 0 && tileId < nextTileIds.length && nextTileIds[tileId] != NO_TILE;
+  }
+
+  /**
+   * Returns the ID of the tile reached by moving a number of steps along the next tile
+   * links. A player on a tile without a next tile stays there.
+   *
+   * <p>The action of the tile reached is not included.</p>
+   *
+   * @param tileId the ID of the tile to move from
+   * @param steps the number of steps to move
+   * @return the ID of the tile reached, or {@link #NO_TILE} if there is no tile with the ID
+   */
+  public int getTileAfter(int tileId, int steps) {
+    if (!hasTile(tileId)) {
+      return NO_TILE;
+    }
+    int current = tileId;
+    for (int i = 0; i < steps; i++) {
+      current = nextTileIds[current];
+    }
+    return current;
+  }
+
+  /**
+   * Returns the ID of the next tile.
+   *
+   * @param tileId the ID of the tile
+   * @return the ID of the next tile, the ID of the tile itself if it has no next tile,
+   *     or {@link #NO_TILE} if there is no tile with the ID
+   */
+  public int getNextTileId(int tileId) {
+    return hasTile(tileId) ? nextTileIds[tileId] : NO_TILE;
+  }
+
+  /**
+   * Returns the effect of the action of a tile.
+   *
+   * @param tileId the ID of the tile
+   * @return the type of the action, {@link ActionType#NONE} if the tile has no action
+   *     or is not on the board
+   */
+  public ActionType getActionType(int tileId) {
+    return hasTile(tileId) ? ACTION_TYPES[actionTypes[tileId]] : ActionType.NONE;
+  }
+
+  /**
+   * Returns the value of the action of a tile: the destination tile ID of a
+   * {@link ActionType#MOVE}, or the change of balance of a {@link ActionType#MONEY}.
+   *
+   * @param tileId the ID of the tile
+   * @return the value of the action, or 0 if it has none
+   */
+  public int getActionValue(int tileId) {
+    return hasTile(tileId) ? actionValues[tileId] : 0;
+  }
+
+  /**
+   * Returns the description of the action of a tile.
+   *
+   * @param tileId the ID of the tile
+   * @return the description, or null if the tile has no action
+   */
+  public String getActionDescription(int tileId) {
+    return hasTile(tileId) ? actionDescriptions[tileId] : null;
+  }
+
+  /**
+   * Returns the x-coordinate of a tile.
+   *
+   * @param tileId the ID of the tile
+   * @return the x-coordinate, or 0 if there is no tile with the ID
+   */
+  public int getXCoordinate(int tileId) {
+    return hasTile(tileId) ? xCoordinates[tileId] : 0;
+  }
+
+  /**
+   * Returns the y-coordinate of a tile.
+   *
+   * @param tileId the ID of the tile
+   * @return the y-coordinate, or 0 if there is no tile with the ID
+   */
+  public int getYCoordinate(int tileId) {
+    return hasTile(tileId) ? yCoordinates[tileId] : 0;
+  }
+
+  /**
+   * Returns the ID of the last tile. In Snakes and Ladders, a player who stops on it
+   * wins the game.
+   *
+   * @return the ID of the last tile, which is the number of tiles
+   */
+  public int getLastTileId() {
+    return tileCount;
+  }
+
+  /**
+   * Returns the number of tiles on the board.
+   *
+   * @return the number of tiles
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  /**
+   * Returns the name of the board.
+   *
+   * @return the name, or null if it has none
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the number of rows of the board.
+   *
+   * @return the rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the number of columns of the board.
+   *
+   * @return the columns
+   */
+  public int getColumns() {
+    return columns;
+  }
+}
@@ -0,0 +1,255 @@
+package edu.ntnu.idi.bidata.model.engine;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import edu.ntnu.idi.bidata.model.metrics.TileActionJfrEvent;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.Iterator;
+
+/**
+ * A precomputed jump table for moving players on a {@link Board}.
+ *
+ * <p>For every tile and every number of steps, the table holds the tile the player
+ * ends on. The table folds in the next tile links and the destination of tile actions
+ * that move the player, like {@code LadderAction} and {@code SnakeAction}. Moving a
+ * player is then one array read instead of following {@link Tile#getNextTile()}
+ * once per step.</p>
+ *
+ * <p>An entry is stored as a tile ID. A negative entry means that the player was moved
+ * by a tile action to the tile {@code -entry}, and no other action is performed.
+ * A positive entry means that the player stopped on that tile, and its action,
+ * if any, is performed as usual. An entry of {@code 0} means that the move is not
+ * in the table.</p>
+ *
+ * <p>The table is built from the tiles as they are when it is compiled.
+ * Later changes to the tiles are not seen by the table.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.3
+ * @since 0.8.0
+ */
+public class CompiledBoard {
+  private final Board board;
+  private final Tile[] tiles;
+  private final int[] jumpTable;
+  private final int maxSteps;
+  private final int stride;
+
+  /**
+   * Constructs a {@code CompiledBoard}. Use {@link #compile(Board, int)} to create one.
+   *
+   * @param board the board the table is compiled from
+   * @param tiles the tiles of the board indexed by ID
+   * @param jumpTable the jump table
+   * @param maxSteps the highest number of steps in the table
+   */
+  private CompiledBoard(Board board, Tile[] tiles, int[] jumpTable, int maxSteps) {
+    this.board = board;
+    this.tiles = tiles;
+    this.jumpTable = jumpTable;
+    this.maxSteps = maxSteps;
+    this.stride = maxSteps + 1;
+  }
+
+  /**
+   * Compiles the jump table for a board.
+   *
+   * @param board the board to compile
+   * @param maxSteps the highest number of steps that can be moved in one turn
+   * @return the compiled board
+   * @throws NullOrBlankException if the board is null
+   * @throws IntegerException if the number of steps is negative
+   */
+  public static CompiledBoard compile(Board board, int maxSteps) throws NullOrBlankException {
+    if (board == null) {
+      throw new NullOrBlankException("The board can not be null.");
+    }
+    if (maxSteps < 0) {
+      throw new IntegerException("Max steps cannot be negative");
+    }
+    Tile[] tiles = indexTiles(board);
+    int stride = maxSteps + 1;
+    int[] jumpTable = new int[tiles.length * stride];
+
+    for (int tileId = 1; tileId < tiles.length; tileId++) {
+      Tile tile = tiles[tileId];
+      if (tile == null) {
+        continue;
+      }
+      for (int steps = 0; steps <= maxSteps; steps++) {
+        jumpTable[tileId * stride + steps] = resolve(tile, tiles);
+        if (tile.getNextTile() != null) {
+          tile = tile.getNextTile();
+        }
+      }
+    }
+    return new CompiledBoard(board, tiles, jumpTable, maxSteps);
+  }
+
+  /**
+   * Places the tiles of the board in an array indexed by their ID.
+   *
+   * @param board the board
+   * @return the tiles indexed by ID
+   */
+  private static Tile[] indexTiles(Board board) {
+    int maxTileId = 0;
+    Iterator<Tile> iterator = board.getTileIterator();
+    while (iterator.hasNext()) {
+      maxTileId = Math.max(maxTileId, iterator.next().getTileId());
+    }
+    Tile[] tiles = new Tile[maxTileId + 1];
+    iterator = board.getTileIterator();
+    while (iterator.hasNext()) {
+      Tile tile = iterator.next();
+      tiles[tile.getTileId()] = tile;
+    }
+    return tiles;
+  }
+
+  /**
+   * Finds the entry for a player who stops on a tile.
+   *
+   * @param landedTile the tile the player stops on
+   * @param tiles the tiles indexed by ID
+   * @return the entry of the jump table
+   */
+  private static int resolve(Tile landedTile, Tile[] tiles) {
+    int tileId = landedTile.getTileId();
+    if (tileId == 0 || tileId >= tiles.length || tiles[tileId] != landedTile) {
+      return 0;
+    }
+    TileAction action = landedTile.getLandAction();
+    if (action != null && action.getDestinationTile() > 0) {
+      int destination = action.getDestinationTile();
+      if (destination < tiles.length && tiles[destination] != null) {
+        return -destination;
+      }
+    }
+    return tileId;
+  }
+
+  /**
+   * Moves a player a number of steps using the jump table.
+   *
+   * <p>If the player lands on a tile with an action that does not move the player,
+   * the action is performed.</p>
+   *
+   * @param player the player to move
+   * @param steps the number of steps to move
+   * @return true if the move was in the table, false if the player was not moved
+   * @throws NullOrBlankException if the action of the tile can not be performed
+   */
+  public boolean move(Player player, int steps) throws NullOrBlankException {
+    return move(player, steps, null);
+  }
+
+  /**
+   * Moves a player a number of steps using the jump table, and counts the tile
+   * action folded into the table in the metrics.
+   *
+   * <p>An action that is performed is counted by {@link Tile#landPlayer(Player)}.
+   * An action folded into the table is not performed, so the tile the player landed
+   * on is found by following the next tile links, only when there are metrics or a
+   * flight recording of {@link TileActionJfrEvent}s.</p>
+   *
+   * @param player the player to move
+   * @param steps the number of steps to move
+   * @param metrics the metrics to count folded actions in, or {@code null}
+   * @return true if the move was in the table, false if the player was not moved
+   * @throws NullOrBlankException if the action of the tile can not be performed
+   */
+  public boolean move(Player player, int steps, EngineMetrics metrics)
+      throws NullOrBlankException {
+    Tile currentTile = player.getCurrentTile();
+    if (currentTile == null) {
+      return false;
+    }
+    int entry = lookup(currentTile.getTileId(), steps);
+    if (entry == 0 || tiles[currentTile.getTileId()] != currentTile) {
+      return false;
+    }
+    if (entry < 0) {
+      TileActionJfrEvent event = new TileActionJfrEvent();
+      if (metrics != null || event.isEnabled()) {
+        Tile landedTile = walk(currentTile, steps);
+        if (metrics != null) {
+          metrics.countAction(landedTile.getLandAction());
+        }
+        event.begin();
+        event.finish(landedTile.getLandAction(), landedTile.getTileId(), player);
+      }
+      player.placeOnTile(tiles[-entry]);
+    } else {
+      Tile landedTile = tiles[entry];
+      player.placeOnTile(landedTile);
+      landedTile.landPlayer(player);
+    }
+    return true;
+  }
+
+  /**
+   * Follows the next tile links from a tile, stopping at a tile without a next tile.
+   *
+   * @param tile the tile to start on
+   * @param steps the number of links to follow
+   * @return the tile reached
+   */
+  private static Tile walk(Tile tile, int steps) {
+    Tile reached = tile;
+    for (int i = 0; i < steps && reached.getNextTile() != null; i++) {
+      reached = reached.getNextTile();
+    }
+    return reached;
+  }
+
+  /**
+   * Returns the ID of the tile a player ends on after moving from a tile.
+   *
+   * <p>Only destination actions are folded in, so actions like skipping a turn
+   * are not included. Useful for looking ahead without moving a player.</p>
+   *
+   * @param tileId the ID of the tile to move from
+   * @param steps the number of steps to move
+   * @return the ID of the tile the player ends on, or 0 if the move is not in the table
+   */
+  public int getDestination(int tileId, int steps) {
+    return Math.abs(lookup(tileId, steps));
+  }
+
+  /**
+   * Reads an entry of the jump table.
+   *
+   * @param tileId the ID of the tile to move from
+   * @param steps the number of steps to move
+   * @return the entry, or 0 if the move is not in the table
+   */
+  private int lookup(int tileId, int steps) {
+    if (tileId <= 0 || tileId >= tiles.length || steps < 0 || steps > maxSteps) {
+      return 0;
+    }
+    return jumpTable[tileId * stride + steps];
+  }
+
+  /**
+   * Returns the board the table was compiled from.
+   *
+   * @return the board
+   */
+  public Board getBoard() {
+    return board;
+  }
+
+  /**
+   * Returns the highest number of steps in the table.
+   *
+   * @return the highest number of steps
+   */
+  public int getMaxSteps() {
+    return maxSteps;
+  }
+}
@@ -2,6 +2,8 @@ package edu.ntnu.idi.bidata.model.engine;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a collection of multiple {@link Die} instances.
@@ -9,8 +11,11 @@ import java.util.List;
  * <p>This class allows for rolling multiple dice at once,
  * and it includes methods for rolling multiple dice and return a specific die.</p>
  *
+ * <p>All the dice share one {@link RandomGenerator}, so a set of dice created
+ * with a seeded generator always rolls the same sequence.</p>
+ *
  * @author A. Sahoo, B.I. Høie
- * @version 0.3.0
+ * @version 0.4.0
  * @since 0.0.2
  */
 public class Dice extends Die {
@@ -20,14 +25,28 @@ public class Dice extends Die {
   /**
    * Constructor for {@link Dice} object which holds a specific number of dice.
    *
-   * <p>Creates an {@link ArrayList} containing a specific amount of dice.</p>
+   * <p>Creates an {@link ArrayList} containing a specific amount of dice,
+   * rolling with a new unseeded {@link SplittableRandom}.</p>
    *
    * @param numberOfDice the number of {@link Die} objects
    */
   public Dice(int numberOfDice) {
+    this(numberOfDice, new SplittableRandom());
+  }
+
+  /**
+   * Constructor for {@link Dice} object which holds a specific number of dice,
+   * all rolling with the given random generator.
+   *
+   * @param numberOfDice the number of {@link Die} objects
+   * @param random the random generator the dice roll with
+   * @throws IllegalArgumentException if the random generator is null
+   */
+  public Dice(int numberOfDice, RandomGenerator random) {
+    super(random);
     diceToPlay = new ArrayList<>();
     for (int i = 0; i < numberOfDice; i++) {
-      diceToPlay.add(new Die());
+      diceToPlay.add(new Die(random));
     }
   }
 
@@ -49,8 +68,8 @@ public class Dice extends Die {
   @Override
   public int roll() {
     int sum = 0;
-    for (Die die : diceToPlay) {
-      sum += die.roll();
+    for (int i = 0; i < diceToPlay.size(); i++) {
+      sum += diceToPlay.get(i).roll();
     }
     lastRollS = sum;
     return sum;
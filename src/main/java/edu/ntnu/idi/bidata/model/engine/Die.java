@@ -1,27 +1,60 @@
 package edu.ntnu.idi.bidata.model.engine;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The class engine.Die represents a six sided die,
  * which generates a number from 1-6.
  *
+ * <p>The die draws its values from a {@link RandomGenerator}. By default each die
+ * gets its own unseeded {@link SplittableRandom}, but a seeded generator can be
+ * given to make the rolls reproducible.</p>
+ *
  * @author A. Sahoo, B.I. Høie
- * @version 0.2.1
+ * @version 0.3.0
  * @since 0.0.1
  */
 public class Die {
+  /**
+   * The number of sides of the die.
+   */
+  public static final int SIDES = 6;
+
   private int lastRolledValue;
-  private final Random random = new Random();
+  private final RandomGenerator random;
+
+  /**
+   * Constructs a {@code Die} with its own random generator.
+   */
+  public Die() {
+    this(new SplittableRandom());
+  }
+
+  /**
+   * Constructs a {@code Die} that rolls with the given random generator.
+   *
+   * <p>The generator is not synchronized, so it should only be shared
+   * by dice used on the same thread.</p>
+   *
+   * @param random the random generator to roll with
+   * @throws IllegalArgumentException if the random generator is null
+   */
+  public Die(RandomGenerator random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null");
+    }
+    this.random = random;
+  }
 
   /**
    * Rolls a die generating a random number between 1-6,
-   * using {@link Random}.
+   * using the {@link RandomGenerator} of the die.
    *
    * @return the value of the last rolled
    */
   public int roll() {
-    lastRolledValue = random.nextInt(1, 7);
+    lastRolledValue = random.nextInt(1, SIDES + 1);
     return lastRolledValue;
   }
 
@@ -33,4 +66,4 @@ public class Die {
   public int getValue() {
     return lastRolledValue;
   }
-}
\ No newline at end of file
+}
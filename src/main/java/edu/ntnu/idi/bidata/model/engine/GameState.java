@@ -0,0 +1,327 @@
+package edu.ntnu.idi.bidata.model.engine;
+
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.Arrays;
+
+/**
+ * The state of one game played on a shared {@link BoardTemplate}.
+ *
+ * <p>The players are numbered from 0, in the order they take their turns. For each
+ * player the state holds the ID of the tile the player is on, the balance, and whether
+ * the next turn is skipped. The board itself is only read, so any number of states can
+ * use the same template at the same time. A state is not thread-safe, and should only
+ * be used by one thread at a time.</p>
+ *
+ * <p>A turn follows the same rules as {@link BoardGame#play()}: a skipped player only
+ * loses the turn, the others move the rolled number of steps and the action of the tile
+ * they stop on is performed. The game is finished when the player who had the turn
+ * has won by the {@link WinRule} of the game, and that player keeps the turn.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.1.0
+ * @since 0.8.0
+ */
+public final class GameState {
+  /**
+   * The player index returned by {@link #getWinner()} while the game is not finished.
+   */
+  public static final int NO_WINNER = -1;
+
+  /**
+   * How a player wins the game.
+   */
+  public enum WinRule {
+    /**
+     * The first player to stop on the last tile wins, as in Snakes and Ladders.
+     */
+    LAST_TILE,
+    /**
+     * The first player with a balance of at least {@link Constants#WINNING_BALANCE}
+     * wins, as in Monopoly.
+     */
+    BALANCE;
+
+    /**
+     * Returns the rule of the game played on a board. A board whose last tile leads
+     * back to another tile, like the Monopoly board, has no end to reach, so its
+     * players play for the balance. On other boards they play for the last tile.
+     *
+     * @param template the board
+     * @return the rule of the game on the board
+     */
+    public static WinRule of(BoardTemplate template) {
+      int lastTileId = template.getLastTileId();
+      return template.getNextTileId(lastTileId) == lastTileId ? LAST_TILE : BALANCE;
+    }
+  }
+
+  private final BoardTemplate template;
+  private final WinRule winRule;
+  private final int[] positions;
+  private final int[] balances;
+  private final boolean[] skipped;
+  private int currentPlayer;
+  private int winner;
+  private long turns;
+
+  /**
+   * Constructs a {@code GameState} with every player on the start tile, played by
+   * the rule {@link WinRule#of(BoardTemplate)} picks for the board.
+   *
+   * @param template the board to play on
+   * @param numberOfPlayers the number of players
+   * @throws NullOrBlankException if the template is null
+   * @throws IntegerException if the number of players is less than 1
+   */
+  public GameState(BoardTemplate template, int numberOfPlayers) throws NullOrBlankException {
+    this(template, numberOfPlayers, template == null ? null : WinRule.of(template));
+  }
+
+  /**
+   * Constructs a {@code GameState} with every player on the start tile.
+   *
+   * @param template the board to play on
+   * @param numberOfPlayers the number of players
+   * @param winRule how a player wins the game
+   * @throws NullOrBlankException if the template or the rule is null
+   * @throws IntegerException if the number of players is less than 1
+   */
+  public GameState(BoardTemplate template, int numberOfPlayers, WinRule winRule)
+      throws NullOrBlankException {
+    if (template == null) {
+      throw new NullOrBlankException("The board template can not be null.");
+    }
+    if (winRule == null) {
+      throw new NullOrBlankException("The win rule can not be null.");
+    }
+    if (numberOfPlayers <= 0) {
+      throw new IntegerException("Number of players must be greater than 0");
+    }
+    this.template = template;
+    this.winRule = winRule;
+    positions = new int[numberOfPlayers];
+    balances = new int[numberOfPlayers];
+    skipped = new boolean[numberOfPlayers];
+    reset();
+  }
+
+  /**
+   * Puts every player back on the start tile with a balance of 0, and gives the
+   * first player the turn.
+   */
+  public void reset() {
+    Arrays.fill(positions, BoardTemplate.START_TILE_ID);
+    Arrays.fill(balances, 0);
+    Arrays.fill(skipped, false);
+    currentPlayer = 0;
+    winner = NO_WINNER;
+    turns = 0;
+  }
+
+  /**
+   * Plays the turn of the current player, who has rolled the given number of steps.
+   *
+   * <p>Nothing happens if the game is finished.</p>
+   *
+   * @param steps the number of steps rolled
+   * @return the index of the player who played the turn, or {@link #NO_WINNER}
+   *     if the game is finished
+   */
+  public int playTurn(int steps) {
+    if (winner != NO_WINNER) {
+      return NO_WINNER;
+    }
+    int player = currentPlayer;
+    turns++;
+    if (skipped[player]) {
+      skipped[player] = false;
+      goToNextPlayer();
+      return player;
+    }
+    int tileId = template.getTileAfter(positions[player], steps);
+    if (tileId == BoardTemplate.NO_TILE) {
+      tileId = positions[player];
+    }
+    switch (template.getActionType(tileId)) {
+      case MOVE -> tileId = template.getActionValue(tileId);
+      case SKIP -> skipped[player] = true;
+      case MONEY -> balances[player] = Math.max(0,
+          balances[player] + template.getActionValue(tileId));
+      default -> {
+        // The tile has no action.
+      }
+    }
+    positions[player] = tileId;
+    if (hasWon(player)) {
+      winner = player;
+    } else {
+      goToNextPlayer();
+    }
+    return player;
+  }
+
+  /**
+   * Checks if a player has won by the rule of the game.
+   *
+   * @param player the index of the player
+   * @return true if the player has won
+   */
+  private boolean hasWon(int player) {
+    return switch (winRule) {
+      case LAST_TILE -> positions[player] == template.getLastTileId();
+      case BALANCE -> balances[player] >= Constants.WINNING_BALANCE;
+    };
+  }
+
+  /**
+   * Advances the turn to the next player.
+   */
+  private void goToNextPlayer() {
+    currentPlayer = (currentPlayer + 1) % positions.length;
+  }
+
+  /**
+   * Checks that a player index is in the game.
+   *
+   * @param player the index of the player
+   * @throws IntegerException if there is no player with the index
+   */
+  private void checkPlayer(int player) {
+    if (player < 0 || player >= positions.length) {
+      throw new IntegerException("There is no player " + player + " in the game");
+    }
+  }
+
+  /**
+   * Returns the ID of the tile a player is on.
+   *
+   * @param player the index of the player
+   * @return the ID of the tile
+   * @throws IntegerException if there is no player with the index
+   */
+  public int getPosition(int player) {
+    checkPlayer(player);
+    return positions[player];
+  }
+
+  /**
+   * Places a player on a tile, like when a saved game is loaded.
+   *
+   * @param player the index of the player
+   * @param tileId the ID of the tile
+   * @throws IntegerException if there is no player with the index, or no tile with the ID
+   */
+  public void setPosition(int player, int tileId) {
+    checkPlayer(player);
+    if (!template.hasTile(tileId)) {
+      throw new IntegerException("There is no tile with id " + tileId);
+    }
+    positions[player] = tileId;
+  }
+
+  /**
+   * Returns the balance of a player.
+   *
+   * @param player the index of the player
+   * @return the balance
+   * @throws IntegerException if there is no player with the index
+   */
+  public int getBalance(int player) {
+    checkPlayer(player);
+    return balances[player];
+  }
+
+  /**
+   * Sets the balance of a player.
+   *
+   * @param player the index of the player
+   * @param balance the balance
+   * @throws IntegerException if there is no player with the index, or the balance
+   *     is negative
+   */
+  public void setBalance(int player, int balance) {
+    checkPlayer(player);
+    if (balance < 0) {
+      throw new IntegerException("Balance can not be negative");
+    }
+    balances[player] = balance;
+  }
+
+  /**
+   * Checks if the next turn of a player is skipped.
+   *
+   * @param player the index of the player
+   * @return true if the next turn is skipped
+   * @throws IntegerException if there is no player with the index
+   */
+  public boolean isSkipped(int player) {
+    checkPlayer(player);
+    return skipped[player];
+  }
+
+  /**
+   * Returns the index of the player whose turn it is. After a player has won,
+   * this is the winner.
+   *
+   * @return the index of the current player
+   */
+  public int getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  /**
+   * Returns the index of the player who won the game.
+   *
+   * @return the index of the winner, or {@link #NO_WINNER} if the game is not finished
+   */
+  public int getWinner() {
+    return winner;
+  }
+
+  /**
+   * Checks if a player has won the game.
+   *
+   * @return true if the game is finished
+   */
+  public boolean isFinished() {
+    return winner != NO_WINNER;
+  }
+
+  /**
+   * Returns the number of turns played, including skipped turns.
+   *
+   * @return the number of turns
+   */
+  public long getTurns() {
+    return turns;
+  }
+
+  /**
+   * Returns the number of players.
+   *
+   * @return the number of players
+   */
+  public int getNumberOfPlayers() {
+    return positions.length;
+  }
+
+  /**
+   * Returns how a player wins the game.
+   *
+   * @return the win rule
+   */
+  public WinRule getWinRule() {
+    return winRule;
+  }
+
+  /**
+   * Returns the board the game is played on.
+   *
+   * @return the board template
+   */
+  public BoardTemplate getTemplate() {
+    return template;
+  }
+}
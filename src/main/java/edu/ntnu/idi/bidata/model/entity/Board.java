@@ -1,9 +1,19 @@
 package edu.ntnu.idi.bidata.model.entity;
 
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.utils.exception.IntegerException;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
 
 /**
  * Represents a board for the game.
@@ -12,65 +22,178 @@ import java.util.Map;
  * board. The class supports adding tiles, retrieving tiles by ID,
  * and storing board dimensions.</p>
  *
+ * <p>Tiles with an ID from 0 to rows × columns are stored in an array
+ * indexed by their ID, so finding a tile is a single array read. Tiles
+ * with a higher ID are kept in a {@link TreeMap}. The tiles are always
+ * iterated in the order of their ID.</p>
+ *
+ * <p>The board can have a name and a description, which are read from and
+ * written to the board files. The name tells which board game the board is for.</p>
+ *
  * @author A. Sahoo, B.I. Høie
- * @version 0.3.0
+ * @version 0.6.1
  * @since 0.0.1
  */
 public class Board {
-  private final Map<Integer, Tile> tiles;
+  private Tile[] denseTiles;
+  private final TreeMap<Integer, Tile> sparseTiles;
+  private int tileCount;
   private int rows;
   private int columns;
+  private String name;
+  private String description;
 
   /**
    * Constructs a new {@link Board} with the specified number of rows and columns.
    *
-   * <p>Creates an empty {@link HashMap} of tiles for the board layout</p>
+   * <p>Creates an empty array of tiles for the board layout, with room
+   * for the tiles from 0 to rows × columns.</p>
    *
    * @param rows the number of rows on the board
    * @param columns the number of columns on the board
    */
   public Board(int rows, int columns) {
-    tiles = new HashMap<>();
+    sparseTiles = new TreeMap<>();
     setRows(rows);
     setColumns(columns);
+    denseTiles = new Tile[rows * columns + 1];
   }
 
   /**
    * Add tiles to the board using its ID as the key.
    *
+   * <p>A tile with the same ID as a tile on the board replaces it.</p>
    *
    * @param tile the {@link Tile} to be added
    */
   public void addTile(Tile tile) {
-    tiles.put(tile.getTileId(), tile);
+    int tileId = tile.getTileId();
+    if (tileId >= denseTiles.length && tileId <= rows * columns) {
+      growDenseTiles();
+    }
+    if (tileId < denseTiles.length) {
+      if (denseTiles[tileId] == null) {
+        tileCount++;
+      }
+      denseTiles[tileId] = tile;
+    } else if (sparseTiles.put(tileId, tile) == null) {
+      tileCount++;
+    }
+  }
+
+  /**
+   * Makes room in the array for the tiles from 0 to rows × columns, after
+   * the size of the board has changed. Tiles in the new range are moved
+   * from the map to the array.
+   */
+  private void growDenseTiles() {
+    int oldLength = denseTiles.length;
+    denseTiles = Arrays.copyOf(denseTiles, rows * columns + 1);
+    Map<Integer, Tile> movedTiles = sparseTiles.subMap(oldLength, denseTiles.length);
+    movedTiles.forEach((tileId, tile) -> denseTiles[tileId] = tile);
+    movedTiles.clear();
   }
 
   /**
    * Uses the tileID to find and return the tile from the board.
    *
    * @param tileId the ID of the tile we need to find.
-   * @return the tile we need from the board.
+   * @return the tile we need from the board, or null if there is no tile with the ID
    */
   public Tile getTileById(int tileId) {
-    return tiles.get(tileId);
+    if (tileId >= 0 && tileId < denseTiles.length) {
+      return denseTiles[tileId];
+    }
+    return sparseTiles.get(tileId);
   }
 
   /**
-   * Returns the {@link HashMap} of the {@link #tiles}.
+   * Returns a copy of the board with new tiles.
+   *
+   * <p>The tiles of the copy have the same IDs, coordinates and links as the tiles of
+   * this board, and copies of their tile actions. Players placed on the copy, and
+   * actions changed on it, do not affect this board.</p>
    *
-   * @return the HashMap of the tiles
+   * @return a copy of the board
+   */
+  public Board copy() {
+    Board copy = new Board(rows, columns);
+    copy.setName(name);
+    copy.setDescription(description);
+    Iterator<Tile> iterator = getTileIterator();
+    while (iterator.hasNext()) {
+      Tile tile = iterator.next();
+      Tile tileCopy = new Tile(tile.getTileId(), tile.getXCoordinate(), tile.getYCoordinate());
+      tileCopy.setLandAction(copyAction(tile.getLandAction()));
+      copy.addTile(tileCopy);
+    }
+    iterator = getTileIterator();
+    while (iterator.hasNext()) {
+      Tile tile = iterator.next();
+      if (tile.getNextTile() != null) {
+        copy.getTileById(tile.getTileId())
+            .setNextTile(copy.getTileById(tile.getNextTile().getTileId()));
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Returns a copy of a tile action. Actions of other types than the ones of this
+   * game can not be copied, and are returned as they are.
+   *
+   * @param action the action to copy
+   * @return the copy, or null if the action is null
+   */
+  private static TileAction copyAction(TileAction action) {
+    return switch (action) {
+      case null -> null;
+      case LadderAction ladderAction ->
+          new LadderAction(ladderAction.getDestinationTile(), ladderAction.getDescription());
+      case SnakeAction snakeAction ->
+          new SnakeAction(snakeAction.getDestinationTile(), snakeAction.getDescription());
+      case BankAction bankAction ->
+          new BankAction(bankAction.getMoney(), bankAction.getDescription());
+      case LooseMoneyAction looseMoneyAction -> new LooseMoneyAction(
+          looseMoneyAction.getLooseMoney(), looseMoneyAction.getDescription());
+      case SkipAction skipAction -> new SkipAction(skipAction.getDescription());
+      default -> action;
+    };
+  }
+
+  /**
+   * Returns the action of the tile with the given ID.
+   *
+   * @param tileId the ID of the tile
+   * @return the land action of the tile, or null if the tile has no action
+   *     or there is no tile with the ID
+   */
+  public TileAction getTileAction(int tileId) {
+    Tile tile = getTileById(tileId);
+    return tile == null ? null : tile.getLandAction();
+  }
+
+  /**
+   * Returns the tiles of the board mapped by their ID, in the order of their ID.
+   *
+   * <p>The map is a copy that can not be changed. Use {@link #addTile(Tile)}
+   * to add tiles to the board.</p>
+   *
+   * @return the tiles mapped by their ID
    */
   public Map<Integer, Tile> getTiles() {
-    return tiles;
+    Map<Integer, Tile> tiles = new LinkedHashMap<>();
+    getTileIterator().forEachRemaining(tile -> tiles.put(tile.getTileId(), tile));
+    return Collections.unmodifiableMap(tiles);
   }
 
   /**
-   * Returns an iterator for the tiles.
+   * Returns an iterator for the tiles, in the order of their ID.
    *
    * @return an iterator for the tiles
    */
   public Iterator<Tile> getTileIterator() {
-    return tiles.values().iterator();
+    return new TileIterator();
   }
 
   /**
@@ -79,7 +202,7 @@ public class Board {
    * @return the number of tiles on the board
    */
   public int getTileCount() {
-    return tiles.size();
+    return tileCount;
   }
 
   /**
@@ -125,4 +248,80 @@ public class Board {
   public int getRows() {
     return rows;
   }
+
+  /**
+   * Sets the name of the board.
+   *
+   * @param name the name of the board, or null if it has none
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the name of the board, like the name of the board game it is for.
+   *
+   * @return the name of the board, or null if it has none
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Sets the description of the board.
+   *
+   * @param description the description of the board, or null if it has none
+   */
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  /**
+   * Returns the description of the board.
+   *
+   * @return the description of the board, or null if it has none
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Iterates the tiles in the array, and then the tiles with a higher ID.
+   */
+  private class TileIterator implements Iterator<Tile> {
+    private final Iterator<Tile> highTiles = sparseTiles.values().iterator();
+    private int index = nextDenseIndex(0);
+
+    /**
+     * Finds the index of the next tile in the array.
+     *
+     * @param from the index to search from
+     * @return the index of the next tile, or the length of the array if there are no more
+     */
+    private int nextDenseIndex(int from) {
+      int next = from;
+      while (next < denseTiles.length && denseTiles[next] == null) {
+        next++;
+      }
+      return next;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < denseTiles.length || highTiles.hasNext();
+    }
+
+    @Override
+    public Tile next() {
+      if (index < denseTiles.length) {
+        Tile tile = denseTiles[index];
+        index = nextDenseIndex(index + 1);
+        return tile;
+      }
+      if (highTiles.hasNext()) {
+        return highTiles.next();
+      }
+      throw new NoSuchElementException("There are no more tiles on the board");
+    }
+  }
 }
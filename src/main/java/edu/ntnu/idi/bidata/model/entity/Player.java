@@ -1,6 +1,8 @@
 package edu.ntnu.idi.bidata.model.entity;
 
 import edu.ntnu.idi.bidata.model.engine.BoardGame;
+import edu.ntnu.idi.bidata.model.engine.CompiledBoard;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
 import edu.ntnu.idi.bidata.utils.exception.IntegerException;
 import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
 import edu.ntnu.idi.bidata.utils.exception.StringException;
@@ -13,7 +15,7 @@ import java.util.logging.Logger;
  * Including methods for moving the player around the board</p>
  *
  * @author A. Sahoo, B.I. Høie
- * @version 0.3.2
+ * @version 0.4.0
  * @since 0.0.1
  */
 
@@ -75,22 +77,42 @@ public class Player {
   }
 
   /**
-   * Moves the player on the board,
-   * by using a loop to move the player onto the next tile.
+   * Moves the player on the board.
+   *
+   * <p>If the game has a {@link CompiledBoard}, the destination is read from its
+   * jump table. Otherwise, a loop is used to move the player onto the next tile.
+   * If the game has {@link EngineMetrics}, the move is counted and sampled.</p>
    *
    * @param steps The amount of steps to the player.
    */
   public void move(int steps) {
-    for (int i = 0; i < steps; i++) {
-      if (currentTile.getNextTile() != null) {
-        currentTile = currentTile.getNextTile();
-      }
-    }
+    EngineMetrics metrics = getMetrics();
+    long start = metrics != null ? metrics.startTimer() : EngineMetrics.NOT_TIMED;
     try {
-      currentTile.landPlayer(this);
+      CompiledBoard compiledBoard = game != null ? game.getCompiledBoard() : null;
+      if (compiledBoard == null || !compiledBoard.move(this, steps, metrics)) {
+        for (int i = 0; i < steps; i++) {
+          if (currentTile.getNextTile() != null) {
+            currentTile = currentTile.getNextTile();
+          }
+        }
+        currentTile.landPlayer(this);
+      }
     } catch (NullOrBlankException e) {
       Logger.getLogger("Error: " + e.getMessage());
     }
+    if (metrics != null) {
+      metrics.recordMove(start);
+    }
+  }
+
+  /**
+   * Returns the {@link EngineMetrics} of the game the player is playing.
+   *
+   * @return the metrics, or {@code null} if there are none
+   */
+  EngineMetrics getMetrics() {
+    return game != null ? game.getMetrics() : null;
   }
 
   /**
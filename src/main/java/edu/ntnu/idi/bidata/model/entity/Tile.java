@@ -1,5 +1,7 @@
 package edu.ntnu.idi.bidata.model.entity;
 
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import edu.ntnu.idi.bidata.model.metrics.TileActionJfrEvent;
 import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.utils.exception.IntegerException;
 import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
@@ -10,7 +12,7 @@ import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
  * <p>Each tile has it own unique ID, coordinates and optionally an action to perform.</p>
  *
  * @author A. Sahoo, B.I. Høie
- * @version 0.2.4
+ * @version 0.3.1
  * @since 0.0.1
  */
 public class Tile {
@@ -35,13 +37,23 @@ public class Tile {
 
   /**
    * Performs an action on a player when a player lands on the tile.
-   * The action is performed by the landAction.
+   * The action is performed by the landAction. If the game of the player has
+   * {@link EngineMetrics}, the action is counted by its type and sampled.
+   * The action is also a {@link TileActionJfrEvent} in a flight recording.
    *
    * @param player the player to perform an action on
    */
   public void landPlayer(Player player) throws NullOrBlankException {
     if (player != null && landAction != null) {
+      EngineMetrics metrics = player.getMetrics();
+      long start = metrics != null ? metrics.startTimer() : EngineMetrics.NOT_TIMED;
+      TileActionJfrEvent event = new TileActionJfrEvent();
+      event.begin();
       landAction.perform(player);
+      event.finish(landAction, tileId, player);
+      if (metrics != null) {
+        metrics.recordAction(landAction, start);
+      }
     }
   }
 
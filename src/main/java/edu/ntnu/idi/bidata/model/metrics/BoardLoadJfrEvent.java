@@ -0,0 +1,59 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for reading a board from a file.
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@Name("edu.ntnu.idi.bidata.BoardLoad")
+@Label("Board Load")
+@Category({"Board Game", "File"})
+@Description("A board read from a file")
+public class BoardLoadJfrEvent extends Event {
+  @Label("Path")
+  private String path;
+
+  @Label("Format")
+  @Description("The format of the file, JSON or binary")
+  private String format;
+
+  @Label("Board Name")
+  private String boardName;
+
+  @Label("Tile Count")
+  private int tileCount;
+
+  @Label("Bytes Read")
+  @DataAmount(DataAmount.BYTES)
+  private long bytesRead;
+
+  /**
+   * Ends the event, and commits it with the values of the board if it is recorded.
+   *
+   * @param filePath the path of the file
+   * @param format the format of the file
+   * @param board the board read
+   */
+  public void finish(Path filePath, String format, Board board) {
+    end();
+    if (shouldCommit()) {
+      this.path = filePath.toString();
+      this.format = format;
+      this.boardName = board.getName();
+      this.tileCount = board.getTileCount();
+      this.bytesRead = JfrEvents.fileSize(filePath);
+      commit();
+    }
+  }
+}
@@ -0,0 +1,345 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the turns, moves and tile actions of a game table, and records their latencies.
+ *
+ * <p>The counters are {@link LongAdder}s and the latencies go into
+ * {@link LatencyHistogram}s, so recording is cheap and safe from many threads, and
+ * games on different threads can share one {@code EngineMetrics}. The tile actions
+ * are counted by the simple class name of the action, like {@code LadderAction}.</p>
+ *
+ * <p>Every turn, move and action is counted, but only a random sample of them is
+ * timed, one in {@link #DEFAULT_SAMPLE_RATE} by default, since reading the clock costs
+ * more than a move on the compiled board. The sample is drawn at random, so the
+ * percentiles are not skewed. A caller gets the start of a timing from
+ * {@link #startTimer()}, which is {@link #NOT_TIMED} when the call is not in the
+ * sample, and gives it back to the record method.</p>
+ *
+ * <p>A {@code BoardGame} only records metrics after
+ * {@code BoardGame.setMetrics(EngineMetrics)} is called, so a game without metrics
+ * does not pay for them. Use a {@link MetricsRegistry} to look the metrics up by name
+ * and to show them in JMX.</p>
+ *
+ * <p>The histograms take about 24 KB. Where there are many small tables, each table
+ * can have metrics with a parent instead: they count the turns, moves and actions of
+ * the table, and pass everything on to the parent, which keeps the only histograms.
+ * Such metrics take a few hundred bytes, and their latencies are those of all the
+ * tables of the parent.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.1.0
+ * @since 0.8.0
+ */
+public class EngineMetrics implements EngineMetricsMXBean {
+  /**
+   * The start of a timing that is not in the sample.
+   */
+  public static final long NOT_TIMED = Long.MIN_VALUE;
+
+  /**
+   * How many calls there are for each call that is timed, when no rate is set.
+   */
+  public static final int DEFAULT_SAMPLE_RATE = 16;
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final String name;
+  private final EngineMetrics parent;
+  private final LongAdder turns = new LongAdder();
+  private final LongAdder skippedTurns = new LongAdder();
+  private final LongAdder moves = new LongAdder();
+  private final Map<String, LongAdder> actionCounts = new ConcurrentHashMap<>();
+  private final LatencyHistogram turnLatency;
+  private final LatencyHistogram moveLatency;
+  private final LatencyHistogram actionLatency;
+  private volatile long startNanos = System.nanoTime();
+  private volatile int sampleMask = DEFAULT_SAMPLE_RATE - 1;
+
+  /**
+   * Constructs an empty {@code EngineMetrics}.
+   *
+   * @param name the name of the table the metrics are for
+   * @throws NullOrBlankException if the name is null or blank
+   */
+  public EngineMetrics(String name) throws NullOrBlankException {
+    if (name == null || name.isBlank()) {
+      throw new NullOrBlankException("The name can not be null or blank.");
+    }
+    this.name = name;
+    this.parent = null;
+    this.turnLatency = new LatencyHistogram();
+    this.moveLatency = new LatencyHistogram();
+    this.actionLatency = new LatencyHistogram();
+  }
+
+  /**
+   * Constructs an empty {@code EngineMetrics} that passes everything it records on to
+   * a parent, and uses the histograms of the parent for its latencies.
+   *
+   * @param name the name of the table the metrics are for
+   * @param parent the metrics of all the tables
+   * @throws NullOrBlankException if the name is null or blank, or the parent is null
+   */
+  public EngineMetrics(String name, EngineMetrics parent) throws NullOrBlankException {
+    if (name == null || name.isBlank()) {
+      throw new NullOrBlankException("The name can not be null or blank.");
+    }
+    if (parent == null) {
+      throw new NullOrBlankException("The parent metrics can not be null.");
+    }
+    this.name = name;
+    this.parent = parent;
+    this.turnLatency = parent.turnLatency;
+    this.moveLatency = parent.moveLatency;
+    this.actionLatency = parent.actionLatency;
+  }
+
+  /**
+   * Sets how many calls there are for each call that is timed.
+   *
+   * @param sampleRate the rate, 1 to time every call, or a higher power of two
+   * @throws IntegerException if the rate is not a positive power of two
+   */
+  public void setLatencySampleRate(int sampleRate) {
+    if (sampleRate <= 0 || Integer.bitCount(sampleRate) != 1) {
+      throw new IntegerException("Sample rate must be a positive power of two");
+    }
+    sampleMask = sampleRate - 1;
+  }
+
+  /**
+   * Starts timing a call, if it is in the sample.
+   *
+   * @return the time now, in nanoseconds, or {@link #NOT_TIMED} if the call is not timed
+   */
+  public long startTimer() {
+    if ((ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+      return NOT_TIMED;
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Records the time since a timer was started, if it was.
+   *
+   * @param histogram the histogram to record in
+   * @param start the start from {@link #startTimer()}
+   */
+  private static void stopTimer(LatencyHistogram histogram, long start) {
+    if (start != NOT_TIMED) {
+      histogram.record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Records a turn.
+   *
+   * @param start the start from {@link #startTimer()} when the turn started
+   * @param skipped true if the turn was skipped
+   */
+  public void recordTurn(long start, boolean skipped) {
+    turns.increment();
+    if (skipped) {
+      skippedTurns.increment();
+    }
+    if (parent != null) {
+      parent.recordTurn(start, skipped);
+    } else {
+      stopTimer(turnLatency, start);
+    }
+  }
+
+  /**
+   * Records a move of a player, including the tile action.
+   *
+   * @param start the start from {@link #startTimer()} when the move started
+   */
+  public void recordMove(long start) {
+    moves.increment();
+    if (parent != null) {
+      parent.recordMove(start);
+    } else {
+      stopTimer(moveLatency, start);
+    }
+  }
+
+  /**
+   * Records a tile action that was performed.
+   *
+   * @param action the action
+   * @param start the start from {@link #startTimer()} when the action started
+   */
+  public void recordAction(TileAction action, long start) {
+    increment(action);
+    if (parent != null) {
+      parent.recordAction(action, start);
+    } else {
+      stopTimer(actionLatency, start);
+    }
+  }
+
+  /**
+   * Counts a tile action without a latency, for an action folded into a
+   * {@code CompiledBoard} jump table, which takes no time of its own.
+   *
+   * @param action the action
+   */
+  public void countAction(TileAction action) {
+    increment(action);
+    if (parent != null) {
+      parent.countAction(action);
+    }
+  }
+
+  /**
+   * Adds one to the count of the type of an action.
+   *
+   * @param action the action
+   */
+  private void increment(TileAction action) {
+    String type = action.getClass().getSimpleName();
+    LongAdder counter = actionCounts.get(type);
+    if (counter == null) {
+      counter = actionCounts.computeIfAbsent(type, key -> new LongAdder());
+    }
+    counter.increment();
+  }
+
+  /**
+   * Returns the name of the table the metrics are for.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getTurns() {
+    return turns.sum();
+  }
+
+  @Override
+  public long getSkippedTurns() {
+    return skippedTurns.sum();
+  }
+
+  @Override
+  public long getMoves() {
+    return moves.sum();
+  }
+
+  @Override
+  public double getTurnsPerSecond() {
+    long elapsed = System.nanoTime() - startNanos;
+    return elapsed <= 0 ? 0 : turns.sum() * NANOS_PER_SECOND / elapsed;
+  }
+
+  /**
+   * Returns the number of actions of a type.
+   *
+   * @param type the simple class name of the action
+   * @return the number of actions of the type, or 0 if none were performed
+   */
+  public long getActionCount(String type) {
+    LongAdder counter = actionCounts.get(type);
+    return counter == null ? 0 : counter.sum();
+  }
+
+  @Override
+  public Map<String, Long> getActionCounts() {
+    Map<String, Long> counts = new TreeMap<>();
+    actionCounts.forEach((type, counter) -> counts.put(type, counter.sum()));
+    return counts;
+  }
+
+  @Override
+  public long getTurnLatencyP50() {
+    return turnLatency.getValueAtPercentile(50);
+  }
+
+  @Override
+  public long getTurnLatencyP99() {
+    return turnLatency.getValueAtPercentile(99);
+  }
+
+  @Override
+  public long getTurnLatencyP999() {
+    return turnLatency.getValueAtPercentile(99.9);
+  }
+
+  @Override
+  public long getTurnLatencyMax() {
+    return turnLatency.getMax();
+  }
+
+  @Override
+  public long getMoveLatencyP99() {
+    return moveLatency.getValueAtPercentile(99);
+  }
+
+  @Override
+  public long getActionLatencyP99() {
+    return actionLatency.getValueAtPercentile(99);
+  }
+
+  /**
+   * Returns the metrics everything is passed on to.
+   *
+   * @return the parent, or {@code null} if the metrics have their own histograms
+   */
+  public EngineMetrics getParent() {
+    return parent;
+  }
+
+  /**
+   * Returns the histogram of the turn latencies, which is the one of the parent
+   * if there is a parent.
+   *
+   * @return the histogram, in nanoseconds
+   */
+  public LatencyHistogram getTurnLatency() {
+    return turnLatency;
+  }
+
+  /**
+   * Returns the histogram of the move latencies.
+   *
+   * @return the histogram, in nanoseconds
+   */
+  public LatencyHistogram getMoveLatency() {
+    return moveLatency;
+  }
+
+  /**
+   * Returns the histogram of the tile action latencies.
+   *
+   * @return the histogram, in nanoseconds
+   */
+  public LatencyHistogram getActionLatency() {
+    return actionLatency;
+  }
+
+  @Override
+  public void reset() {
+    turns.reset();
+    skippedTurns.reset();
+    moves.reset();
+    actionCounts.values().forEach(LongAdder::reset);
+    if (parent == null) {
+      turnLatency.reset();
+      moveLatency.reset();
+      actionLatency.reset();
+    }
+    startNanos = System.nanoTime();
+  }
+}
@@ -0,0 +1,99 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import java.util.Map;
+
+/**
+ * The view of {@link EngineMetrics} given to JMX clients, like JConsole or
+ * Java Mission Control.
+ *
+ * <p>The latencies are in nanoseconds.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public interface EngineMetricsMXBean {
+
+  /**
+   * Returns the number of turns played, including skipped turns.
+   *
+   * @return the number of turns
+   */
+  long getTurns();
+
+  /**
+   * Returns the number of turns that were skipped.
+   *
+   * @return the number of skipped turns
+   */
+  long getSkippedTurns();
+
+  /**
+   * Returns the number of times a player was moved.
+   *
+   * @return the number of moves
+   */
+  long getMoves();
+
+  /**
+   * Returns the mean number of turns played per second since the metrics were
+   * created or reset.
+   *
+   * @return the turns per second
+   */
+  double getTurnsPerSecond();
+
+  /**
+   * Returns the number of tile actions performed, by the simple class name of the action.
+   *
+   * @return the number of actions of each type
+   */
+  Map<String, Long> getActionCounts();
+
+  /**
+   * Returns the median latency of a turn.
+   *
+   * @return the 50th percentile, in nanoseconds
+   */
+  long getTurnLatencyP50();
+
+  /**
+   * Returns the 99th percentile latency of a turn.
+   *
+   * @return the 99th percentile, in nanoseconds
+   */
+  long getTurnLatencyP99();
+
+  /**
+   * Returns the 99.9th percentile latency of a turn.
+   *
+   * @return the 99.9th percentile, in nanoseconds
+   */
+  long getTurnLatencyP999();
+
+  /**
+   * Returns the highest latency of a turn.
+   *
+   * @return the highest latency, in nanoseconds
+   */
+  long getTurnLatencyMax();
+
+  /**
+   * Returns the 99th percentile latency of a move.
+   *
+   * @return the 99th percentile, in nanoseconds
+   */
+  long getMoveLatencyP99();
+
+  /**
+   * Returns the 99th percentile latency of a tile action.
+   *
+   * @return the 99th percentile, in nanoseconds
+   */
+  long getActionLatencyP99();
+
+  /**
+   * Sets all counters and latencies back to zero.
+   */
+  void reset();
+}
@@ -0,0 +1,66 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for saving a game to files.
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@Name("edu.ntnu.idi.bidata.GameSave")
+@Label("Game Save")
+@Category({"Board Game", "File"})
+@Description("A game saved to a board file and a player file")
+public class GameSaveJfrEvent extends Event {
+  @Label("Game")
+  private String gameName;
+
+  @Label("Board Path")
+  @Description("The path of the board file, or null if the board is not saved")
+  private String boardPath;
+
+  @Label("Player Path")
+  private String playerPath;
+
+  @Label("Tile Count")
+  private int tileCount;
+
+  @Label("Player Count")
+  private int playerCount;
+
+  @Label("Bytes Written")
+  @DataAmount(DataAmount.BYTES)
+  private long bytesWritten;
+
+  /**
+   * Ends the event, and commits it with the values of the save if it is recorded.
+   *
+   * @param gameName the name of the game
+   * @param boardPath the path of the board file, or {@code null} if it is not saved
+   * @param playerPath the path of the player file
+   * @param tileCount the number of tiles on the board
+   * @param playerCount the number of players saved
+   */
+  public void finish(String gameName, Path boardPath, Path playerPath, int tileCount,
+                     int playerCount) {
+    end();
+    if (shouldCommit()) {
+      this.gameName = gameName;
+      this.boardPath = boardPath == null ? null : boardPath.toString();
+      this.playerPath = playerPath.toString();
+      this.tileCount = tileCount;
+      this.playerCount = playerCount;
+      this.bytesWritten = (boardPath == null ? 0 : JfrEvents.fileSize(boardPath))
+          + JfrEvents.fileSize(playerPath);
+      commit();
+    }
+  }
+}
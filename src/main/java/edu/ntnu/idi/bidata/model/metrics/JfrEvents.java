@@ -0,0 +1,36 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Helpers shared by the Java Flight Recorder events of the game.
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+final class JfrEvents {
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private JfrEvents() {
+  }
+
+  /**
+   * Returns the size of a file, which is the number of bytes read or written
+   * when the whole file is.
+   *
+   * @param filePath the path of the file
+   * @return the size in bytes, or 0 if the size could not be read
+   */
+  static long fileSize(Path filePath) {
+    try {
+      return Files.size(filePath);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+}
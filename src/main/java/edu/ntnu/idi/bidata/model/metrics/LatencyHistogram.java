@@ -0,0 +1,146 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts latencies in buckets that grow with the value, like an HDR histogram.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} get a bucket each. Above that, every power of
+ * two is split into {@value #HALF_SUB_BUCKETS} buckets of the same width, so a value
+ * is known to within 1/{@value #HALF_SUB_BUCKETS}, about 6 %, from a nanosecond up to
+ * the largest {@code long}, with a fixed array of {@value #BUCKET_COUNT} counters.
+ * Recording a value finds its bucket with a few bit operations, adds one to it, and
+ * never allocates. Values can be recorded by many threads at once.</p>
+ *
+ * <p>Reading a percentile scans the buckets, and may not include values recorded at
+ * the same time.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+  private static final int BUCKET_COUNT =
+      SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a value. Negative values are recorded as 0.
+   *
+   * @param value the value, usually in nanoseconds
+   */
+  public void record(long value) {
+    long positive = Math.max(0, value);
+    buckets.incrementAndGet(bucketIndex(positive));
+    count.increment();
+    total.add(positive);
+    max.accumulate(positive);
+  }
+
+  /**
+   * Finds the bucket of a value.
+   *
+   * @param value the value, not negative
+   * @return the index of the bucket
+   */
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS + 1;
+    int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKETS;
+    return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Returns the highest value that falls in a bucket.
+   *
+   * @param index the index of the bucket
+   * @return the highest value of the bucket
+   */
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+    long subBucket = HALF_SUB_BUCKETS + (index - SUB_BUCKETS) % HALF_SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Returns the value at a percentile, as the highest value of its bucket, but never
+   * more than the highest value recorded.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the value at the percentile, or 0 if no values are recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long recorded = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      recorded += buckets.get(i);
+    }
+    if (recorded == 0) {
+      return 0;
+    }
+    double clamped = Math.min(100, Math.max(0, percentile));
+    long rank = Math.max(1, (long) Math.ceil(clamped / 100 * recorded));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += buckets.get(i);
+      if (seen >= rank) {
+        return Math.min(bucketUpperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Returns the number of values recorded.
+   *
+   * @return the number of values
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the mean of the values recorded.
+   *
+   * @return the mean, or 0 if no values are recorded
+   */
+  public double getMean() {
+    long values = count.sum();
+    return values == 0 ? 0 : (double) total.sum() / values;
+  }
+
+  /**
+   * Returns the highest value recorded.
+   *
+   * @return the highest value, or 0 if no values are recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Removes all values. Values recorded at the same time may be kept.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0);
+    }
+    count.reset();
+    total.reset();
+    max.reset();
+  }
+}
@@ -0,0 +1,229 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Keeps the {@link EngineMetrics} of the game tables by name, and shows them as
+ * MBeans in JMX.
+ *
+ * <p>Each metrics is registered under the object name
+ * {@code edu.ntnu.idi.bidata:type=EngineMetrics,name="<name>"}, so a running game can
+ * be watched with JConsole or Java Mission Control without attaching a profiler.
+ * A registry created without an {@link MBeanServer} only keeps the metrics.</p>
+ *
+ * <p>The game pages use the {@link #getDefault() default registry}, which registers
+ * with the platform MBean server.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.3
+ * @since 0.8.0
+ */
+public class MetricsRegistry {
+  /**
+   * The JMX domain of the metrics.
+   */
+  public static final String DOMAIN = "edu.ntnu.idi.bidata";
+
+  private final Map<String, EngineMetrics> metrics = new ConcurrentHashMap<>();
+  private final MBeanServer server;
+  private final AtomicLong nextNumber = new AtomicLong(1);
+
+  /**
+   * Constructs a {@code MetricsRegistry} that does not register MBeans.
+   */
+  public MetricsRegistry() {
+    this.server = null;
+  }
+
+  /**
+   * Constructs a {@code MetricsRegistry} that registers MBeans with a server.
+   *
+   * @param server the MBean server
+   * @throws NullOrBlankException if the server is null
+   */
+  public MetricsRegistry(MBeanServer server) throws NullOrBlankException {
+    if (server == null) {
+      throw new NullOrBlankException("The MBean server can not be null.");
+    }
+    this.server = server;
+  }
+
+  /**
+   * Returns the registry shared by the game pages, which registers with the
+   * platform MBean server.
+   *
+   * @return the default registry
+   */
+  public static MetricsRegistry getDefault() {
+    return DefaultRegistry.INSTANCE;
+  }
+
+  /**
+   * Returns the metrics with a name, and creates and registers them if there are none.
+   *
+   * @param name the name of the table
+   * @return the metrics with the name
+   * @throws NullOrBlankException if the name is null or blank
+   */
+  public EngineMetrics getOrCreate(String name) throws NullOrBlankException {
+    if (name == null || name.isBlank()) {
+      throw new NullOrBlankException("The name can not be null or blank.");
+    }
+    EngineMetrics existing = metrics.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    EngineMetrics created = new EngineMetrics(name);
+    existing = metrics.putIfAbsent(name, created);
+    if (existing != null) {
+      return existing;
+    }
+    register(created);
+    return created;
+  }
+
+  /**
+   * Creates and registers metrics under a name not used in the registry before,
+   * the prefix followed by a number, like {@code Monopoly 2}. Each game table gets
+   * its own metrics this way, even when tables of one game are open at once.
+   *
+   * @param prefix the start of the name
+   * @return the new metrics
+   * @throws NullOrBlankException if the prefix is null or blank
+   */
+  public EngineMetrics createUnique(String prefix) throws NullOrBlankException {
+    if (prefix == null || prefix.isBlank()) {
+      throw new NullOrBlankException("The prefix can not be null or blank.");
+    }
+    while (true) {
+      EngineMetrics created = new EngineMetrics(prefix + " " + nextNumber.getAndIncrement());
+      if (metrics.putIfAbsent(created.getName(), created) == null) {
+        register(created);
+        return created;
+      }
+    }
+  }
+
+  /**
+   * Adds and registers metrics created elsewhere, like metrics with a parent.
+   *
+   * @param engineMetrics the metrics to add
+   * @return true if they were added, false if there are metrics with the name already
+   * @throws NullOrBlankException if the metrics are null
+   */
+  public boolean add(EngineMetrics engineMetrics) throws NullOrBlankException {
+    if (engineMetrics == null) {
+      throw new NullOrBlankException("The metrics can not be null.");
+    }
+    if (metrics.putIfAbsent(engineMetrics.getName(), engineMetrics) != null) {
+      return false;
+    }
+    register(engineMetrics);
+    return true;
+  }
+
+  /**
+   * Returns the metrics with a name.
+   *
+   * @param name the name of the table
+   * @return the metrics, or {@code null} if there are none with the name
+   */
+  public EngineMetrics get(String name) {
+    return name == null ? null : metrics.get(name);
+  }
+
+  /**
+   * Removes the metrics with a name, and unregisters their MBean.
+   *
+   * @param name the name of the table
+   * @return true if there were metrics with the name
+   */
+  public boolean remove(String name) {
+    EngineMetrics removed = name == null ? null : metrics.remove(name);
+    if (removed == null) {
+      return false;
+    }
+    if (server != null) {
+      try {
+        server.unregisterMBean(getObjectName(name));
+      } catch (JMException e) {
+        Logger.getLogger(MetricsRegistry.class.getName())
+            .warning("Could not unregister metrics " + name + ": " + e.getMessage());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the names of the metrics in the registry, sorted.
+   *
+   * @return the names
+   */
+  public Set<String> getNames() {
+    return new TreeSet<>(metrics.keySet());
+  }
+
+  /**
+   * Returns the JMX object name of the metrics with a name.
+   *
+   * @param name the name of the table
+   * @return the object name
+   * @throws IllegalArgumentException if the object name is not valid
+   */
+  public static ObjectName getObjectName(String name) {
+    try {
+      return new ObjectName(DOMAIN + ":type=EngineMetrics,name=" + ObjectName.quote(name));
+    } catch (JMException e) {
+      throw new IllegalArgumentException("Not a valid metrics name: " + name, e);
+    }
+  }
+
+  /**
+   * Registers the MBean of the metrics, if the registry has a server. A failure is
+   * logged, and the metrics are still kept.
+   *
+   * @param engineMetrics the metrics to register
+   */
+  private void register(EngineMetrics engineMetrics) {
+    if (server == null) {
+      return;
+    }
+    try {
+      server.registerMBean(engineMetrics, getObjectName(engineMetrics.getName()));
+    } catch (JMException e) {
+      Logger.getLogger(MetricsRegistry.class.getName()).warning(
+          "Could not register metrics " + engineMetrics.getName() + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Holds the default registry, so the platform MBean server is only started when
+   * the default registry is used.
+   */
+  private static final class DefaultRegistry {
+    private static final MetricsRegistry INSTANCE = create();
+
+    /**
+     * Creates the default registry.
+     *
+     * @return the registry
+     */
+    private static MetricsRegistry create() {
+      try {
+        return new MetricsRegistry(ManagementFactory.getPlatformMBeanServer());
+      } catch (NullOrBlankException e) {
+        return new MetricsRegistry();
+      }
+    }
+  }
+}
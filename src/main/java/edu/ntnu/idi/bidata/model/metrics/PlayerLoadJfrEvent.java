@@ -0,0 +1,49 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for reading players from a CSV file.
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@Name("edu.ntnu.idi.bidata.PlayerLoad")
+@Label("Player Load")
+@Category({"Board Game", "File"})
+@Description("Players read from a CSV file")
+public class PlayerLoadJfrEvent extends Event {
+  @Label("Path")
+  private String path;
+
+  @Label("Player Count")
+  @Description("The number of players added to the game")
+  private int playerCount;
+
+  @Label("Bytes Read")
+  @DataAmount(DataAmount.BYTES)
+  private long bytesRead;
+
+  /**
+   * Ends the event, and commits it with the values of the file if it is recorded.
+   *
+   * @param filePath the path of the file
+   * @param playerCount the number of players added to the game
+   */
+  public void finish(Path filePath, int playerCount) {
+    end();
+    if (shouldCommit()) {
+      this.path = filePath.toString();
+      this.playerCount = playerCount;
+      this.bytesRead = JfrEvents.fileSize(filePath);
+      commit();
+    }
+  }
+}
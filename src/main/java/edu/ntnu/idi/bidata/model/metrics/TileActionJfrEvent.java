@@ -0,0 +1,52 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.tileactions.TileAction;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a tile action performed on a player.
+ *
+ * <p>An action folded into a {@code CompiledBoard} jump table is not performed, and
+ * its event has no duration.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@Name("edu.ntnu.idi.bidata.TileAction")
+@Label("Tile Action")
+@Category({"Board Game", "Engine"})
+@Description("A tile action performed on a player who landed on a tile")
+public class TileActionJfrEvent extends Event {
+  @Label("Action Type")
+  @Description("The simple class name of the action")
+  private String actionType;
+
+  @Label("Tile")
+  private int tileId;
+
+  @Label("Player")
+  private String playerName;
+
+  /**
+   * Ends the event, and commits it with the values of the action if it is recorded.
+   *
+   * @param action the action
+   * @param tileId the ID of the tile of the action
+   * @param player the player the action was performed on
+   */
+  public void finish(TileAction action, int tileId, Player player) {
+    end();
+    if (shouldCommit()) {
+      this.actionType = action.getClass().getSimpleName();
+      this.tileId = tileId;
+      this.playerName = player.getName();
+      commit();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for one turn of a {@code BoardGame}.
+ *
+ * <p>The event lasts from the start to the end of the turn, so slow turns can be
+ * lined up with garbage collections and file I/O in the same recording. When the
+ * event is not enabled in the recording, it costs next to nothing, and the fields
+ * are not filled in.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+@Name("edu.ntnu.idi.bidata.Turn")
+@Label("Game Turn")
+@Category({"Board Game", "Engine"})
+@Description("A turn played by a player")
+public class TurnJfrEvent extends Event {
+  @Label("Player")
+  private String playerName;
+
+  @Label("Turn")
+  @Description("The number of the turn in the game")
+  private long turn;
+
+  @Label("From Tile")
+  private int fromTileId;
+
+  @Label("To Tile")
+  private int toTileId;
+
+  @Label("Skipped")
+  private boolean skipped;
+
+  @Label("Tile Count")
+  @Description("The number of tiles on the board")
+  private int tileCount;
+
+  /**
+   * Ends the event, and commits it with the values of the turn if it is recorded.
+   *
+   * @param player the player who had the turn
+   * @param turn the number of the turn in the game
+   * @param fromTileId the ID of the tile the player started on
+   * @param skipped true if the turn was skipped
+   * @param tileCount the number of tiles on the board
+   */
+  public void finish(Player player, long turn, int fromTileId, boolean skipped,
+                     int tileCount) {
+    end();
+    if (shouldCommit()) {
+      Tile tile = player.getCurrentTile();
+      this.playerName = player.getName();
+      this.turn = turn;
+      this.fromTileId = fromTileId;
+      this.toTileId = tile == null ? 0 : tile.getTileId();
+      this.skipped = skipped;
+      this.tileCount = tileCount;
+      commit();
+    }
+  }
+}
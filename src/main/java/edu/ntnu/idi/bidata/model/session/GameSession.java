@@ -0,0 +1,218 @@
+package edu.ntnu.idi.bidata.model.session;
+
+import edu.ntnu.idi.bidata.model.engine.Dice;
+import edu.ntnu.idi.bidata.model.engine.GameState;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * One table hosted by a {@link GameSessionManager}.
+ *
+ * <p>A session owns a {@link GameState} and its own {@link Dice}. All commands for
+ * the session go through its queue and are run one at a time, in the order they
+ * were submitted, so the state is only used by one thread at a time. A session does
+ * not hold a thread while it waits for commands. When a command arrives at an idle
+ * session, one task is started on the executor to run the queue until it is empty.
+ * Commands for different sessions run at the same time.</p>
+ *
+ * <p>Each session records its turns, skipped turns, moves and turn latency in its own
+ * {@link EngineMetrics}. The tile actions are not counted, since the state only keeps
+ * the kind of each action, not the action itself.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.1.0
+ * @since 0.8.0
+ */
+public class GameSession {
+  private final long sessionId;
+  private final GameState state;
+  private final Dice dice;
+  private final Executor executor;
+  private final EngineMetrics metrics;
+  private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean running = new AtomicBoolean();
+  private volatile long lastActive;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a {@code GameSession}.
+   *
+   * @param sessionId the ID of the session
+   * @param state the state of the game
+   * @param dice the dice of the game
+   * @param executor the executor that runs the commands
+   * @param metrics the metrics the turns are recorded in
+   */
+  GameSession(long sessionId, GameState state, Dice dice, Executor executor,
+              EngineMetrics metrics) {
+    this.sessionId = sessionId;
+    this.state = state;
+    this.dice = dice;
+    this.executor = executor;
+    this.metrics = metrics;
+    this.lastActive = System.nanoTime();
+  }
+
+  /**
+   * Adds a command to the queue of the session.
+   *
+   * <p>The command gets the state of the game, and its result completes the returned
+   * future. If the command throws an exception or an error, the future completes
+   * with it, and the session goes on with the next command.</p>
+   *
+   * @param command the command to run
+   * @param <T> the type of the result
+   * @return a future completed with the result of the command
+   */
+  <T> CompletableFuture<T> submit(Function<GameState, T> command) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    if (closed) {
+      result.completeExceptionally(new IllegalStateException(
+          "Session " + sessionId + " is closed"));
+      return result;
+    }
+    commands.add(() -> {
+      if (closed) {
+        result.completeExceptionally(new IllegalStateException(
+            "Session " + sessionId + " is closed"));
+        return;
+      }
+      try {
+        result.complete(command.apply(state));
+      } catch (Throwable e) {
+        result.completeExceptionally(e);
+      }
+    });
+    schedule();
+    return result;
+  }
+
+  /**
+   * Rolls the dice and plays the turn of the current player.
+   *
+   * @return a future completed with the result of the turn
+   */
+  CompletableFuture<TurnResult> play() {
+    return submit(gameState -> {
+      long start = metrics.startTimer();
+      int player = gameState.getCurrentPlayer();
+      boolean skipped = gameState.isSkipped(player);
+      int steps = skipped || gameState.isFinished() ? 0 : dice.roll();
+      if (gameState.playTurn(steps) != GameState.NO_WINNER) {
+        if (!skipped) {
+          metrics.recordMove(EngineMetrics.NOT_TIMED);
+        }
+        metrics.recordTurn(start, skipped);
+      }
+      return new TurnResult(sessionId, player, steps, gameState.getPosition(player),
+          gameState.getBalance(player), skipped, gameState.getWinner() == player);
+    });
+  }
+
+  /**
+   * Starts a task to run the queue, unless one is already running.
+   */
+  private void schedule() {
+    if (running.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::runCommands);
+      } catch (RuntimeException e) {
+        running.set(false);
+        closed = true;
+        failCommands();
+      }
+    }
+  }
+
+  /**
+   * Runs the commands in the queue until it is empty.
+   *
+   * <p>A command added after the queue was found empty, but before the task
+   * stopped, is picked up by starting a new task.</p>
+   */
+  private void runCommands() {
+    try {
+      Runnable command;
+      while ((command = commands.poll()) != null) {
+        command.run();
+      }
+    } finally {
+      lastActive = System.nanoTime();
+      running.set(false);
+    }
+    if (!commands.isEmpty()) {
+      schedule();
+    }
+  }
+
+  /**
+   * Runs the commands left in the queue, which fail because the session is closed.
+   */
+  private void failCommands() {
+    Runnable command;
+    while ((command = commands.poll()) != null) {
+      command.run();
+    }
+  }
+
+  /**
+   * Closes the session. Commands still in the queue fail, and new commands are refused.
+   */
+  void close() {
+    closed = true;
+    if (running.compareAndSet(false, true)) {
+      failCommands();
+      running.set(false);
+    }
+  }
+
+  /**
+   * Returns the time the session last ran its commands, from {@link System#nanoTime()}.
+   *
+   * @return the time the session was last active
+   */
+  long getLastActive() {
+    return lastActive;
+  }
+
+  /**
+   * Checks if the session is running its commands right now.
+   *
+   * @return true if a task is running the queue
+   */
+  boolean isRunning() {
+    return running.get();
+  }
+
+  /**
+   * Returns the metrics of the session.
+   *
+   * @return the metrics
+   */
+  public EngineMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Returns the ID of the session.
+   *
+   * @return the session ID
+   */
+  public long getSessionId() {
+    return sessionId;
+  }
+
+  /**
+   * Checks if the session is closed.
+   *
+   * @return true if the session is closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+}
@@ -0,0 +1,293 @@
+package edu.ntnu.idi.bidata.model.session;
+
+import edu.ntnu.idi.bidata.model.engine.BoardTemplate;
+import edu.ntnu.idi.bidata.model.engine.Dice;
+import edu.ntnu.idi.bidata.model.engine.GameState;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import edu.ntnu.idi.bidata.model.metrics.MetricsRegistry;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hosts many games in one JVM, each in its own {@link GameSession}.
+ *
+ * <p>Sessions are created on a shared {@link BoardTemplate} and found by their session
+ * ID. Each session keeps its own {@link GameState} and dice, so a table only takes a few
+ * small arrays, and hundreds of thousands of tables fit in one JVM. The commands of a
+ * session run one at a time on virtual threads, so a slow table never blocks the
+ * others.</p>
+ *
+ * <p>The dice of every session are split from one {@link SplittableRandom}, so a manager
+ * created with a seed creates the same sessions every run. Sessions stay until they are
+ * evicted, or until the manager is closed.</p>
+ *
+ * <p>The {@link EngineMetrics} of each session are kept in a {@link MetricsRegistry}
+ * under the name {@code Session <id>}, from when the session is created until it is
+ * evicted, so the turns, moves and actions of every table can be watched. They pass
+ * everything on to the metrics of all the sessions, kept under the name
+ * {@value #ALL_SESSIONS_METRICS}, which hold the only latency histograms. This keeps
+ * the metrics of a session to a few hundred bytes. Give the manager a registry with an
+ * MBean server to show them in JMX. The session IDs start at 1 in every manager, so a
+ * registry should only be given to one manager.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.1.2
+ * @since 0.8.0
+ */
+public class GameSessionManager implements AutoCloseable {
+  /**
+   * The name the metrics of all the sessions are kept under in the registry.
+   */
+  public static final String ALL_SESSIONS_METRICS = "Sessions";
+
+  private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+  private final AtomicLong nextSessionId = new AtomicLong(1);
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final SplittableRandom random;
+  private final MetricsRegistry metricsRegistry;
+
+  /**
+   * Constructs a {@code GameSessionManager} with unseeded dice, that keeps the metrics
+   * of the sessions without showing them in JMX.
+   */
+  public GameSessionManager() {
+    this.random = new SplittableRandom();
+    this.metricsRegistry = new MetricsRegistry();
+  }
+
+  /**
+   * Constructs a {@code GameSessionManager} with dice split from the given generator,
+   * that keeps the metrics of the sessions without showing them in JMX.
+   *
+   * @param random the generator the dice of the sessions are split from
+   * @throws NullOrBlankException if the random generator is null
+   */
+  public GameSessionManager(SplittableRandom random) throws NullOrBlankException {
+    this(random, new MetricsRegistry());
+  }
+
+  /**
+   * Constructs a {@code GameSessionManager} with dice split from the given generator,
+   * that keeps the metrics of the sessions in the given registry.
+   *
+   * @param random the generator the dice of the sessions are split from
+   * @param metricsRegistry the registry the metrics of the sessions are kept in
+   * @throws NullOrBlankException if the random generator or the registry is null
+   */
+  public GameSessionManager(SplittableRandom random, MetricsRegistry metricsRegistry)
+      throws NullOrBlankException {
+    if (random == null) {
+      throw new NullOrBlankException("The random generator can not be null.");
+    }
+    if (metricsRegistry == null) {
+      throw new NullOrBlankException("The metrics registry can not be null.");
+    }
+    this.random = random;
+    this.metricsRegistry = metricsRegistry;
+  }
+
+  /**
+   * Creates a session with every player on the start tile, and registers its metrics.
+   * The game is won by the rule {@link GameState.WinRule#of(BoardTemplate)} picks for
+   * the board: the last tile in Snakes and Ladders, the balance in Monopoly.
+   *
+   * @param template the board to play on
+   * @param numberOfPlayers the number of players
+   * @param numberOfDice the number of dice rolled each turn
+   * @return the ID of the new session
+   * @throws NullOrBlankException if the template is null
+   * @throws IntegerException if the number of players or dice is less than 1
+   */
+  public long createSession(BoardTemplate template, int numberOfPlayers, int numberOfDice)
+      throws NullOrBlankException {
+    if (template == null) {
+      throw new NullOrBlankException("The board template can not be null.");
+    }
+    return createSession(template, numberOfPlayers, numberOfDice,
+        GameState.WinRule.of(template));
+  }
+
+  /**
+   * Creates a session with every player on the start tile, and registers its metrics.
+   *
+   * @param template the board to play on
+   * @param numberOfPlayers the number of players
+   * @param numberOfDice the number of dice rolled each turn
+   * @param winRule how a player wins the game
+   * @return the ID of the new session
+   * @throws NullOrBlankException if the template or the rule is null
+   * @throws IntegerException if the number of players or dice is less than 1
+   */
+  public long createSession(BoardTemplate template, int numberOfPlayers, int numberOfDice,
+                            GameState.WinRule winRule) throws NullOrBlankException {
+    if (numberOfDice <= 0) {
+      throw new IntegerException("Number of dice must be greater than 0");
+    }
+    GameState state = new GameState(template, numberOfPlayers, winRule);
+    SplittableRandom sessionRandom;
+    synchronized (random) {
+      sessionRandom = random.split();
+    }
+    long sessionId = nextSessionId.getAndIncrement();
+    EngineMetrics metrics = new EngineMetrics(getMetricsName(sessionId),
+        metricsRegistry.getOrCreate(ALL_SESSIONS_METRICS));
+    metricsRegistry.add(metrics);
+    sessions.put(sessionId, new GameSession(sessionId, state,
+        new Dice(numberOfDice, sessionRandom), executor, metrics));
+    return sessionId;
+  }
+
+  /**
+   * Rolls the dice and plays the turn of the current player of a session.
+   *
+   * @param sessionId the ID of the session
+   * @return a future completed with the result of the turn, or failed with an
+   *     {@link IntegerException} if there is no session with the ID
+   */
+  public CompletableFuture<TurnResult> play(long sessionId) {
+    GameSession session = sessions.get(sessionId);
+    if (session == null) {
+      return CompletableFuture.failedFuture(unknownSession(sessionId));
+    }
+    return session.play();
+  }
+
+  /**
+   * Runs a command on the state of a session, after the commands already queued.
+   *
+   * <p>The command must not keep the state, since it is only safe to use inside
+   * the command.</p>
+   *
+   * @param sessionId the ID of the session
+   * @param command the command to run
+   * @param <T> the type of the result
+   * @return a future completed with the result of the command, or failed with an
+   *     {@link IntegerException} if there is no session with the ID
+   */
+  public <T> CompletableFuture<T> submit(long sessionId, Function<GameState, T> command) {
+    GameSession session = sessions.get(sessionId);
+    if (session == null) {
+      return CompletableFuture.failedFuture(unknownSession(sessionId));
+    }
+    return session.submit(command);
+  }
+
+  /**
+   * Removes a session and closes it, and removes its metrics. Commands still queued
+   * for it fail.
+   *
+   * @param sessionId the ID of the session
+   * @return true if the session was removed, false if there was no session with the ID
+   */
+  public boolean evict(long sessionId) {
+    GameSession session = sessions.remove(sessionId);
+    if (session == null) {
+      return false;
+    }
+    session.close();
+    metricsRegistry.remove(getMetricsName(sessionId));
+    return true;
+  }
+
+  /**
+   * Removes every session that has not run a command for the given time.
+   *
+   * @param maxIdle the longest time a session may be idle
+   * @return the number of sessions removed
+   * @throws NullOrBlankException if the time is null
+   */
+  public int evictIdle(Duration maxIdle) throws NullOrBlankException {
+    if (maxIdle == null) {
+      throw new NullOrBlankException("The idle time can not be null.");
+    }
+    long now = System.nanoTime();
+    long limit = maxIdle.toNanos();
+    int evicted = 0;
+    for (GameSession session : sessions.values()) {
+      if (!session.isRunning() && now - session.getLastActive() >= limit
+          && evict(session.getSessionId())) {
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * Returns the metrics of a session.
+   *
+   * @param sessionId the ID of the session
+   * @return the metrics, or {@code null} if there is no session with the ID
+   */
+  public EngineMetrics getMetrics(long sessionId) {
+    GameSession session = sessions.get(sessionId);
+    return session == null ? null : session.getMetrics();
+  }
+
+  /**
+   * Returns the metrics of all the sessions, with the latencies of every session.
+   *
+   * @return the metrics, or {@code null} if no session has been created
+   */
+  public EngineMetrics getAllMetrics() {
+    return metricsRegistry.get(ALL_SESSIONS_METRICS);
+  }
+
+  /**
+   * Returns the name the metrics of a session are kept under in the registry.
+   *
+   * @param sessionId the ID of the session
+   * @return the name of the metrics
+   */
+  public static String getMetricsName(long sessionId) {
+    return "Session " + sessionId;
+  }
+
+  /**
+   * Checks if there is a session with the given ID.
+   *
+   * @param sessionId the ID of the session
+   * @return true if the session exists
+   */
+  public boolean hasSession(long sessionId) {
+    return sessions.containsKey(sessionId);
+  }
+
+  /**
+   * Returns the number of sessions.
+   *
+   * @return the number of sessions
+   */
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Closes every session, waits for the running commands to finish, and removes the
+   * metrics of all the sessions.
+   */
+  @Override
+  public void close() {
+    sessions.keySet().forEach(this::evict);
+    executor.close();
+    metricsRegistry.remove(ALL_SESSIONS_METRICS);
+  }
+
+  /**
+   * Creates the exception for a session ID that is not in the manager.
+   *
+   * @param sessionId the ID of the session
+   * @return the exception
+   */
+  private static IntegerException unknownSession(long sessionId) {
+    return new IntegerException("There is no session with id " + sessionId);
+  }
+}
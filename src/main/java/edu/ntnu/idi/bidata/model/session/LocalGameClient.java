@@ -0,0 +1,152 @@
+package edu.ntnu.idi.bidata.model.session;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardCache;
+import edu.ntnu.idi.bidata.model.engine.BoardTemplate;
+import edu.ntnu.idi.bidata.model.engine.GameState;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * An in-process client for a {@link GameSessionManager}, for tests and tools.
+ *
+ * <p>The client opens tables on board files through the {@link BoardCache}, so all
+ * tables on the same file share one {@link BoardTemplate}. Every call waits for the
+ * command to run in its session and returns the result, and an exception thrown by the
+ * command is thrown again by the call. Many clients can use the same manager at the
+ * same time.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public class LocalGameClient {
+  private final GameSessionManager manager;
+
+  /**
+   * Constructs a {@code LocalGameClient}.
+   *
+   * @param manager the manager hosting the tables
+   * @throws NullOrBlankException if the manager is null
+   */
+  public LocalGameClient(GameSessionManager manager) throws NullOrBlankException {
+    if (manager == null) {
+      throw new NullOrBlankException("The session manager can not be null.");
+    }
+    this.manager = manager;
+  }
+
+  /**
+   * Opens a table on a board file.
+   *
+   * @param boardFile the path to the board file
+   * @param numberOfPlayers the number of players
+   * @param numberOfDice the number of dice rolled each turn
+   * @return the ID of the table
+   * @throws IOException if the board could not be read
+   * @throws NullOrBlankException if the board is not valid
+   */
+  public long openTable(Path boardFile, int numberOfPlayers, int numberOfDice)
+      throws IOException, NullOrBlankException {
+    return manager.createSession(BoardCache.getTemplate(boardFile), numberOfPlayers,
+        numberOfDice);
+  }
+
+  /**
+   * Rolls the dice for the current player of a table and waits for the result.
+   *
+   * @param tableId the ID of the table
+   * @return the result of the turn
+   */
+  public TurnResult roll(long tableId) {
+    return await(manager.play(tableId));
+  }
+
+  /**
+   * Plays a table until a player wins, or until the number of turns is reached.
+   *
+   * @param tableId the ID of the table
+   * @param maxTurns the highest number of turns to play
+   * @return the result of the last turn played, or null if no turn was played
+   */
+  public TurnResult playToEnd(long tableId, long maxTurns) {
+    TurnResult result = null;
+    for (long turn = 0; turn < maxTurns; turn++) {
+      result = roll(tableId);
+      if (result.finished()) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the IDs of the tiles the players of a table are on.
+   *
+   * @param tableId the ID of the table
+   * @return the tile ID of each player, by player index
+   */
+  public int[] getPositions(long tableId) {
+    return query(tableId, state -> {
+      int[] positions = new int[state.getNumberOfPlayers()];
+      for (int player = 0; player < positions.length; player++) {
+        positions[player] = state.getPosition(player);
+      }
+      return positions;
+    });
+  }
+
+  /**
+   * Returns the index of the player who won a table.
+   *
+   * @param tableId the ID of the table
+   * @return the index of the winner, or {@link GameState#NO_WINNER} if no one has won
+   */
+  public int getWinner(long tableId) {
+    return query(tableId, GameState::getWinner);
+  }
+
+  /**
+   * Reads a value from the state of a table, after the commands already queued.
+   *
+   * @param tableId the ID of the table
+   * @param query the function reading the value
+   * @param <T> the type of the value
+   * @return the value
+   */
+  public <T> T query(long tableId, Function<GameState, T> query) {
+    return await(manager.submit(tableId, query));
+  }
+
+  /**
+   * Closes a table.
+   *
+   * @param tableId the ID of the table
+   * @return true if the table was closed, false if there was no table with the ID
+   */
+  public boolean closeTable(long tableId) {
+    return manager.evict(tableId);
+  }
+
+  /**
+   * Waits for a command and returns its result.
+   *
+   * @param future the future of the command
+   * @param <T> the type of the result
+   * @return the result
+   * @throws RuntimeException the exception thrown by the command
+   */
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
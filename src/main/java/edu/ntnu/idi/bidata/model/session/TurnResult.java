@@ -0,0 +1,21 @@
+package edu.ntnu.idi.bidata.model.session;
+
+/**
+ * The result of one turn played in a {@link GameSession}.
+ *
+ * @param sessionId the ID of the session the turn was played in
+ * @param player the index of the player who played the turn
+ * @param steps the number of steps rolled, or 0 if the turn was skipped
+ * @param tileId the ID of the tile the player ended on
+ * @param balance the balance of the player after the turn
+ * @param skipped true if the player lost the turn to a skip
+ * @param finished true if the player won the game with this turn, by the
+ *     {@link edu.ntnu.idi.bidata.model.engine.GameState.WinRule} of the session
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public record TurnResult(long sessionId, int player, int steps, int tileId, int balance,
+                         boolean skipped, boolean finished) {
+}
@@ -0,0 +1,147 @@
+package edu.ntnu.idi.bidata.model.simulation;
+
+import edu.ntnu.idi.bidata.model.engine.BoardGame;
+import edu.ntnu.idi.bidata.model.engine.CompiledBoard;
+import edu.ntnu.idi.bidata.model.engine.Die;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays complete games of Snakes and Ladders without a user interface.
+ *
+ * <p>The simulator drives a {@link BoardGame} by calling {@link BoardGame#play()}
+ * until a player reaches the last tile. No observers are registered, so no
+ * JavaFX code is involved. The results are collected in
+ * {@link SimulationStatistics}.</p>
+ *
+ * <p>The {@link Board} is only read while playing, so the same board and its
+ * {@link CompiledBoard} jump table are reused for every game played by this
+ * simulator.</p>
+ *
+ * <p>All games roll their dice with the same {@link RandomGenerator}, so a
+ * simulator created with a seeded generator plays the same games every run.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public class GameSimulator {
+  /**
+   * Upper limit of turns in one game, so a board without a path to the
+   * last tile does not run forever.
+   */
+  public static final int MAX_TURNS_PER_GAME = 100_000;
+
+  private static final String[] PLAYER_COLORS = {"RED", "BLUE", "GREEN", "YELLOW"};
+
+  private final Board board;
+  private final CompiledBoard compiledBoard;
+  private final int numberOfPlayers;
+  private final int numberOfDice;
+  private final RandomGenerator random;
+
+  /**
+   * Constructs a {@code GameSimulator} rolling with an unseeded random generator.
+   *
+   * @param board the board to play on
+   * @param numberOfPlayers the number of players in each game
+   * @param numberOfDice the number of dice rolled each turn
+   * @throws NullOrBlankException if the board is null
+   * @throws IntegerException if the number of players or dice is less than 1
+   */
+  public GameSimulator(Board board, int numberOfPlayers, int numberOfDice)
+      throws NullOrBlankException {
+    this(board, numberOfPlayers, numberOfDice, new SplittableRandom());
+  }
+
+  /**
+   * Constructs a {@code GameSimulator} rolling with the given random generator.
+   *
+   * @param board the board to play on
+   * @param numberOfPlayers the number of players in each game
+   * @param numberOfDice the number of dice rolled each turn
+   * @param random the random generator the dice roll with
+   * @throws NullOrBlankException if the board or the random generator is null
+   * @throws IntegerException if the number of players or dice is less than 1
+   */
+  public GameSimulator(Board board, int numberOfPlayers, int numberOfDice,
+                       RandomGenerator random) throws NullOrBlankException {
+    if (board == null) {
+      throw new NullOrBlankException("The board can not be null.");
+    }
+    if (random == null) {
+      throw new NullOrBlankException("The random generator can not be null.");
+    }
+    if (numberOfPlayers <= 0) {
+      throw new IntegerException("Number of players must be greater than 0");
+    }
+    if (numberOfDice <= 0) {
+      throw new IntegerException("Number of dice must be greater than 0");
+    }
+    this.board = board;
+    this.compiledBoard = CompiledBoard.compile(board, numberOfDice * Die.SIDES);
+    this.numberOfPlayers = numberOfPlayers;
+    this.numberOfDice = numberOfDice;
+    this.random = random;
+  }
+
+  /**
+   * Plays a number of games and returns the collected statistics.
+   *
+   * @param numberOfGames the number of games to play
+   * @return the statistics of the games played
+   * @throws NullOrBlankException if a game could not be set up
+   */
+  public SimulationStatistics run(long numberOfGames) throws NullOrBlankException {
+    SimulationStatistics statistics =
+        new SimulationStatistics(numberOfPlayers, board.getTileCount());
+    for (long i = 0; i < numberOfGames; i++) {
+      playGame(statistics);
+    }
+    return statistics;
+  }
+
+  /**
+   * Plays a single game to the end and records the result.
+   *
+   * @param statistics the statistics to record the result in
+   * @throws NullOrBlankException if the game could not be set up
+   */
+  private void playGame(SimulationStatistics statistics) throws NullOrBlankException {
+    BoardGame game = createGame();
+    long turns = 0;
+    while (!game.isFinished() && turns < MAX_TURNS_PER_GAME) {
+      Player currentPlayer = game.getCurrentPlayer();
+      game.play();
+      statistics.recordVisit(currentPlayer.getCurrentTile().getTileId());
+      turns++;
+    }
+    int winnerIndex = game.isFinished()
+        ? game.getPlayers().indexOf(game.getCurrentPlayer()) : -1;
+    statistics.recordGame(winnerIndex, turns);
+  }
+
+  /**
+   * Creates a new {@link BoardGame} with the players placed on the first tile.
+   *
+   * @return the new game
+   * @throws NullOrBlankException if the board is null
+   */
+  private BoardGame createGame() throws NullOrBlankException {
+    BoardGame game = new BoardGame();
+    game.createBoard(board);
+    game.createDice(numberOfDice, random);
+    game.setCompiledBoard(compiledBoard);
+    for (int i = 0; i < numberOfPlayers; i++) {
+      Player player = new Player("Player " + (i + 1),
+          PLAYER_COLORS[i % PLAYER_COLORS.length], game);
+      player.placeOnTile(board.getTileById(1));
+      game.addPlayer(player);
+    }
+    return game;
+  }
+}
@@ -0,0 +1,161 @@
+package edu.ntnu.idi.bidata.model.simulation;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays simulated games in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>The number of games is split in halves until each part is small enough,
+ * and every part is played by its own {@link GameSimulator}. Each part gets
+ * a new {@link Board} from the board supplier, and creates its own players
+ * and dice, so no game objects are shared between threads. The results of
+ * the parts are merged into one {@link SimulationStatistics}.</p>
+ *
+ * <p>Every part rolls with its own {@link SplittableRandom}, split from the
+ * random generator of the part it came from. The parts never share a
+ * generator, and since the split tree only depends on the number of games,
+ * a simulation started from the same seed always gives the same result.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public class ParallelGameSimulator {
+  /**
+   * The smallest number of games played by one part of the simulation.
+   */
+  private static final long MIN_GAMES_PER_TASK = 1_000;
+
+  /**
+   * The number of parts the games are split into. This gives every thread
+   * several parts up to 32 threads, so threads that finish early can steal work.
+   * It does not depend on the parallelism, so the split is the same on every host.
+   */
+  private static final int NUMBER_OF_TASKS = 256;
+
+  private final Supplier<Board> boardSupplier;
+  private final int numberOfPlayers;
+  private final int numberOfDice;
+  private final int parallelism;
+
+  /**
+   * Constructs a {@code ParallelGameSimulator}.
+   *
+   * @param boardSupplier creates a new board for each part of the simulation. It is
+   *     called once per part, inside the timed run, so it should be cheap, like
+   *     {@code board::copy} on a board read once, rather than reading a file
+   * @param numberOfPlayers the number of players in each game
+   * @param numberOfDice the number of dice rolled each turn
+   * @param parallelism the number of threads to use
+   * @throws NullOrBlankException if the board supplier is null
+   * @throws IntegerException if the number of players, dice or threads is less than 1
+   */
+  public ParallelGameSimulator(Supplier<Board> boardSupplier, int numberOfPlayers,
+                               int numberOfDice, int parallelism) throws NullOrBlankException {
+    if (boardSupplier == null) {
+      throw new NullOrBlankException("The board supplier can not be null.");
+    }
+    if (numberOfPlayers <= 0) {
+      throw new IntegerException("Number of players must be greater than 0");
+    }
+    if (numberOfDice <= 0) {
+      throw new IntegerException("Number of dice must be greater than 0");
+    }
+    if (parallelism <= 0) {
+      throw new IntegerException("Parallelism must be greater than 0");
+    }
+    this.boardSupplier = boardSupplier;
+    this.numberOfPlayers = numberOfPlayers;
+    this.numberOfDice = numberOfDice;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Plays a number of games in parallel and returns the merged statistics.
+   *
+   * @param numberOfGames the number of games to play
+   * @return the statistics of all games played
+   */
+  public SimulationStatistics run(long numberOfGames) {
+    return run(numberOfGames, new SplittableRandom());
+  }
+
+  /**
+   * Plays a number of games in parallel from a seed and returns the merged statistics.
+   *
+   * <p>Running with the same seed and number of games gives the same result,
+   * regardless of the parallelism.</p>
+   *
+   * @param numberOfGames the number of games to play
+   * @param seed the seed of the random generator
+   * @return the statistics of all games played
+   */
+  public SimulationStatistics run(long numberOfGames, long seed) {
+    return run(numberOfGames, new SplittableRandom(seed));
+  }
+
+  /**
+   * Plays the games on a new {@link ForkJoinPool}.
+   *
+   * @param numberOfGames the number of games to play
+   * @param random the random generator the first part starts from
+   * @return the statistics of all games played
+   */
+  private SimulationStatistics run(long numberOfGames, SplittableRandom random) {
+    long gamesPerTask = Math.max(MIN_GAMES_PER_TASK, numberOfGames / NUMBER_OF_TASKS);
+    try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+      return pool.invoke(new SimulationTask(numberOfGames, gamesPerTask, random));
+    }
+  }
+
+  /**
+   * A part of the simulation, which either plays its games or splits them in two.
+   */
+  private class SimulationTask extends RecursiveTask<SimulationStatistics> {
+    private final long numberOfGames;
+    private final long gamesPerTask;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a {@code SimulationTask}.
+     *
+     * @param numberOfGames the number of games in this part
+     * @param gamesPerTask the number of games that is played without splitting
+     * @param random the random generator owned by this part
+     */
+    SimulationTask(long numberOfGames, long gamesPerTask, SplittableRandom random) {
+      this.numberOfGames = numberOfGames;
+      this.gamesPerTask = gamesPerTask;
+      this.random = random;
+    }
+
+    /**
+     * Plays the games of this part, or splits it and merges the results.
+     *
+     * @return the statistics of the games in this part
+     */
+    @Override
+    protected SimulationStatistics compute() {
+      if (numberOfGames <= gamesPerTask) {
+        try {
+          return new GameSimulator(boardSupplier.get(), numberOfPlayers, numberOfDice, random)
+              .run(numberOfGames);
+        } catch (NullOrBlankException e) {
+          throw new IllegalStateException("Could not set up simulation: " + e.getMessage(), e);
+        }
+      }
+      long half = numberOfGames / 2;
+      SimulationTask left = new SimulationTask(half, gamesPerTask, random.split());
+      SimulationTask right = new SimulationTask(numberOfGames - half, gamesPerTask, random);
+      left.fork();
+      SimulationStatistics rightStatistics = right.compute();
+      return left.join().merge(rightStatistics);
+    }
+  }
+}
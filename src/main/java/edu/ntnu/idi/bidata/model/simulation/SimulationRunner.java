@@ -0,0 +1,86 @@
+package edu.ntnu.idi.bidata.model.simulation;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileConverter;
+import edu.ntnu.idi.bidata.model.analysis.MarkovChainSolver;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Command line entry point for running simulations without the GUI.
+ *
+ * <p>Usage:</p>
+ * <pre>SimulationRunner [boardFile] [numberOfGames] [numberOfPlayers] [numberOfDice]
+ *     [parallelism] [seed]</pre>
+ *
+ * <p>Defaults to 100 000 games with 2 players and 2 dice on the easy
+ * Snakes and Ladders board, played on one thread. With a parallelism above 1
+ * the games are played by a {@link ParallelGameSimulator}. Giving a seed
+ * makes the run reproducible. The exact expected number of turns for one
+ * player, found by the {@link MarkovChainSolver}, is printed for comparison.</p>
+ *
+ * <p>The board file is read once, before the games are timed. Each part of a
+ * parallel simulation plays on its own {@link Board#copy() copy} of the board.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public class SimulationRunner {
+  // Prevent instantiation
+  private SimulationRunner() {}
+
+  /**
+   * Reads the board, runs the simulation and prints the report.
+   *
+   * @param args the command line arguments
+   * @throws NullOrBlankException if the games could not be set up
+   */
+  public static void main(String[] args) throws NullOrBlankException {
+    String boardFile = args.length > 0
+        ? args[0] : Constants.SNAKES_AND_LADDERS_EASY_BOARD_FILE_PATH;
+    long numberOfGames = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+    int numberOfPlayers = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+    int numberOfDice = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+    int parallelism = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+    SplittableRandom random = args.length > 5
+        ? new SplittableRandom(Long.parseLong(args[5])) : new SplittableRandom();
+
+    Board board = readBoard(boardFile);
+    long start = System.nanoTime();
+    SimulationStatistics statistics;
+    if (parallelism > 1) {
+      statistics = new ParallelGameSimulator(board::copy,
+          numberOfPlayers, numberOfDice, parallelism).run(numberOfGames, random.nextLong());
+    } else {
+      statistics = new GameSimulator(board.copy(), numberOfPlayers, numberOfDice,
+          random).run(numberOfGames);
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    System.out.print(statistics.getReport());
+    System.out.printf("Time: %.3f s (%.0f turns/s)%n",
+        seconds, statistics.getTotalTurns() / seconds);
+    System.out.printf("Exact expected turns for one player: %.3f%n",
+        new MarkovChainSolver(board, numberOfDice).getExpectedTurns());
+  }
+
+  /**
+   * Reads a board from a JSON file, or from a file in the binary board format.
+   *
+   * @param boardFile the path to the board file
+   * @return the board read from the file
+   * @throws UncheckedIOException if the board could not be read
+   */
+  private static Board readBoard(String boardFile) {
+    try {
+      return BoardFileConverter.readBoard(Path.of(boardFile));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package edu.ntnu.idi.bidata.model.simulation;
+
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+
+/**
+ * Collects the results of a batch of simulated games.
+ *
+ * <p>The statistics include how many games each seat won, the total number
+ * of turns played and how often a turn ended on each tile of the board.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public class SimulationStatistics {
+  private final long[] wins;
+  private final long[] tileVisits;
+  private long gamesPlayed;
+  private long unfinishedGames;
+  private long totalTurns;
+
+  /**
+   * Constructs an empty {@code SimulationStatistics}.
+   *
+   * @param numberOfPlayers the number of players in each game
+   * @param tileCount the number of tiles on the board
+   * @throws IntegerException if the number of players or tiles is less than 1
+   */
+  public SimulationStatistics(int numberOfPlayers, int tileCount) throws IntegerException {
+    if (numberOfPlayers <= 0) {
+      throw new IntegerException("Number of players must be greater than 0");
+    }
+    if (tileCount <= 0) {
+      throw new IntegerException("Tile count must be greater than 0");
+    }
+    wins = new long[numberOfPlayers];
+    tileVisits = new long[tileCount + 1];
+  }
+
+  /**
+   * Records a finished game.
+   *
+   * @param winnerIndex the seat of the player who won, or -1 if the game was not finished
+   * @param turns the number of turns played in the game
+   */
+  public void recordGame(int winnerIndex, long turns) {
+    gamesPlayed++;
+    totalTurns += turns;
+    if (winnerIndex < 0) {
+      unfinishedGames++;
+    } else {
+      wins[winnerIndex]++;
+    }
+  }
+
+  /**
+   * Records that a turn ended on the given tile.
+   *
+   * @param tileId the ID of the tile
+   */
+  public void recordVisit(int tileId) {
+    if (tileId > 0 && tileId < tileVisits.length) {
+      tileVisits[tileId]++;
+    }
+  }
+
+  /**
+   * Adds the results of another {@code SimulationStatistics} to this one.
+   *
+   * <p>Used to combine the results of simulations played in parallel.</p>
+   *
+   * @param other the statistics to add
+   * @return this statistics, with the results of {@code other} added
+   * @throws IntegerException if the number of players or tiles does not match
+   */
+  public SimulationStatistics merge(SimulationStatistics other) throws IntegerException {
+    if (other.wins.length != wins.length || other.tileVisits.length != tileVisits.length) {
+      throw new IntegerException("Can not merge statistics of different games");
+    }
+    gamesPlayed += other.gamesPlayed;
+    unfinishedGames += other.unfinishedGames;
+    totalTurns += other.totalTurns;
+    for (int i = 0; i < wins.length; i++) {
+      wins[i] += other.wins[i];
+    }
+    for (int i = 0; i < tileVisits.length; i++) {
+      tileVisits[i] += other.tileVisits[i];
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number of games played.
+   *
+   * @return the number of games played
+   */
+  public long getGamesPlayed() {
+    return gamesPlayed;
+  }
+
+  /**
+   * Returns the number of games that hit the turn limit without a winner.
+   *
+   * @return the number of unfinished games
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Returns the total number of turns played in all games.
+   *
+   * @return the total number of turns
+   */
+  public long getTotalTurns() {
+    return totalTurns;
+  }
+
+  /**
+   * Returns the average number of turns per game.
+   *
+   * @return the average number of turns, or 0 if no games are played
+   */
+  public double getAverageTurns() {
+    return gamesPlayed == 0 ? 0 : (double) totalTurns / gamesPlayed;
+  }
+
+  /**
+   * Returns the number of players in each game.
+   *
+   * @return the number of players
+   */
+  public int getNumberOfPlayers() {
+    return wins.length;
+  }
+
+  /**
+   * Returns the number of games won by a seat.
+   *
+   * @param playerIndex the seat of the player, starting at 0
+   * @return the number of games won
+   */
+  public long getWins(int playerIndex) {
+    return wins[playerIndex];
+  }
+
+  /**
+   * Returns the share of the games won by a seat.
+   *
+   * @param playerIndex the seat of the player, starting at 0
+   * @return the win rate between 0 and 1
+   */
+  public double getWinRate(int playerIndex) {
+    return gamesPlayed == 0 ? 0 : (double) wins[playerIndex] / gamesPlayed;
+  }
+
+  /**
+   * Returns the number of tiles on the board.
+   *
+   * @return the number of tiles
+   */
+  public int getTileCount() {
+    return tileVisits.length - 1;
+  }
+
+  /**
+   * Returns how many turns ended on a tile.
+   *
+   * @param tileId the ID of the tile
+   * @return the number of visits
+   */
+  public long getTileVisits(int tileId) {
+    return tileVisits[tileId];
+  }
+
+  /**
+   * Returns a report of the statistics that can be printed to the console.
+   *
+   * @return the report
+   */
+  public String getReport() {
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append("Games played: ").append(gamesPlayed).append("\n")
+        .append("Unfinished games: ").append(unfinishedGames).append("\n")
+        .append("Total turns: ").append(totalTurns).append("\n")
+        .append(String.format("Average turns: %.2f%n", getAverageTurns()));
+
+    stringBuilder.append("Win distribution:\n");
+    for (int i = 0; i < wins.length; i++) {
+      stringBuilder.append(String.format("  Player %d: %d (%.2f%%)%n",
+          i + 1, wins[i], getWinRate(i) * 100));
+    }
+
+    stringBuilder.append("Tile visits:\n");
+    for (int tileId = 1; tileId < tileVisits.length; tileId++) {
+      stringBuilder.append("  Tile ").append(tileId).append(": ")
+          .append(tileVisits[tileId]).append("\n");
+    }
+    return stringBuilder.toString();
+  }
+}
@@ -10,8 +10,11 @@ import edu.ntnu.idi.bidata.model.engine.Dice;
  * between objects so that when one object changes state, all its dependents are
  * notified and updated automatically.</p>
  *
+ * <p>A game that batches its notifications collects the turn into one {@link TurnEvent}
+ * and calls {@link #observerTurnPlayed(TurnEvent)} once, instead of the other methods.</p>
+ *
  * @author A. Sahoo, B.I. Høie
- * @version 0.1.0
+ * @version 0.2.0
  * @since 0.1.0
  */
 public interface BoardGameObserver {
@@ -60,4 +63,17 @@ public interface BoardGameObserver {
    * @param winner the total steps the player moved to win.
    */
   void observerPlayerWonInSnakesAndLadders(String name, boolean winner);
+
+  /**
+   * Notifies observers once at the end of a turn, when the game batches its notifications.
+   *
+   * <p>While the game batches its notifications, this is the only method called, so a
+   * view is redrawn at most once per turn. The other methods are only called when the
+   * game does not batch. Does nothing by default.</p>
+   *
+   * @param event what happened in the turn
+   */
+  default void observerTurnPlayed(TurnEvent event) {
+    // Observers that do not handle batched notifications ignore the event.
+  }
 }
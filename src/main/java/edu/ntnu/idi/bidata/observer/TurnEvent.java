@@ -0,0 +1,56 @@
+package edu.ntnu.idi.bidata.observer;
+
+import java.util.List;
+
+/**
+ * What happened in one turn of a {@code BoardGame}.
+ *
+ * <p>The event is created once, at the end of the turn, when the game batches its
+ * notifications. It holds copies of the values, so it can be handed to another thread,
+ * like the JavaFX Application Thread, while the game plays the next turn.</p>
+ *
+ * @param playerName the name of the player who had the turn
+ * @param dice the values of the dice rolled, empty if the turn was skipped
+ * @param fromTileId the ID of the tile the player started on, 0 if not on a tile
+ * @param toTileId the ID of the tile the player ended on, 0 if not on a tile
+ * @param turnSkipped true if the player lost the turn and did not move
+ * @param skipNextTurn true if the player has to skip the next turn
+ * @param balance the balance of the player after the turn
+ * @param wonSnakesAndLadders true if the player reached the last tile
+ * @param wonMonopoly true if the balance of the player reached the winning balance
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public record TurnEvent(String playerName,
+                        List<Integer> dice,
+                        int fromTileId,
+                        int toTileId,
+                        boolean turnSkipped,
+                        boolean skipNextTurn,
+                        int balance,
+                        boolean wonSnakesAndLadders,
+                        boolean wonMonopoly) {
+
+  /**
+   * Constructs a {@code TurnEvent} with a copy of the dice values.
+   */
+  public TurnEvent {
+    dice = List.copyOf(dice);
+  }
+
+  /**
+   * Returns the sum of the dice, which is the number of steps moved before
+   * the action of the tile.
+   *
+   * @return the sum of the dice
+   */
+  public int steps() {
+    int steps = 0;
+    for (int value : dice) {
+      steps += value;
+    }
+    return steps;
+  }
+}
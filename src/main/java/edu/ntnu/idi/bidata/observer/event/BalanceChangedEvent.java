@@ -0,0 +1,26 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+/**
+ * The balance of a player changed during the turn.
+ *
+ * @param turn the number of the turn
+ * @param playerName the name of the player
+ * @param oldBalance the balance before the turn
+ * @param newBalance the balance after the turn
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public record BalanceChangedEvent(long turn, String playerName, int oldBalance,
+                                  int newBalance) implements GameEvent {
+
+  /**
+   * Returns how much the balance changed, negative if money was lost.
+   *
+   * @return the new balance minus the old balance
+   */
+  public int change() {
+    return newBalance - oldBalance;
+  }
+}
@@ -0,0 +1,107 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded ring buffer that many threads can add to without locks, and one thread
+ * takes from.
+ *
+ * <p>Each slot has a sequence number telling whose turn it is to use the slot. A slot
+ * at position {@code p} is free for the writer of position {@code p} when its sequence
+ * is {@code p}, and holds an element for the reader when its sequence is {@code p + 1}.
+ * Writers claim a position with a compare-and-set on the tail, so a full buffer is
+ * found without waiting, and the reader frees a slot by moving its sequence one lap
+ * ahead.</p>
+ *
+ * @param <E> the type of the elements
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+class EventRingBuffer<E> {
+  private final AtomicReferenceArray<E> slots;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final int mask;
+  private long head;
+
+  /**
+   * Constructs an {@code EventRingBuffer}.
+   *
+   * @param capacity the highest number of elements, rounded up to a power of two,
+   *     and at least 2
+   */
+  EventRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    slots = new AtomicReferenceArray<>(size);
+    sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+    mask = size - 1;
+  }
+
+  /**
+   * Adds an element, if there is room for it. Can be called by any thread.
+   *
+   * @param element the element to add
+   * @return true if the element was added, false if the buffer is full
+   */
+  boolean offer(E element) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slots.set(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Takes the oldest element. Must only be called by the reading thread.
+   *
+   * @return the oldest element, or null if the buffer is empty
+   */
+  E poll() {
+    int index = (int) head & mask;
+    if (sequences.get(index) != head + 1) {
+      return null;
+    }
+    E element = slots.get(index);
+    slots.set(index, null);
+    sequences.set(index, head + mask + 1);
+    head++;
+    return element;
+  }
+
+  /**
+   * Checks if the buffer is empty. Must only be called by the reading thread.
+   *
+   * @return true if there is no element to take
+   */
+  boolean isEmpty() {
+    return sequences.get((int) head & mask) != head + 1;
+  }
+
+  /**
+   * Returns the number of slots in the buffer.
+   *
+   * @return the capacity
+   */
+  int capacity() {
+    return mask + 1;
+  }
+}
@@ -0,0 +1,38 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+/**
+ * Something that happened in a turn of a {@code BoardGame}.
+ *
+ * <p>A turn is published as a short sequence of events, in this order:</p>
+ * <ul>
+ *   <li>{@link TurnSkippedEvent} if the player lost the turn, and nothing else, or</li>
+ *   <li>{@link PlayerMovedEvent} with the tiles the player passed,</li>
+ *   <li>{@link TileActionEvent} if the tile the player stopped on has an action,</li>
+ *   <li>{@link BalanceChangedEvent} if the balance of the player changed,</li>
+ *   <li>{@link GameWonEvent} if the player won the game.</li>
+ * </ul>
+ *
+ * <p>The events are immutable, so subscribers can keep them and read them on any
+ * thread. Every event of a turn has the same turn number.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public sealed interface GameEvent permits TurnSkippedEvent, PlayerMovedEvent,
+    TileActionEvent, BalanceChangedEvent, GameWonEvent {
+
+  /**
+   * Returns the number of the turn, counted from 1 since the game was started.
+   *
+   * @return the turn number
+   */
+  long turn();
+
+  /**
+   * Returns the name of the player who had the turn.
+   *
+   * @return the name of the player
+   */
+  String playerName();
+}
@@ -0,0 +1,315 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Delivers {@link GameEvent}s to many subscribers without letting a slow subscriber
+ * stall the game.
+ *
+ * <p>Every subscriber has its own bounded {@link EventRingBuffer} and its own virtual
+ * thread that hands the events to the subscriber's handler, in the order they were
+ * published. Publishing only puts the event into each buffer, without locks, so the
+ * thread playing the game never waits for a handler. The subscribers are kept in a
+ * {@link CopyOnWriteArrayList}, so subscribing and cancelling while events are
+ * published is safe.</p>
+ *
+ * <p>When the buffer of a subscriber is full, its {@link OverflowPolicy} decides what
+ * happens: {@link OverflowPolicy#DROP} throws the new event away and counts it, and
+ * {@link OverflowPolicy#BLOCK} makes the publisher wait until there is room. Only
+ * subscribers that must not lose events, and are fast, should block.</p>
+ *
+ * <p>One bus can be shared by many games.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public class GameEventBus implements AutoCloseable {
+  /**
+   * The capacity of the buffer of a subscriber when none is given.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  /**
+   * What to do with an event when the buffer of a subscriber is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The event is not delivered to the subscriber, and counted as dropped.
+     */
+    DROP,
+
+    /**
+     * The publisher waits until the subscriber has taken an event from the buffer.
+     */
+    BLOCK
+  }
+
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+  private volatile boolean closed;
+
+  /**
+   * Adds a subscriber that drops events when its buffer is full.
+   *
+   * @param handler the handler of the events
+   * @return the subscription
+   * @throws NullOrBlankException if the handler is null
+   */
+  public Subscription subscribe(Consumer<? super GameEvent> handler)
+      throws NullOrBlankException {
+    return subscribe(handler, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+  }
+
+  /**
+   * Adds a subscriber. It gets the events published from now on.
+   *
+   * @param handler the handler of the events, called on the subscriber's own thread
+   * @param capacity the highest number of events waiting for the handler, rounded up
+   *     to a power of two
+   * @param policy what to do when the buffer is full
+   * @return the subscription
+   * @throws NullOrBlankException if the handler or the policy is null
+   * @throws IntegerException if the capacity is less than 1
+   * @throws IllegalStateException if the bus is closed
+   */
+  public Subscription subscribe(Consumer<? super GameEvent> handler, int capacity,
+                                OverflowPolicy policy) throws NullOrBlankException {
+    if (handler == null || policy == null) {
+      throw new NullOrBlankException("The handler and the policy can not be null.");
+    }
+    if (capacity <= 0) {
+      throw new IntegerException("Capacity must be greater than 0");
+    }
+    if (closed) {
+      throw new IllegalStateException("The event bus is closed");
+    }
+    Subscription subscription = new Subscription(handler, capacity, policy);
+    subscriptions.add(subscription);
+    subscription.start();
+    return subscription;
+  }
+
+  /**
+   * Publishes an event to every subscriber.
+   *
+   * <p>Returns as soon as the event is in every buffer, or has been dropped, unless
+   * a subscriber with {@link OverflowPolicy#BLOCK} has a full buffer. Nothing happens
+   * if the bus is closed.</p>
+   *
+   * @param event the event to publish
+   */
+  public void publish(GameEvent event) {
+    if (closed) {
+      return;
+    }
+    for (Subscription subscription : subscriptions) {
+      subscription.offer(event);
+    }
+  }
+
+  /**
+   * Checks if there are subscribers to publish to.
+   *
+   * @return true if there is at least one subscriber
+   */
+  public boolean hasSubscribers() {
+    return !subscriptions.isEmpty();
+  }
+
+  /**
+   * Returns the number of subscribers.
+   *
+   * @return the number of subscribers
+   */
+  public int getNumberOfSubscribers() {
+    return subscriptions.size();
+  }
+
+  /**
+   * Closes the bus, and waits for the subscribers to handle the events
+   * already published.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Subscription subscription : subscriptions) {
+      subscription.cancel();
+      subscription.await();
+    }
+  }
+
+  /**
+   * A subscriber of a {@link GameEventBus}, with its buffer and thread.
+   *
+   * @author A. Sahoo, B.I. Høie
+   * @version 0.0.2
+   * @since 0.8.0
+   */
+  public final class Subscription {
+    private final Consumer<? super GameEvent> handler;
+    private final EventRingBuffer<GameEvent> buffer;
+    private final OverflowPolicy policy;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean cancelled;
+    private volatile boolean sleeping;
+    private volatile Thread thread;
+
+    /**
+     * Constructs a {@code Subscription}.
+     *
+     * @param handler the handler of the events
+     * @param capacity the capacity of the buffer
+     * @param policy what to do when the buffer is full
+     */
+    private Subscription(Consumer<? super GameEvent> handler, int capacity,
+                         OverflowPolicy policy) {
+      this.handler = handler;
+      this.buffer = new EventRingBuffer<>(capacity);
+      this.policy = policy;
+    }
+
+    /**
+     * Starts the thread that hands the events to the handler.
+     */
+    private void start() {
+      thread = Thread.ofVirtual().name("game-event-subscriber").start(this::run);
+    }
+
+    /**
+     * Puts an event into the buffer, following the overflow policy when it is full.
+     *
+     * @param event the event
+     */
+    private void offer(GameEvent event) {
+      while (!buffer.offer(event)) {
+        if (cancelled || policy == OverflowPolicy.DROP) {
+          dropped.incrementAndGet();
+          return;
+        }
+        LockSupport.parkNanos(BLOCK_PARK_NANOS);
+      }
+      if (sleeping) {
+        LockSupport.unpark(thread);
+      }
+    }
+
+    /**
+     * Hands the events to the handler until the subscription is cancelled and the
+     * buffer is empty. Sleeps while the buffer is empty.
+     *
+     * <p>If the handler throws an {@link Error}, the thread stops. The subscription is
+     * then cancelled and the events left are dropped, so a publisher never waits for a
+     * subscriber that is gone.</p>
+     */
+    private void run() {
+      try {
+        while (true) {
+          GameEvent event = buffer.poll();
+          if (event != null) {
+            deliver(event);
+          } else if (cancelled) {
+            return;
+          } else {
+            sleeping = true;
+            if (buffer.isEmpty() && !cancelled) {
+              LockSupport.park(this);
+            }
+            sleeping = false;
+          }
+        }
+      } finally {
+        if (!cancelled) {
+          cancel();
+          while (buffer.poll() != null) {
+            dropped.incrementAndGet();
+          }
+        }
+      }
+    }
+
+    /**
+     * Hands one event to the handler. An exception from the handler is logged,
+     * and the next events are still delivered. An error is not caught.
+     *
+     * @param event the event
+     */
+    private void deliver(GameEvent event) {
+      try {
+        handler.accept(event);
+      } catch (RuntimeException e) {
+        Logger.getLogger(GameEventBus.class.getName())
+            .warning("Subscriber failed to handle event: " + e.getMessage());
+      }
+      delivered.incrementAndGet();
+    }
+
+    /**
+     * Stops the subscription. The events already in the buffer are still handled,
+     * and new events are dropped.
+     */
+    public void cancel() {
+      cancelled = true;
+      subscriptions.remove(this);
+      LockSupport.unpark(thread);
+    }
+
+    /**
+     * Waits for the thread of a cancelled subscription to handle the events left.
+     */
+    private void await() {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Returns the number of events handed to the handler.
+     *
+     * @return the number of events delivered
+     */
+    public long getDelivered() {
+      return delivered.get();
+    }
+
+    /**
+     * Returns the number of events not delivered because the buffer was full,
+     * or the subscription was cancelled.
+     *
+     * @return the number of events dropped
+     */
+    public long getDropped() {
+      return dropped.get();
+    }
+
+    /**
+     * Returns the overflow policy of the subscription.
+     *
+     * @return the policy
+     */
+    public OverflowPolicy getPolicy() {
+      return policy;
+    }
+
+    /**
+     * Checks if the subscription is cancelled.
+     *
+     * @return true if the subscription is cancelled
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+}
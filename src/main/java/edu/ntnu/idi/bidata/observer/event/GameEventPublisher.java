@@ -0,0 +1,127 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the {@link GameEvent}s of a game to {@link Flow.Subscriber}s.
+ *
+ * <p>Each subscriber gets its events on a virtual thread, in the order they were
+ * published, and only as many as it has requested. Events not requested yet wait in
+ * a buffer for each subscriber. When the buffer of a subscriber is full, the game
+ * waits in {@link #publish(GameEvent)} until the subscriber catches up, so a slow
+ * subscriber slows down the game instead of losing events.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public class GameEventPublisher implements AutoCloseable {
+  private static final Executor VIRTUAL_THREADS = Thread::startVirtualThread;
+
+  private final SubmissionPublisher<GameEvent> publisher;
+
+  /**
+   * Constructs a {@code GameEventPublisher} with the default buffer capacity,
+   * {@link Flow#defaultBufferSize()}.
+   */
+  public GameEventPublisher() {
+    publisher = new SubmissionPublisher<>(VIRTUAL_THREADS, Flow.defaultBufferSize());
+  }
+
+  /**
+   * Constructs a {@code GameEventPublisher} with the given buffer capacity.
+   *
+   * @param bufferCapacity the highest number of events buffered for each subscriber,
+   *     rounded up to a power of two
+   * @throws IntegerException if the capacity is less than 1
+   */
+  public GameEventPublisher(int bufferCapacity) {
+    if (bufferCapacity <= 0) {
+      throw new IntegerException("Buffer capacity must be greater than 0");
+    }
+    publisher = new SubmissionPublisher<>(VIRTUAL_THREADS, bufferCapacity);
+  }
+
+  /**
+   * Adds a subscriber. It gets the events published from now on.
+   *
+   * @param subscriber the subscriber
+   * @throws NullOrBlankException if the subscriber is null
+   */
+  public void subscribe(Flow.Subscriber<? super GameEvent> subscriber)
+      throws NullOrBlankException {
+    if (subscriber == null) {
+      throw new NullOrBlankException("The subscriber can not be null.");
+    }
+    publisher.subscribe(subscriber);
+  }
+
+  /**
+   * Adds a subscriber that gives every event to a consumer.
+   *
+   * @param consumer the consumer of the events
+   * @return a future completed when the publisher is closed, or failed with the
+   *     exception thrown by the consumer
+   * @throws NullOrBlankException if the consumer is null
+   */
+  public CompletableFuture<Void> consume(Consumer<? super GameEvent> consumer)
+      throws NullOrBlankException {
+    if (consumer == null) {
+      throw new NullOrBlankException("The consumer can not be null.");
+    }
+    return publisher.consume(consumer);
+  }
+
+  /**
+   * Publishes an event to every subscriber.
+   *
+   * <p>Waits while the buffer of a subscriber is full. Nothing happens if the
+   * publisher is closed, even if another thread closes it while the event is
+   * published, so closing the publisher never breaks the turn that publishes.</p>
+   *
+   * @param event the event to publish
+   */
+  public void publish(GameEvent event) {
+    if (publisher.isClosed()) {
+      return;
+    }
+    try {
+      publisher.submit(event);
+    } catch (IllegalStateException e) {
+      // Closed by another thread after the check. The event is dropped.
+    }
+  }
+
+  /**
+   * Checks if there are subscribers to publish to.
+   *
+   * @return true if there is at least one subscriber
+   */
+  public boolean hasSubscribers() {
+    return publisher.hasSubscribers();
+  }
+
+  /**
+   * Returns the number of subscribers.
+   *
+   * @return the number of subscribers
+   */
+  public int getNumberOfSubscribers() {
+    return publisher.getNumberOfSubscribers();
+  }
+
+  /**
+   * Closes the publisher. The subscribers get the events already published,
+   * and are then completed.
+   */
+  @Override
+  public void close() {
+    publisher.close();
+  }
+}
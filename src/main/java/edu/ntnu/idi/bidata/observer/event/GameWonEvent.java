@@ -0,0 +1,17 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+/**
+ * A player won the game, by reaching the last tile or the winning balance.
+ *
+ * @param turn the number of the turn
+ * @param playerName the name of the player
+ * @param tileId the ID of the tile the player is on
+ * @param balance the balance of the player
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public record GameWonEvent(long turn, String playerName, int tileId, int balance)
+    implements GameEvent {
+}
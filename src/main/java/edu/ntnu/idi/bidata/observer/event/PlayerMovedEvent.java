@@ -0,0 +1,41 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+import java.util.List;
+
+/**
+ * A player rolled the dice and moved along the board.
+ *
+ * <p>The path holds the tiles the player passed, one for each step, ending with the
+ * tile the player stopped on before its action was performed. A player on a tile
+ * without a next tile stays there, so the path can be shorter than the roll.</p>
+ *
+ * @param turn the number of the turn
+ * @param playerName the name of the player
+ * @param dice the values of the dice rolled
+ * @param fromTileId the ID of the tile the player started on
+ * @param path the IDs of the tiles passed, in order
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public record PlayerMovedEvent(long turn, String playerName, List<Integer> dice,
+                               int fromTileId, List<Integer> path) implements GameEvent {
+
+  /**
+   * Constructs a {@code PlayerMovedEvent} with copies of the dice values and the path.
+   */
+  public PlayerMovedEvent {
+    dice = List.copyOf(dice);
+    path = List.copyOf(path);
+  }
+
+  /**
+   * Returns the ID of the tile the player stopped on, before its action.
+   *
+   * @return the ID of the last tile in the path, or the start tile if the path is empty
+   */
+  public int landedTileId() {
+    return path.isEmpty() ? fromTileId : path.getLast();
+  }
+}
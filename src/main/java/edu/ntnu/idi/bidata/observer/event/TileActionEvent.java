@@ -0,0 +1,28 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+/**
+ * The action of the tile a player stopped on was performed.
+ *
+ * @param turn the number of the turn
+ * @param playerName the name of the player
+ * @param tileId the ID of the tile with the action
+ * @param actionType the simple class name of the action, like {@code LadderAction}
+ * @param description the description of the action
+ * @param toTileId the ID of the tile the player is on after the action
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public record TileActionEvent(long turn, String playerName, int tileId, String actionType,
+                              String description, int toTileId) implements GameEvent {
+
+  /**
+   * Checks if the action moved the player to another tile.
+   *
+   * @return true if the player is on another tile than the one with the action
+   */
+  public boolean movedPlayer() {
+    return toTileId != tileId;
+  }
+}
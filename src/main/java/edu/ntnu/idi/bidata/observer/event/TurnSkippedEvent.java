@@ -0,0 +1,15 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+/**
+ * A player lost the turn, and stayed on the same tile.
+ *
+ * @param turn the number of the turn
+ * @param playerName the name of the player
+ * @param tileId the ID of the tile the player is on
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public record TurnSkippedEvent(long turn, String playerName, int tileId) implements GameEvent {
+}
@@ -1,21 +1,25 @@
 package edu.ntnu.idi.bidata.ui.controller;
 
-import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
+import edu.ntnu.idi.bidata.filehandler.board.BoardCache;
 import edu.ntnu.idi.bidata.filehandler.player.PlayerFileReader;
 import edu.ntnu.idi.bidata.filehandler.player.PlayerFileWriter;
 import edu.ntnu.idi.bidata.model.engine.BoardGame;
 import edu.ntnu.idi.bidata.model.entity.Player;
-import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.GameSaveJfrEvent;
+import edu.ntnu.idi.bidata.model.metrics.MetricsRegistry;
 import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.ui.gui.game.MonopolyPage;
 import edu.ntnu.idi.bidata.ui.gui.menu.GameSelection;
 import edu.ntnu.idi.bidata.utils.Constants;
 import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 
@@ -30,13 +34,14 @@ import java.util.logging.Logger;
  *
  * @since 0.0.1
  * @author A. Sahoo, B.I. Høie
- * @version 0.3.2
+ * @version 0.5.7
  */
 public class ControllerMonopoly {
   private final SceneManager sceneManager;
   private final String playerFilePath;
   private BoardGame game;
   private final MonopolyPage monopolyPage;
+  private final TurnExecutor turnExecutor = new TurnExecutor();
 
   /**
    * Constructs a {@code ControllerMonopoly} with the specified scene manager,
@@ -56,10 +61,15 @@ public class ControllerMonopoly {
    *
    * <p>This method updates the scene to display the {@code GameSelection} interface,
    * allowing users to choose between different games. it is called
-   * when the user want to return to the game selection menu.</p>
+   * when the user want to return to the game selection menu. Turns not played yet
+   * are dropped, and the metrics of the game are removed.</p>
    */
   public void switchToGameSelection() {
     game.removeObserver(monopolyPage);
+    turnExecutor.close();
+    if (game.getMetrics() != null) {
+      MetricsRegistry.getDefault().remove(game.getMetrics().getName());
+    }
     sceneManager.setView(new GameSelection(new ControllerGameSelection(sceneManager)));
   }
 
@@ -75,31 +85,61 @@ public class ControllerMonopoly {
   }
 
   /**
-   * Resets the Snakes and Ladders game
-   * by reinitializing the board and placing players on the start tile.
+   * Resets the Monopoly game by restarting it on a fresh copy of the board,
+   * placing players on the start tile and emptying their balance.
+   *
+   * <p>The board comes from the {@link BoardCache} and the players are kept,
+   * so no files are read. The restart is played by the {@link TurnExecutor}, after
+   * the turns already submitted, and {@code onRestarted} is given the values read by
+   * {@code snapshot} on the JavaFX Application Thread.</p>
+   *
+   * @param snapshot reads the values the UI shows from the game, after the restart
+   * @param onRestarted updates the UI with the values
+   * @param onFailed updates the UI if the board could not be read, in which case the
+   *     game is left as it was
+   * @param <T> the type of the values
    */
-  public void resetGame() {
-    game.removeObserver(monopolyPage);
-    game = initializeBoardGame();
-    game.getPlayerIterator().forEachRemaining(player ->
-        player.placeOnTile(game.getBoard().getTileById(1)));
-    game.getPlayerIterator().forEachRemaining(player ->
-        player.setBalance(0));
-    game.addObserver(monopolyPage);
+  public <T> void resetGame(Function<BoardGame, T> snapshot, Consumer<T> onRestarted,
+                            Consumer<Throwable> onFailed) {
+    turnExecutor.submit(() -> {
+      try {
+        game.restart(BoardCache.getBoard(Path.of(Constants.MONOPOLY_BOARD_FILE_PATH)));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not restart the game: " + e.getMessage(), e);
+      } catch (NullOrBlankException e) {
+        throw new IllegalStateException("Could not restart the game: " + e.getMessage(), e);
+      }
+      game.getPlayerIterator().forEachRemaining(player ->
+          player.setBalance(0));
+      return snapshot.apply(game);
+    }, onRestarted, onFailed);
   }
 
   /**
    * Rolls the dice and performs the player's turn.
    *
-   * <p>Handles player movement and catches any data related errors</p>
+   * <p>The turn is played by the {@link TurnExecutor}, away from the JavaFX
+   * Application Thread. When it is done, the values read by {@code snapshot} are
+   * given to {@code onTurnPlayed} on the JavaFX Application Thread. Turns are played
+   * in the order the dice were rolled. Handles player movement and catches any data
+   * related errors</p>
+   *
+   * @param snapshot reads the values the UI shows from the game, after the turn
+   * @param onTurnPlayed updates the UI with the values
+   * @param onFailed updates the UI if the turn failed
+   * @param <T> the type of the values
    */
-  public void rollDice() {
-    try {
-      game.play();
-    } catch (NullOrBlankException e) {
-      Logger.getLogger(ControllerMonopoly.class.getName())
-          .warning("Failed to play turn: " + e.getMessage());
-    }
+  public <T> void rollDice(Function<BoardGame, T> snapshot, Consumer<T> onTurnPlayed,
+                           Consumer<Throwable> onFailed) {
+    turnExecutor.submit(() -> {
+      try {
+        game.play();
+      } catch (NullOrBlankException e) {
+        Logger.getLogger(ControllerMonopoly.class.getName())
+            .warning("Failed to play turn: " + e.getMessage());
+      }
+      return snapshot.apply(game);
+    }, onTurnPlayed, onFailed);
   }
 
   /**
@@ -114,20 +154,25 @@ public class ControllerMonopoly {
   /**
    * Creates a new {@link BoardGame} by reading the board and player data from files.
    *
-   * <p>Reads the board configuration from a JSON file,
+   * <p>Gets a copy of the board from the {@link BoardCache}, which reads the board file
+   * only the first time or after it has changed,
    * and the player data from a CSV file. Initializes the game with two dice,
-   * and places each player on the starting tile.</p>
+   * and places each player on the starting tile. The observers are notified
+   * once per turn, and the turns are recorded in metrics of their own in the
+   * default {@link MetricsRegistry}, removed again when the table is closed.</p>
    *
    * @return a new {@code BoardGame} instance with the initialized board and players
    */
   private BoardGame initializeBoardGame() {
     BoardGame boardGame = new BoardGame();
-    BoardFileReaderGson reader = new BoardFileReaderGson();
+    boardGame.setBatchNotifications(true);
     PlayerFileReader playerReader = new PlayerFileReader();
     try {
-      boardGame.createBoard(reader.readBoard(Path.of(Constants.MONOPOLY_BOARD_FILE_PATH)));
+      boardGame.setMetrics(MetricsRegistry.getDefault().createUnique("Monopoly"));
+      boardGame.createBoard(BoardCache.getBoard(Path.of(Constants.MONOPOLY_BOARD_FILE_PATH)));
       playerReader.readCsvBuffered(playerFilePath, boardGame);
       boardGame.createDice(2);
+      boardGame.compileBoard();
       boardGame.getPlayerIterator().forEachRemaining(player ->
           player.placeOnTile(boardGame.getBoard().getTileById(player.getCurrentTileId())));
     } catch (IOException | NullOrBlankException e) {
@@ -140,12 +185,30 @@ public class ControllerMonopoly {
    * Saves the current game state to a file.
    *
    * <p>This method collects the current players using an iterator,
-   * and saves them to a CSV file using {@link PlayerFileWriter}.</p>
+   * and saves them to a CSV file using {@link PlayerFileWriter}.
+   * A save that succeeds is a {@link GameSaveJfrEvent} in a flight recording.</p>
+   *
+   * <p>The save is played by the {@link TurnExecutor}, after the turns already
+   * submitted, so the game does not change while it is saved. Then
+   * {@code onSaved} or {@code onFailed} is run on the JavaFX Application Thread.</p>
+   *
+   * @param onSaved updates the UI when the game is saved
+   * @param onFailed updates the UI if an error occurs while saving the game
    */
-  public void saveGame() {
-    List<Player> players = new ArrayList<>();
-    getPlayersIterator().forEachRemaining(players::add);
-    PlayerFileWriter.writeToCsv(players, Constants.MONOPOLY_PLAYER_SAVED_CSV);
+  public void saveGame(Runnable onSaved, Consumer<Throwable> onFailed) {
+    turnExecutor.submit(() -> {
+      GameSaveJfrEvent event = new GameSaveJfrEvent();
+      event.begin();
+      List<Player> players = new ArrayList<>();
+      getPlayersIterator().forEachRemaining(players::add);
+      if (!PlayerFileWriter.writeToCsv(players, Constants.MONOPOLY_PLAYER_SAVED_CSV)) {
+        String errorMessage = "Could not save game: the players could not be written";
+        throw new UncheckedIOException(errorMessage, new IOException(errorMessage));
+      }
+      event.finish("Monopoly", null, Path.of(Constants.MONOPOLY_PLAYER_SAVED_CSV),
+          game.getBoard().getTileCount(), players.size());
+      return null;
+    }, saved -> onSaved.run(), onFailed);
   }
 
   /**
@@ -155,14 +218,7 @@ public class ControllerMonopoly {
    * @return the {@code TileAction} associated with the current tile, or {@code null}
    */
   public TileAction getTileAction(int tileId) {
-    Iterator<Tile> tileIterator = game.getBoard().getTileIterator();
-    while (tileIterator.hasNext()) {
-      Tile tile = tileIterator.next();
-      if (tile.getTileId() == tileId) {
-        return tile.getLandAction();
-      }
-    }
-    return null; // Return null if no matching tile is found
+    return game.getBoard().getTileAction(tileId);
   }
 
   /**
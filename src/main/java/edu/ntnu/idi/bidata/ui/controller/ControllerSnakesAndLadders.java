@@ -1,23 +1,27 @@
 package edu.ntnu.idi.bidata.ui.controller;
 
-import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
+import edu.ntnu.idi.bidata.filehandler.board.BoardCache;
 import edu.ntnu.idi.bidata.filehandler.board.BoardFileWriter;
 import edu.ntnu.idi.bidata.filehandler.board.BoardFileWriterGson;
 import edu.ntnu.idi.bidata.filehandler.player.PlayerFileReader;
 import edu.ntnu.idi.bidata.filehandler.player.PlayerFileWriter;
 import edu.ntnu.idi.bidata.model.engine.BoardGame;
 import edu.ntnu.idi.bidata.model.entity.Player;
-import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.GameSaveJfrEvent;
+import edu.ntnu.idi.bidata.model.metrics.MetricsRegistry;
 import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.ui.gui.game.SnakesAndLaddersPage;
 import edu.ntnu.idi.bidata.ui.gui.menu.GameSelection;
 import edu.ntnu.idi.bidata.utils.Constants;
 import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 
@@ -29,7 +33,7 @@ import java.util.logging.Logger;
  *
  * @author A. Sahoo, B.I. Høie
  * @since 0.0.1
- * @version 0.2.1
+ * @version 0.4.7
  */
 public class ControllerSnakesAndLadders {
   private final SceneManager sceneManager;
@@ -37,6 +41,7 @@ public class ControllerSnakesAndLadders {
   private final String playerFilePath;
   private BoardGame game;
   private final SnakesAndLaddersPage snakesAndLaddersPage;
+  private final TurnExecutor turnExecutor = new TurnExecutor();
 
   /**
    * Constructs a {@code ControllerSnakesAndLadders} for the Snakes and Ladders game.
@@ -54,10 +59,15 @@ public class ControllerSnakesAndLadders {
   }
 
   /**
-   * Switches to the game selection scene.
+   * Switches to the game selection scene, stops the turn executor and removes the
+   * metrics of the game.
    */
   public void switchToGameSelection() {
     game.removeObserver(snakesAndLaddersPage);
+    turnExecutor.close();
+    if (game.getMetrics() != null) {
+      MetricsRegistry.getDefault().remove(game.getMetrics().getName());
+    }
     sceneManager.setView(new GameSelection(new ControllerGameSelection(sceneManager)));
   }
 
@@ -72,33 +82,55 @@ public class ControllerSnakesAndLadders {
 
   /**
    * Resets the Snakes and Ladders game
-   * by reinitializing the board and placing players on the start tile.
+   * by restarting it on a fresh copy of the board and placing players on the start tile.
+   *
+   * <p>The board comes from the {@link BoardCache} and the players are kept,
+   * so no files are read. The restart is played by the {@link TurnExecutor}, after
+   * the turns already submitted, and {@code onRestarted} is given the values read by
+   * {@code snapshot} on the JavaFX Application Thread.</p>
+   *
+   * @param snapshot reads the values the UI shows from the game, after the restart
+   * @param onRestarted updates the UI with the values
+   * @param onFailed updates the UI if the board could not be read, in which case the
+   *     game is left as it was
+   * @param <T> the type of the values
    */
-  public void resetGame() {
-    game.removeObserver(snakesAndLaddersPage);
-    game = initializeBoardGame();
-    game.getPlayerIterator().forEachRemaining(player ->
-        player.placeOnTile(game.getBoard().getTileById(1)));
-    game.addObserver(snakesAndLaddersPage);
+  public <T> void resetGame(Function<BoardGame, T> snapshot, Consumer<T> onRestarted,
+                            Consumer<Throwable> onFailed) {
+    turnExecutor.submit(() -> {
+      try {
+        game.restart(BoardCache.getBoard(Path.of(boardFilePath)));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not restart the game: " + e.getMessage(), e);
+      } catch (NullOrBlankException e) {
+        throw new IllegalStateException("Could not restart the game: " + e.getMessage(), e);
+      }
+      return snapshot.apply(game);
+    }, onRestarted, onFailed);
   }
 
   /**
    * Creates a new {@link BoardGame} by reading the board and player data from files.
    *
-   * <p>Reads the board configuration from a JSON file,
+   * <p>Gets a copy of the board from the {@link BoardCache}, which reads the board file
+   * only the first time or after it has changed,
    * and the player data from a CSV file. Initializes the game with two dice,
-   * and places each player on the starting tile.</p>
+   * and places each player on the starting tile. The observers are notified
+   * once per turn, and the turns are recorded in metrics of their own in the
+   * default {@link MetricsRegistry}, removed again when the table is closed.</p>
    *
    * @return a new {@code BoardGame} instance with the initialized board and players
    */
   private BoardGame initializeBoardGame() {
     BoardGame boardGame = new BoardGame();
-    BoardFileReaderGson reader = new BoardFileReaderGson();
+    boardGame.setBatchNotifications(true);
     PlayerFileReader playerReader = new PlayerFileReader();
     try {
-      boardGame.createBoard(reader.readBoard(Path.of(boardFilePath)));
+      boardGame.setMetrics(MetricsRegistry.getDefault().createUnique("Snakes and Ladders"));
+      boardGame.createBoard(BoardCache.getBoard(Path.of(boardFilePath)));
       playerReader.readCsvBuffered(playerFilePath, boardGame);
       boardGame.createDice(2);
+      boardGame.compileBoard();
       boardGame.getPlayerIterator().forEachRemaining(player ->
           player.placeOnTile(boardGame.getBoard().getTileById(player.getCurrentTileId())));
     } catch (IOException | NullOrBlankException e) {
@@ -113,18 +145,48 @@ public class ControllerSnakesAndLadders {
    *
    * <p>This method collects the current players using an iterator,
    * and {@link PlayerFileWriter} to save the players to a CSV file.
-   * It also saves the current board used by using {@link BoardFileWriter}.</p>
+   * It also saves the current board used by using {@link BoardFileWriter}.
+   * A save that succeeds is a {@link GameSaveJfrEvent} in a flight recording.</p>
+   *
+   * <p>The save is played by the {@link TurnExecutor}, after the turns already
+   * submitted, so the game does not change while it is saved. Then
+   * {@code onSaved} or {@code onFailed} is run on the JavaFX Application Thread.</p>
+   *
+   * @param onSaved updates the UI when the game is saved
+   * @param onFailed updates the UI if an error occurs while saving the game
+   */
+  public void saveGame(Runnable onSaved, Consumer<Throwable> onFailed) {
+    turnExecutor.submit(() -> {
+      try {
+        writeGame();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e.getMessage(), e);
+      }
+      return null;
+    }, saved -> onSaved.run(), onFailed);
+  }
+
+  /**
+   * Writes the board and the players to the save files.
    *
    * @throws IOException if an error occurs while saving the game
    */
-  public void saveGame() throws IOException {
+  private void writeGame() throws IOException {
+    GameSaveJfrEvent event = new GameSaveJfrEvent();
+    event.begin();
     try {
       List<Player> players = new ArrayList<>();
       getPlayersIterator().forEachRemaining(players::add);
 
       BoardFileWriter writer = new BoardFileWriterGson();
       writer.writeBoard(game.getBoard(), Path.of(Constants.BOARD_SAVED_FILEPATH));
-      PlayerFileWriter.writeToCsv(players, Constants.SNAKES_AND_LADDERS_PLAYER_SAVED_CSV);
+      BoardCache.invalidate(Path.of(Constants.BOARD_SAVED_FILEPATH));
+      if (!PlayerFileWriter.writeToCsv(players, Constants.SNAKES_AND_LADDERS_PLAYER_SAVED_CSV)) {
+        throw new IOException("The players could not be written");
+      }
+      event.finish("Snakes and Ladders", Path.of(Constants.BOARD_SAVED_FILEPATH),
+          Path.of(Constants.SNAKES_AND_LADDERS_PLAYER_SAVED_CSV),
+          game.getBoard().getTileCount(), players.size());
     } catch (IOException e) {
       String errorMessage = "Could not save game: " + e.getMessage();
       Logger.getLogger(ControllerSnakesAndLadders.class.getName())
@@ -136,15 +198,28 @@ public class ControllerSnakesAndLadders {
   /**
    * Rolls the dice and performs the player's turn.
    *
-   * <p>Handles player movement and catches any data related errors</p>
+   * <p>The turn is played by the {@link TurnExecutor}, away from the JavaFX
+   * Application Thread. When it is done, the values read by {@code snapshot} are
+   * given to {@code onTurnPlayed} on the JavaFX Application Thread. Turns are played
+   * in the order the dice were rolled. Handles player movement and catches any data
+   * related errors</p>
+   *
+   * @param snapshot reads the values the UI shows from the game, after the turn
+   * @param onTurnPlayed updates the UI with the values
+   * @param onFailed updates the UI if the turn failed
+   * @param <T> the type of the values
    */
-  public void rollDice() {
-    try {
-      game.play();
-    } catch (NullOrBlankException e) {
-      Logger.getLogger(ControllerSnakesAndLadders.class.getName())
-          .warning("Failed to play turn: " + e.getMessage());
-    }
+  public <T> void rollDice(Function<BoardGame, T> snapshot, Consumer<T> onTurnPlayed,
+                           Consumer<Throwable> onFailed) {
+    turnExecutor.submit(() -> {
+      try {
+        game.play();
+      } catch (NullOrBlankException e) {
+        Logger.getLogger(ControllerSnakesAndLadders.class.getName())
+            .warning("Failed to play turn: " + e.getMessage());
+      }
+      return snapshot.apply(game);
+    }, onTurnPlayed, onFailed);
   }
 
   /**
@@ -190,14 +265,7 @@ public class ControllerSnakesAndLadders {
    * @return the {@code TileAction} associated with the current tile, or {@code null}
    */
   public TileAction getTileAction(int tileId) {
-    Iterator<Tile> tileIterator = game.getBoard().getTileIterator();
-    while (tileIterator.hasNext()) {
-      Tile tile = tileIterator.next();
-      if (tile.getTileId() == tileId) {
-        return tile.getLandAction();
-      }
-    }
-    return null;
+    return game.getBoard().getTileAction(tileId);
   }
 
   /**
@@ -0,0 +1,95 @@
+package edu.ntnu.idi.bidata.ui.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javafx.application.Platform;
+
+/**
+ * Plays the turns of a game away from the JavaFX Application Thread.
+ *
+ * <p>A turn moves the players, performs tile actions and notifies the observers, which
+ * can take a while on large boards. If it ran in the button handler, the window would
+ * freeze until it was done. The executor instead runs each turn on its own virtual
+ * thread, and only hands the result back to the JavaFX Application Thread through
+ * {@link Platform#runLater(Runnable)}, where the UI is updated.</p>
+ *
+ * <p>Turns run one at a time, in the order they were submitted, so a turn always
+ * sees the game as the turn before it left it. The UI updates are run in the same
+ * order.</p>
+ *
+ * <p>Saving and restarting the game are submitted here too, so every operation on
+ * the game is played on the same thread, strictly one after another.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.2
+ * @since 0.8.0
+ */
+public class TurnExecutor implements AutoCloseable {
+  private final ExecutorService engine = Executors.newSingleThreadExecutor(
+      Thread.ofVirtual().name("turn-", 0).factory());
+  private final Executor uiExecutor;
+
+  /**
+   * Constructs a {@code TurnExecutor} that updates the UI on the
+   * JavaFX Application Thread.
+   */
+  public TurnExecutor() {
+    this.uiExecutor = Platform::runLater;
+  }
+
+  /**
+   * Constructs a {@code TurnExecutor} that updates the UI with the given executor.
+   *
+   * @param uiExecutor the executor that runs the UI updates
+   */
+  public TurnExecutor(Executor uiExecutor) {
+    this.uiExecutor = uiExecutor;
+  }
+
+  /**
+   * Submits a turn, the UI update to run when it is done, and the UI update to run
+   * if it fails.
+   *
+   * <p>The turn returns the values the UI needs, read while the game is not changing.
+   * Exactly one of the updates is run on the UI executor, so a button disabled while
+   * the turn is played can always be enabled again. If the turn throws an exception,
+   * it is logged and given to {@code onFailure}.</p>
+   *
+   * @param turn the turn to play, returning the values to show
+   * @param uiUpdate the update of the UI, given the values from the turn
+   * @param onFailure the update of the UI, given the exception thrown by the turn
+   * @param <T> the type of the values
+   * @return a future completed when the turn is played and its UI update is handed
+   *     to the UI executor
+   * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> turn, Consumer<T> uiUpdate,
+                                         Consumer<Throwable> onFailure) {
+    return CompletableFuture.supplyAsync(turn, engine).whenComplete((values, exception) -> {
+      if (exception != null) {
+        Throwable cause = exception instanceof CompletionException
+            && exception.getCause() != null ? exception.getCause() : exception;
+        Logger.getLogger(TurnExecutor.class.getName())
+            .warning("Failed to play turn: " + cause.getMessage());
+        uiExecutor.execute(() -> onFailure.accept(cause));
+      } else {
+        uiExecutor.execute(() -> uiUpdate.accept(values));
+      }
+    });
+  }
+
+  /**
+   * Stops the executor. The turn being played is interrupted and finished, and
+   * turns not started yet are dropped without updating the UI.
+   */
+  @Override
+  public void close() {
+    engine.shutdownNow();
+  }
+}
@@ -5,8 +5,10 @@ import edu.ntnu.idi.bidata.model.engine.Dice;
 import edu.ntnu.idi.bidata.model.entity.Player;
 import edu.ntnu.idi.bidata.utils.Constants;
 import edu.ntnu.idi.bidata.utils.MessageDisplay;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Objects;
+import java.util.List;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -22,9 +24,31 @@ import javafx.scene.shape.Circle;
  *
  * @since 0.0.1
  * @author A. Sahoo, B.I. Høie
- * @version 0.4.5
+ * @version 0.8.0
  */
 public class BaseGamePage extends BasePage {
+  private final BoardRendererType rendererType;
+
+  /**
+   * Constructs a {@code BaseGamePage} that chooses the board renderer by the size of
+   * the board, and makes sure the images of the dice and skipped players are loaded
+   * before the first roll.
+   */
+  protected BaseGamePage() {
+    this(BoardRendererType.AUTO);
+  }
+
+  /**
+   * Constructs a {@code BaseGamePage} with the given board renderer, and makes sure the
+   * images of the dice and skipped players are loaded before the first roll.
+   *
+   * @param rendererType the kind of renderer to draw the board with, or {@code null}
+   *     to choose it by the size of the board
+   */
+  protected BaseGamePage(BoardRendererType rendererType) {
+    this.rendererType = rendererType == null ? BoardRendererType.AUTO : rendererType;
+    ImageCache.preload();
+  }
 
   /**
    * Creates a player game piece.
@@ -47,7 +71,7 @@ public class BaseGamePage extends BasePage {
    * @param playerColor the color of the player
    * @return the color of the player
    */
-  private Color getColor(String playerColor) {
+  protected Color getColor(String playerColor) {
     return switch (playerColor.toUpperCase()) {
       case "RED" -> Color.RED;
       case "BLUE" -> Color.BLUE;
@@ -70,6 +94,59 @@ public class BaseGamePage extends BasePage {
     return (tileId % 2 == 0) ? Color.web("#32bff5") : Color.web("#bbd962");
   }
 
+  /**
+   * Returns the kind of renderer to draw a board with.
+   *
+   * <p>Returns the type the page was constructed with. For
+   * {@link BoardRendererType#AUTO}, boards with up to
+   * {@link Constants#CANVAS_RENDERER_TILE_THRESHOLD} tiles get a grid, and larger
+   * boards a canvas. Pages can override this to choose in another way.</p>
+   *
+   * @param tileCount the number of tiles on the board
+   * @return {@link BoardRendererType#GRID} or {@link BoardRendererType#CANVAS}
+   */
+  protected BoardRendererType getBoardRendererType(int tileCount) {
+    if (rendererType != BoardRendererType.AUTO) {
+      return rendererType;
+    }
+    return tileCount <= Constants.CANVAS_RENDERER_TILE_THRESHOLD
+        ? BoardRendererType.GRID : BoardRendererType.CANVAS;
+  }
+
+  /**
+   * Creates the renderer for a board, of the kind from
+   * {@link #getBoardRendererType(int)}.
+   *
+   * <p>A {@link GridBoardRenderer} has one node per tile. A {@link CanvasBoardRenderer}
+   * has tiles small enough for the board to fit in
+   * {@link Constants#CANVAS_BOARD_MAX_SIZE} pixels.</p>
+   *
+   * @param rows the number of rows on the board
+   * @param columns the number of columns on the board
+   * @param tileCount the number of tiles on the board
+   * @return the renderer for the board
+   */
+  protected BoardRenderer createBoardRenderer(int rows, int columns, int tileCount) {
+    if (getBoardRendererType(tileCount) != BoardRendererType.CANVAS) {
+      return new GridBoardRenderer(this::createPlayer);
+    }
+    double tileSize = Math.min(Constants.TILE_SIZE,
+        (double) Constants.CANVAS_BOARD_MAX_SIZE / Math.max(rows, columns));
+    return new CanvasBoardRenderer(rows, columns, tileSize, this::getColor);
+  }
+
+  /**
+   * Returns the tokens of the players in the game, in turn order.
+   *
+   * @param boardGame the board game
+   * @return the tokens of the players
+   */
+  protected List<PlayerToken> getPlayerTokens(BoardGame boardGame) {
+    List<PlayerToken> tokens = new ArrayList<>();
+    boardGame.getPlayerIterator().forEachRemaining(player -> tokens.add(PlayerToken.of(player)));
+    return tokens;
+  }
+
   /**
    * Displays the players in the game.
    *
@@ -133,22 +210,24 @@ public class BaseGamePage extends BasePage {
   }
 
   /**
-   * Loads an image from the specified path.
+   * Returns the image at the specified path from the {@link ImageCache}.
+   *
+   * <p>The image is only loaded the first time it is used.</p>
    *
    * @param path the path to the image file
    * @return the loaded {@link Image}
    */
   protected Image loadImage(String path) {
-    return new Image(Objects
-        .requireNonNull(getClass()
-            .getResource(path)).toExternalForm());
+    return ImageCache.getImage(path);
   }
 
   /**
    * Updates the dice and player information.
    *
    * <p>This method updates the game information label,
-   * the images of the dice, and the visibility of the player skipped image.</p>
+   * the images of the dice, and the visibility of the player skipped image.
+   * The observers are notified on the thread playing the turn, so the rolled values
+   * are read right away, and the UI is updated on the JavaFX Application Thread.</p>
    *
    * @param gameInformation the label to display game information
    * @param imageDice1 the image view for the first die
@@ -162,9 +241,31 @@ public class BaseGamePage extends BasePage {
                                          ImageView imageDice2,
                                          ImageView imageSkipPlayer,
                                          String name, Dice dice) {
+    List<Integer> values = List.of(dice.getDie(0), dice.getDie(1));
+    Platform.runLater(() -> showRolledDice(gameInformation, imageDice1, imageDice2,
+        imageSkipPlayer, name, values));
+  }
+
+  /**
+   * Shows the rolled dice and the player who rolled them.
+   *
+   * <p>Must be called on the JavaFX Application Thread.</p>
+   *
+   * @param gameInformation the label to display game information
+   * @param imageDice1 the image view for the first die
+   * @param imageDice2 the image view for the second die
+   * @param imageSkipPlayer the image view for the player skipped
+   * @param name the name of the player
+   * @param dice the values of the first two dice
+   */
+  protected void showRolledDice(Label gameInformation,
+                                ImageView imageDice1,
+                                ImageView imageDice2,
+                                ImageView imageSkipPlayer,
+                                String name, List<Integer> dice) {
     gameInformation.setText(MessageDisplay.rollDiceMessage(name));
-    imageDice1.setImage(loadImage(Constants.getImageOfDice(dice.getDie(0))));
-    imageDice2.setImage(loadImage(Constants.getImageOfDice(dice.getDie(1))));
+    imageDice1.setImage(ImageCache.getDieFace(dice.get(0)));
+    imageDice2.setImage(ImageCache.getDieFace(dice.get(1)));
 
     imageDice1.setVisible(true);
     imageDice2.setVisible(true);
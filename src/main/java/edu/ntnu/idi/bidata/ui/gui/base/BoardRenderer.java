@@ -0,0 +1,44 @@
+package edu.ntnu.idi.bidata.ui.gui.base;
+
+import java.util.List;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws a game board and the game pieces of the players on it.
+ *
+ * <p>The tiles are added once, when the board is created. After that, only
+ * {@link #updatePlayers(List)} is called, and the renderer decides how much
+ * of the board it has to draw again.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public interface BoardRenderer {
+
+  /**
+   * Adds a tile to the board.
+   *
+   * @param tileId the ID of the tile
+   * @param color the color of the tile
+   * @param text the text shown on the tile
+   * @param column the column of the tile
+   * @param row the row of the tile
+   */
+  void addTile(int tileId, Color color, String text, int column, int row);
+
+  /**
+   * Moves the game pieces to the tiles of the players.
+   *
+   * @param players the tokens of the players, in turn order
+   */
+  void updatePlayers(List<PlayerToken> players);
+
+  /**
+   * Returns the node the board is drawn in.
+   *
+   * @return the node of the board
+   */
+  Node getNode();
+}
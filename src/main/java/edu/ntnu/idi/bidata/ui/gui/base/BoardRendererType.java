@@ -0,0 +1,29 @@
+package edu.ntnu.idi.bidata.ui.gui.base;
+
+import edu.ntnu.idi.bidata.utils.Constants;
+
+/**
+ * The kinds of {@link BoardRenderer} a game page can draw its board with.
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public enum BoardRendererType {
+  /**
+   * A {@link GridBoardRenderer} for boards with up to
+   * {@link Constants#CANVAS_RENDERER_TILE_THRESHOLD} tiles, and a
+   * {@link CanvasBoardRenderer} for larger boards.
+   */
+  AUTO,
+
+  /**
+   * A {@link GridBoardRenderer}, with one node per tile.
+   */
+  GRID,
+
+  /**
+   * A {@link CanvasBoardRenderer}, which draws the whole board on one canvas.
+   */
+  CANVAS
+}
@@ -0,0 +1,180 @@
+package edu.ntnu.idi.bidata.ui.gui.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Draws a board onto a single {@link Canvas}.
+ *
+ * <p>The board is one node, no matter how many tiles it has, which keeps large
+ * boards fast to lay out and draw. The tiles are drawn once when they are added.
+ * After a turn, {@link #updatePlayers(List)} marks the tiles that a game piece left
+ * or moved to as dirty, and only those tiles are drawn again.</p>
+ *
+ * <p>The text of a tile is only drawn when the tiles are big enough to read it.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+  /**
+   * The smallest tile size, in pixels, that the text of the tiles is drawn at.
+   */
+  private static final double MIN_TEXT_TILE_SIZE = 24;
+
+  private final Canvas canvas;
+  private final GraphicsContext graphics;
+  private final double tileSize;
+  private final Function<String, Color> playerColors;
+  private int[] columns = new int[0];
+  private int[] rows = new int[0];
+  private Color[] colors = new Color[0];
+  private String[] texts = new String[0];
+  private List<PlayerToken> shownTokens = new ArrayList<>();
+  private final BitSet dirtyTiles = new BitSet();
+
+  /**
+   * Constructs a {@code CanvasBoardRenderer} with a canvas that fits the board.
+   *
+   * @param rows the number of rows on the board
+   * @param columns the number of columns on the board
+   * @param tileSize the width and height of a tile, in pixels
+   * @param playerColors finds the color of a game piece from the color of a player
+   */
+  public CanvasBoardRenderer(int rows, int columns, double tileSize,
+                             Function<String, Color> playerColors) {
+    this.canvas = new Canvas(columns * tileSize, rows * tileSize);
+    this.graphics = canvas.getGraphicsContext2D();
+    this.tileSize = tileSize;
+    this.playerColors = playerColors;
+    graphics.setTextAlign(TextAlignment.CENTER);
+    graphics.setTextBaseline(VPos.CENTER);
+    graphics.setFont(Font.font(Math.max(8, tileSize / 5)));
+  }
+
+  /**
+   * Adds a tile and draws it.
+   *
+   * @param tileId the ID of the tile
+   * @param color the color of the tile
+   * @param text the text shown on the tile
+   * @param column the column of the tile
+   * @param row the row of the tile
+   */
+  @Override
+  public void addTile(int tileId, Color color, String text, int column, int row) {
+    if (tileId >= colors.length) {
+      int length = Math.max(tileId + 1, colors.length * 2);
+      columns = Arrays.copyOf(columns, length);
+      rows = Arrays.copyOf(rows, length);
+      colors = Arrays.copyOf(colors, length);
+      texts = Arrays.copyOf(texts, length);
+    }
+    columns[tileId] = column;
+    rows[tileId] = row;
+    colors[tileId] = color;
+    texts[tileId] = text;
+    drawTile(tileId);
+  }
+
+  /**
+   * Moves the game pieces to the tiles of the players, and draws the tiles
+   * that changed again.
+   *
+   * @param players the tokens of the players, in turn order
+   */
+  @Override
+  public void updatePlayers(List<PlayerToken> players) {
+    for (int i = 0; i < Math.max(players.size(), shownTokens.size()); i++) {
+      PlayerToken shownToken = i < shownTokens.size() ? shownTokens.get(i) : null;
+      PlayerToken token = i < players.size() ? players.get(i) : null;
+      if (shownToken != null && !shownToken.equals(token)) {
+        markDirty(shownToken.tileId());
+      }
+      if (token != null && !token.equals(shownToken)) {
+        markDirty(token.tileId());
+      }
+    }
+    shownTokens = List.copyOf(players);
+    for (int tileId = dirtyTiles.nextSetBit(0); tileId >= 0;
+         tileId = dirtyTiles.nextSetBit(tileId + 1)) {
+      drawTile(tileId);
+    }
+    dirtyTiles.clear();
+  }
+
+  /**
+   * Returns the canvas the board is drawn on.
+   *
+   * @return the canvas
+   */
+  @Override
+  public Canvas getNode() {
+    return canvas;
+  }
+
+  /**
+   * Marks a tile to be drawn again, if it is on the board.
+   *
+   * @param tileId the ID of the tile
+   */
+  private void markDirty(int tileId) {
+    if (tileId >= 0 && tileId < colors.length && colors[tileId] != null) {
+      dirtyTiles.set(tileId);
+    }
+  }
+
+  /**
+   * Draws a tile and the game pieces on it.
+   *
+   * @param tileId the ID of the tile
+   */
+  private void drawTile(int tileId) {
+    double x = columns[tileId] * tileSize;
+    double y = rows[tileId] * tileSize;
+    graphics.setFill(colors[tileId]);
+    graphics.fillRect(x, y, tileSize, tileSize);
+    graphics.setStroke(Color.BLACK);
+    graphics.strokeRect(x + 0.5, y + 0.5, tileSize - 1, tileSize - 1);
+    if (tileSize >= MIN_TEXT_TILE_SIZE) {
+      graphics.setFill(Color.BLACK);
+      graphics.fillText(texts[tileId], x + tileSize / 2, y + tileSize / 2, tileSize - 2);
+    }
+
+    int piecesOnTile = 0;
+    for (PlayerToken token : shownTokens) {
+      if (token.tileId() == tileId) {
+        drawGamePiece(token, x, y, piecesOnTile++);
+      }
+    }
+  }
+
+  /**
+   * Draws a game piece on a tile. Up to four pieces are placed in the
+   * corners of the tile, so they do not hide each other.
+   *
+   * @param token the token of the player
+   * @param x the x position of the tile
+   * @param y the y position of the tile
+   * @param index the number of pieces already drawn on the tile
+   */
+  private void drawGamePiece(PlayerToken token, double x, double y, int index) {
+    double radius = tileSize / 4;
+    double centerX = x + tileSize / 4 + (index % 2) * tileSize / 2;
+    double centerY = y + tileSize / 4 + (index / 2 % 2) * tileSize / 2;
+    graphics.setFill(playerColors.apply(token.color()));
+    graphics.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+    graphics.setStroke(Color.BLACK);
+    graphics.strokeOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+  }
+}
@@ -0,0 +1,152 @@
+package edu.ntnu.idi.bidata.ui.gui.base;
+
+import edu.ntnu.idi.bidata.utils.Constants;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+
+/**
+ * Draws a board as a {@link GridPane} of tiles and keeps it up to date.
+ *
+ * <p>Each tile is a {@link StackPane} with a rectangle and a text. The tile nodes
+ * are added once, when the board is created. After a turn, {@link #updatePlayers(List)}
+ * only moves the game pieces of the players who changed tile, so the tiles are not
+ * created again for every move.</p>
+ *
+ * <p>Having one node per tile gets slow for boards with thousands of tiles,
+ * use a {@link CanvasBoardRenderer} for those.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.1.0
+ * @since 0.8.0
+ */
+public class GridBoardRenderer implements BoardRenderer {
+  private final GridPane grid;
+  private final Function<String, Circle> gamePieceFactory;
+  private final Map<Integer, StackPane> tiles;
+  private final List<Circle> gamePieces;
+  private final List<PlayerToken> shownTokens;
+
+  /**
+   * Constructs a {@code GridBoardRenderer} with an empty grid.
+   *
+   * @param gamePieceFactory creates a game piece from the color of a player
+   */
+  public GridBoardRenderer(Function<String, Circle> gamePieceFactory) {
+    this.grid = new GridPane();
+    this.grid.setAlignment(Pos.CENTER);
+    this.gamePieceFactory = gamePieceFactory;
+    this.tiles = new HashMap<>();
+    this.gamePieces = new ArrayList<>();
+    this.shownTokens = new ArrayList<>();
+  }
+
+  /**
+   * Adds a tile to the grid.
+   *
+   * <p>Text other than the tile ID, like the description of a tile action,
+   * is wrapped to the width of the tile.</p>
+   *
+   * @param tileId the ID of the tile
+   * @param color the color of the tile
+   * @param text the text shown on the tile
+   * @param column the column of the tile in the grid
+   * @param row the row of the tile in the grid
+   */
+  @Override
+  public void addTile(int tileId, Color color, String text, int column, int row) {
+    Rectangle rect = new Rectangle(Constants.TILE_SIZE, Constants.TILE_SIZE);
+    rect.setFill(color);
+    rect.setStroke(Color.BLACK);
+    Text tileText = new Text(text);
+    if (!text.equals(String.valueOf(tileId))) {
+      tileText.setWrappingWidth(Constants.TILE_SIZE);
+    }
+
+    StackPane tile = new StackPane();
+    tile.getChildren().addAll(rect, tileText);
+    tiles.put(tileId, tile);
+    grid.add(tile, column, row);
+  }
+
+  /**
+   * Moves the game pieces to the tiles of the players.
+   *
+   * <p>Game pieces are created for new players, and removed for players
+   * that are no longer in the list. Pieces of players who are on the same
+   * tile as the last update are left where they are.</p>
+   *
+   * @param players the tokens of the players, in turn order
+   */
+  @Override
+  public void updatePlayers(List<PlayerToken> players) {
+    for (int i = 0; i < players.size(); i++) {
+      PlayerToken token = players.get(i);
+      if (i == gamePieces.size()) {
+        gamePieces.add(gamePieceFactory.apply(token.color()));
+        shownTokens.add(null);
+      }
+      PlayerToken shownToken = shownTokens.get(i);
+      if (shownToken != null && !shownToken.color().equals(token.color())) {
+        removeFromTile(gamePieces.get(i));
+        gamePieces.set(i, gamePieceFactory.apply(token.color()));
+        shownToken = null;
+      }
+      if (shownToken == null || shownToken.tileId() != token.tileId()) {
+        moveToTile(gamePieces.get(i), token.tileId());
+      }
+      shownTokens.set(i, token);
+    }
+    while (gamePieces.size() > players.size()) {
+      removeFromTile(gamePieces.removeLast());
+      shownTokens.removeLast();
+    }
+  }
+
+  /**
+   * Returns the grid the board is drawn in.
+   *
+   * @return the grid
+   */
+  @Override
+  public GridPane getNode() {
+    return grid;
+  }
+
+  /**
+   * Moves a game piece to a tile.
+   *
+   * @param gamePiece the game piece
+   * @param tileId the ID of the tile, the piece is hidden if the tile is not on the board
+   */
+  private void moveToTile(Circle gamePiece, int tileId) {
+    removeFromTile(gamePiece);
+    StackPane tile = tiles.get(tileId);
+    if (tile != null) {
+      tile.getChildren().add(gamePiece);
+    }
+  }
+
+  /**
+   * Removes a game piece from the tile it is on.
+   *
+   * @param gamePiece the game piece
+   */
+  private static void removeFromTile(Circle gamePiece) {
+    Parent parent = gamePiece.getParent();
+    if (parent instanceof Pane pane) {
+      pane.getChildren().remove(gamePiece);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package edu.ntnu.idi.bidata.ui.gui.base;
+
+import edu.ntnu.idi.bidata.model.engine.Die;
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.image.Image;
+
+/**
+ * A shared cache of the images used by the game pages.
+ *
+ * <p>The six die faces and the images of a skipped player and a player in jail are
+ * loaded together the first time the cache is used, which is when the first game page
+ * is created. After that, showing a roll only looks up an image that is already decoded,
+ * so no resources are read while playing. Other images are loaded on first use and kept.</p>
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public final class ImageCache {
+  private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+  // Prevent instantiation
+  private ImageCache() {}
+
+  /**
+   * Holds the preloaded images. The images are loaded when this class is
+   * first used, after the JavaFX toolkit has started.
+   */
+  private static final class Preloaded {
+    private static final Image[] DIE_FACES = new Image[Die.SIDES + 1];
+
+    static {
+      for (int value = 1; value <= Die.SIDES; value++) {
+        DIE_FACES[value] = getImage(Constants.getImageOfDice(value));
+      }
+      getImage(Constants.getImage(Constants.PLAYER_SKIPPED_FILE_PATH));
+      getImage(Constants.getImage(Constants.PLAYER_IN_JAIL_FILE_PATH));
+    }
+  }
+
+  /**
+   * Returns the image of a die face.
+   *
+   * @param value the value of the die
+   * @return the image of the die face
+   * @throws IntegerException if the value is not a side of the die
+   */
+  public static Image getDieFace(int value) throws IntegerException {
+    if (value < 1 || value > Die.SIDES) {
+      throw new IntegerException("Die value must be between 1 and " + Die.SIDES);
+    }
+    return Preloaded.DIE_FACES[value];
+  }
+
+  /**
+   * Returns the image at a path on the classpath, and loads it the first time.
+   *
+   * @param path the path to the image file
+   * @return the image
+   */
+  public static Image getImage(String path) {
+    return IMAGES.computeIfAbsent(path, ImageCache::loadImage);
+  }
+
+  /**
+   * Makes sure that the preloaded images are loaded.
+   */
+  public static void preload() {
+    Objects.requireNonNull(Preloaded.DIE_FACES);
+  }
+
+  /**
+   * Loads an image from the classpath.
+   *
+   * @param path the path to the image file
+   * @return the loaded image
+   */
+  private static Image loadImage(String path) {
+    return new Image(Objects.requireNonNull(ImageCache.class.getResource(path),
+        "Image not found: " + path).toExternalForm());
+  }
+}
@@ -0,0 +1,31 @@
+package edu.ntnu.idi.bidata.ui.gui.base;
+
+import edu.ntnu.idi.bidata.model.entity.Player;
+
+/**
+ * The position and color of a player's game piece, as shown on the board.
+ *
+ * <p>A token is a copy of the values in a {@link Player}, so the board can be
+ * drawn from tokens without reading the game while it changes.</p>
+ *
+ * @param name the name of the player
+ * @param color the color of the game piece
+ * @param tileId the ID of the tile the player is on
+ *
+ * @author A. Sahoo, B.I. Høie
+ * @version 0.0.1
+ * @since 0.8.0
+ */
+public record PlayerToken(String name, String color, int tileId) {
+
+  /**
+   * Creates a token from the current state of a player.
+   *
+   * @param player the player
+   * @return the token of the player, with tile ID 0 if the player is not on a tile
+   */
+  public static PlayerToken of(Player player) {
+    int tileId = player.getCurrentTile() == null ? 0 : player.getCurrentTile().getTileId();
+    return new PlayerToken(player.getName(), player.getColor(), tileId);
+  }
+}
@@ -1,30 +1,29 @@
 package edu.ntnu.idi.bidata.ui.gui.game;
 
 import edu.ntnu.idi.bidata.model.engine.Dice;
-import edu.ntnu.idi.bidata.model.entity.Player;
 import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.observer.BoardGameObserver;
+import edu.ntnu.idi.bidata.observer.TurnEvent;
 import edu.ntnu.idi.bidata.ui.controller.ControllerMonopoly;
 import edu.ntnu.idi.bidata.ui.factory.ButtonFactory;
 import edu.ntnu.idi.bidata.ui.gui.base.BaseGamePage;
+import edu.ntnu.idi.bidata.ui.gui.base.BoardRenderer;
+import edu.ntnu.idi.bidata.ui.gui.base.BoardRendererType;
+import edu.ntnu.idi.bidata.ui.gui.base.PlayerToken;
 import edu.ntnu.idi.bidata.utils.Constants;
 import edu.ntnu.idi.bidata.utils.MessageDisplay;
-import java.util.Iterator;
+import java.util.List;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Text;
 
 /**
  * Represents the Monopoly game page in the GUI.
@@ -43,7 +42,7 @@ import javafx.scene.text.Text;
  * </ul>
  *
  * @author A. Sahoo, B.I. Høie
- * @version 0.10.2
+ * @version 0.13.0
  * @since 0.0.1
  */
 public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
@@ -55,6 +54,16 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
   private ImageView imageDice1;
   private ImageView imageDice2;
   private ImageView imagePlayerInJail;
+  private BoardRenderer boardRenderer;
+
+  /**
+   * The values shown after a turn, read from the game by the thread playing it.
+   *
+   * @param tokens the game pieces of the players
+   * @param playerInfo the names, pieces and balances of the players
+   */
+  private record TurnView(List<PlayerToken> tokens, String playerInfo) {
+  }
 
   /**
    * Constructor for the MonopolyPage class.
@@ -65,10 +74,21 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
    * @param controller the controller for the Monopoly game.
    */
   public MonopolyPage(ControllerMonopoly controller) {
+    this(controller, BoardRendererType.AUTO);
+  }
+
+  /**
+   * Constructor for the MonopolyPage class, with the given board renderer.
+   *
+   * @param controller the controller for the Monopoly game.
+   * @param rendererType the kind of renderer to draw the board with
+   */
+  public MonopolyPage(ControllerMonopoly controller, BoardRendererType rendererType) {
+    super(rendererType);
     this.controller = controller;
     controller.initializeMonopoly();
     controller.getGame().addObserver(this);
-    GridPane board = createBoard();
+    Node board = createBoard();
     HBox controlPanel = createControlPanel();
 
     mainLayout = getBorderPane(board, controlPanel);
@@ -92,7 +112,7 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
    * @param controlPanel the control panel.
    * @return main layout of the page.
    */
-  private BorderPane getBorderPane(GridPane board, HBox controlPanel) {
+  private BorderPane getBorderPane(Node board, HBox controlPanel) {
     mainLayout = new BorderPane();
     mainLayout.setTop(createTopHbox());
     mainLayout.setCenter(board);
@@ -159,7 +179,9 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
    * Creates the button to roll the dice and play the game.
    *
    * <p>Uses the controller to roll the dice and move the current player.
-   * Also checks the winning condition and updates the UI accordingly</p>
+   * Also checks the winning condition and updates the UI accordingly.
+   * The button is disabled while the turn is played, so the turns are
+   * played one at a time.</p>
    *
    * @return Button to roll the dice.
    */
@@ -168,9 +190,17 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
     rollDiceButton.setStyle(Constants.ROLL_DICE_RESET_GAME_BUTTON_STYLE);
     rollDiceButton.setDisable(false);
     rollDiceButton.setOnAction(event -> {
-      controller.rollDice();
-      playerInformation.setText(displayPlayerInfoMonopoly(controller.getGame()));
-      updateBoard();
+      rollDiceButton.setDisable(true);
+      controller.rollDice(game -> new TurnView(getPlayerTokens(game),
+          displayPlayerInfoMonopoly(game)), view -> {
+            playerInformation.setText(view.playerInfo());
+            boardRenderer.updatePlayers(view.tokens());
+            // The button stays disabled if the turn won the game.
+            rollDiceButton.setDisable(!restartGameButton.isDisabled());
+          }, error -> {
+            setAlertWarning(error.getMessage());
+            rollDiceButton.setDisable(!restartGameButton.isDisabled());
+          });
     });
     return rollDiceButton;
   }
@@ -186,10 +216,9 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
   private Button getSaveGameButton() {
     Button saveGame = new Button(Constants.LABEL_SAVE_GAME_BUTTON);
     saveGame.setStyle(Constants.SAVE_GAME_BUTTON_STYLE);
-    saveGame.setOnAction(e -> {
-      controller.saveGame();
-      setAlertConfirmation(Constants.GAME_SAVED_SUCCESS_MESSAGE);
-    });
+    saveGame.setOnAction(e -> controller.saveGame(
+        () -> setAlertConfirmation(Constants.GAME_SAVED_SUCCESS_MESSAGE),
+        error -> setAlertWarning(error.getMessage())));
     return saveGame;
   }
 
@@ -206,12 +235,16 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
     restartGameButton.setStyle(Constants.ROLL_DICE_RESET_GAME_BUTTON_STYLE);
     restartGameButton.setDisable(true);
     restartGameButton.setOnAction(event -> {
-      controller.resetGame();
-      controller.getGame().addObserver(this);
-      updateBoard();
-      rollDiceButton.setDisable(false);
       restartGameButton.setDisable(true);
-      playerInformation.setText(displayPlayerInfoMonopoly(controller.getGame()));
+      controller.resetGame(game -> new TurnView(getPlayerTokens(game),
+          displayPlayerInfoMonopoly(game)), view -> {
+            playerInformation.setText(view.playerInfo());
+            boardRenderer.updatePlayers(view.tokens());
+            rollDiceButton.setDisable(false);
+          }, error -> {
+            setAlertWarning(error.getMessage());
+            restartGameButton.setDisable(false);
+          });
     });
     return restartGameButton;
   }
@@ -273,11 +306,11 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
    * Updates the game board in the main layout.
    *
    * <p>This method is called when the game state changes,
-   * such as when a player rolls the dice or moves to a new tile.</p>
+   * such as when a player rolls the dice or moves to a new tile.
+   * Only the game pieces of the players who moved are updated.</p>
    */
   private void updateBoard() {
-    GridPane boardGrid = createBoard();
-    mainLayout.setCenter(boardGrid);
+    boardRenderer.updatePlayers(getPlayerTokens(controller.getGame()));
   }
 
   /**
@@ -286,98 +319,72 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
    * <p>This method generates a grid layout representing the Monopoly board.
    * It creates tiles for each position on the board and places player pieces
    * on the corresponding tiles. The player goes around board in a clockwise
-   * manner.</p>
+   * manner. The tiles are kept by the {@link BoardRenderer}, which moves
+   * the players later.</p>
    *
-   * @return grid containing the Monopoly board layout.
+   * @return node containing the Monopoly board layout.
    */
-  private GridPane createBoard() {
-    GridPane grid = new GridPane(); // Recommended by GitHub Copilot v.1.5.45-241
-    grid.setAlignment(Pos.CENTER);
-    grid.setScaleX(0.8); // Set a scale for the horizontal axis
-    grid.setScaleY(0.8); // Set a scale for the vertical axis
+  private Node createBoard() {
     int gridSize = 11; // Size of the grid (11x11 for Monopoly)
     int firstTileId = 1; // Start with tile ID 1
+    boardRenderer = createBoardRenderer(gridSize, gridSize,
+        controller.getGame().getBoard().getTileCount());
+    Node board = boardRenderer.getNode();
+    board.setScaleX(0.8); // Set a scale for the horizontal axis
+    board.setScaleY(0.8); // Set a scale for the vertical axis
 
     //First row from left to right. Tile from 1-10.
     for (int xcoordinateRow = gridSize - 2; xcoordinateRow >= 0; xcoordinateRow--) {
       if (firstTileId <= 40) {
-        StackPane tile = createTile(firstTileId++);
-        grid.add(tile, xcoordinateRow, gridSize - 1);
+        addTile(firstTileId++, xcoordinateRow, gridSize - 1);
       }
     }
 
     //First column from bottom to top. Tile from 11-19.
     for (int ycoordinateColumn = gridSize - 2; ycoordinateColumn >= 0; ycoordinateColumn--) {
       if (firstTileId <= 40) {
-        StackPane tile = createTile(firstTileId++);
-        grid.add(tile, 0, ycoordinateColumn);
+        addTile(firstTileId++, 0, ycoordinateColumn);
       }
     }
 
     //Second row from right to left. Tile from 20-30.
     for (int xcoordinateRow = 1; xcoordinateRow < gridSize - 1; xcoordinateRow++) {
       if (firstTileId <= 40) {
-        StackPane tile = createTile(firstTileId++);
-        grid.add(tile, xcoordinateRow, 0);
+        addTile(firstTileId++, xcoordinateRow, 0);
       }
     }
 
     //Second column from top to bottom. Tile from 31-40.
     for (int ycoordinateColumn = 0; ycoordinateColumn < gridSize; ycoordinateColumn++) {
       if (firstTileId <= 40) {
-        StackPane tile = createTile(firstTileId++);
-        grid.add(tile, gridSize - 1, ycoordinateColumn);
+        addTile(firstTileId++, gridSize - 1, ycoordinateColumn);
       }
     }
-    return grid;
+    updateBoard();
+    return board;
   }
 
   /**
-   * Creates a tile for the Monopoly board.
+   * Adds a tile to the Monopoly board.
    *
-   * <p>This method generates a StackPane containing a rectangle representing the tile,
-   * along with a text label displaying the tile ID. It also handles placing player pieces
-   * on the tile if they are present.</p>
+   * <p>The tile is shown with its color, and the tile ID
+   * or the description of its action.</p>
    *
-   * @param tileId The ID of the tile to be created.
-   * @return A StackPane containing the tile representation.
+   * @param tileId The ID of the tile to be added.
+   * @param column The column of the tile.
+   * @param row The row of the tile.
    */
-  private StackPane createTile(int tileId) {
-    Rectangle rect = new Rectangle(Constants.TILE_SIZE, Constants.TILE_SIZE);
-    Color baseColor = getColor(tileId);
-    rect.setFill(baseColor);
-    rect.setStroke(Color.BLACK);
-    Text text = new Text(String.valueOf(tileId));
+  private void addTile(int tileId, int column, int row) {
+    Color color = getColor(tileId);
+    String text = String.valueOf(tileId);
 
     TileAction landAction = controller.getTileAction(tileId);
     if (landAction != null) {
-      rect.setFill(landAction.getColor());
-      text.setWrappingWidth(60);
-      text.setText(landAction.getDescription());
+      color = landAction.getColor();
+      text = landAction.getDescription();
     }
 
-    StackPane stack = new StackPane();
-    stack.getChildren().addAll(rect, text);
-    placePlayerOnTile(tileId, stack);
-
-    return stack;
-  }
-
-  /**
-   * Places a circle on a specified tile representing the player.
-   *
-   * @param tileId the ID of the tile
-   * @param stack the {@code StackPane} representing the tile
-   */
-  private void placePlayerOnTile(int tileId, StackPane stack) {
-    Iterator<Player> playerIterator = controller.getPlayersIterator();
-    while (playerIterator.hasNext()) {
-      Player player = playerIterator.next();
-      if (player.getCurrentTile().getTileId() == tileId) {
-        Circle circle = createPlayer(player.getColor());
-        stack.getChildren().add(circle);
-      }
-    }
+    boardRenderer.addTile(tileId, color, text, column, row);
   }
 
   /**
@@ -435,9 +442,11 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
   @Override
   public void observerPlayerWonInMonopoly(String name, boolean winner) {
     if (winner) {
-      Platform.runLater(() -> gameInformation.setText(MessageDisplay.winningMessage(name)));
-      rollDiceButton.setDisable(true);
-      restartGameButton.setDisable(false);
+      Platform.runLater(() -> {
+        gameInformation.setText(MessageDisplay.winningMessage(name));
+        rollDiceButton.setDisable(true);
+        restartGameButton.setDisable(false);
+      });
     }
   }
 
@@ -445,5 +454,31 @@ public class MonopolyPage extends BaseGamePage implements BoardGameObserver {
   public void observerPlayerWonInSnakesAndLadders(String name, boolean winner) {
     // This method is not used in Monopoly, but it is required by the interface.
   }
-}
 
+  /**
+   * A notification method that is called once at the end of each turn.
+   *
+   * <p>This method shows the rolled dice, or that the player is skipped, and the
+   * winning message if the player won. Everything is updated in one task on the
+   * JavaFX Application Thread, so the page is only redrawn once per turn.</p>
+   *
+   * @param event what happened in the turn.
+   */
+  @Override
+  public void observerTurnPlayed(TurnEvent event) {
+    Platform.runLater(() -> {
+      if (event.turnSkipped() || event.skipNextTurn()) {
+        gameInformation.setText(MessageDisplay.playerInJailMessage(event.playerName()));
+        updatePlayerSkipped(imageDice1, imageDice2, imagePlayerInJail);
+      } else {
+        showRolledDice(gameInformation, imageDice1, imageDice2, imagePlayerInJail,
+            event.playerName(), event.dice());
+      }
+      if (event.wonMonopoly()) {
+        gameInformation.setText(MessageDisplay.winningMessage(event.playerName()));
+        rollDiceButton.setDisable(true);
+        restartGameButton.setDisable(false);
+      }
+    });
+  }
+}
@@ -1,31 +1,27 @@
 package edu.ntnu.idi.bidata.ui.gui.game;
 
 import edu.ntnu.idi.bidata.model.engine.Dice;
-import edu.ntnu.idi.bidata.model.entity.Player;
 import edu.ntnu.idi.bidata.model.tileactions.TileAction;
 import edu.ntnu.idi.bidata.observer.BoardGameObserver;
+import edu.ntnu.idi.bidata.observer.TurnEvent;
 import edu.ntnu.idi.bidata.ui.controller.ControllerSnakesAndLadders;
 import edu.ntnu.idi.bidata.ui.factory.ButtonFactory;
 import edu.ntnu.idi.bidata.ui.gui.base.BaseGamePage;
+import edu.ntnu.idi.bidata.ui.gui.base.BoardRenderer;
+import edu.ntnu.idi.bidata.ui.gui.base.BoardRendererType;
 import edu.ntnu.idi.bidata.utils.Constants;
 import edu.ntnu.idi.bidata.utils.MessageDisplay;
-import java.io.IOException;
-import java.util.Iterator;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Text;
 
 
 
@@ -45,7 +41,7 @@ import javafx.scene.text.Text;
  *
  * @author A. Sahoo, B.I. Høie
  * @since 0.0.1
- * @version 0.6.0
+ * @version 0.9.0
  */
 public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObserver {
   private final ControllerSnakesAndLadders controller;
@@ -56,6 +52,7 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
   private ImageView imagePlayerSkipped;
   private Button restartGameButton;
   private Button rollDiceButton;
+  private BoardRenderer boardRenderer;
 
   /**
    * Constructor for the SnakesAndLaddersPage class.
@@ -63,10 +60,22 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
    * @param controller the {@link ControllerSnakesAndLadders} which manges the game logic.
    */
   public SnakesAndLaddersPage(ControllerSnakesAndLadders controller) {
+    this(controller, BoardRendererType.AUTO);
+  }
+
+  /**
+   * Constructor for the SnakesAndLaddersPage class, with the given board renderer.
+   *
+   * @param controller the {@link ControllerSnakesAndLadders} which manges the game logic.
+   * @param rendererType the kind of renderer to draw the board with
+   */
+  public SnakesAndLaddersPage(ControllerSnakesAndLadders controller,
+                              BoardRendererType rendererType) {
+    super(rendererType);
     this.controller = controller;
     controller.initializeGame();
     controller.getGame().addObserver(this);
-    GridPane board = createBoard();
+    Node board = createBoard();
     HBox controlPanel = createControlPanel();
 
     mainLayout = getBorderPane(board, controlPanel);
@@ -91,7 +100,7 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
    * @param controlPanel the control panel.
    * @return main layout of the page.
    */
-  private BorderPane getBorderPane(GridPane board, HBox controlPanel) {
+  private BorderPane getBorderPane(Node board, HBox controlPanel) {
     mainLayout = new BorderPane();
     mainLayout.setTop(createTopHbox());
     mainLayout.setCenter(board);
@@ -143,7 +152,9 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
    * Creates the button to roll the dice and play the game.
    *
    * <p>Uses the controller to roll the dice and move the current player.
-   * Also checks the winning condition and updates the UI accordingly</p>
+   * Also checks the winning condition and updates the UI accordingly.
+   * The button is disabled while the turn is played, so the turns are
+   * played one at a time.</p>
    *
    * @return Button to roll the dice.
    */
@@ -152,8 +163,15 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
     rollDiceButton.setStyle(Constants.ROLL_DICE_RESET_GAME_BUTTON_STYLE);
     rollDiceButton.setDisable(false);
     rollDiceButton.setOnAction(e -> {
-      controller.rollDice();
-      updateBoard();
+      rollDiceButton.setDisable(true);
+      controller.rollDice(this::getPlayerTokens, tokens -> {
+        boardRenderer.updatePlayers(tokens);
+        // The button stays disabled if the turn won the game.
+        rollDiceButton.setDisable(!restartGameButton.isDisabled());
+      }, error -> {
+        setAlertWarning(error.getMessage());
+        rollDiceButton.setDisable(!restartGameButton.isDisabled());
+      });
     });
     return rollDiceButton;
   }
@@ -169,14 +187,9 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
   private Button getSaveGameButton() {
     Button saveGame = new Button(Constants.LABEL_SAVE_GAME_BUTTON);
     saveGame.setStyle(Constants.SAVE_GAME_BUTTON_STYLE);
-    saveGame.setOnAction(e -> {
-      try {
-        controller.saveGame();
-        setAlertConfirmation(Constants.GAME_SAVED_SUCCESS_MESSAGE);
-      } catch (IOException ex) {
-        setAlertWarning(ex.getMessage());
-      }
-    });
+    saveGame.setOnAction(e -> controller.saveGame(
+        () -> setAlertConfirmation(Constants.GAME_SAVED_SUCCESS_MESSAGE),
+        error -> setAlertWarning(error.getMessage())));
     return saveGame;
   }
 
@@ -192,11 +205,14 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
     restartGameButton.setStyle(Constants.ROLL_DICE_RESET_GAME_BUTTON_STYLE);
     restartGameButton.setDisable(true);
     restartGameButton.setOnAction(e -> {
-      controller.resetGame();
-      controller.getGame().addObserver(this);
-      updateBoard();
-      rollDiceButton.setDisable(false);
       restartGameButton.setDisable(true);
+      controller.resetGame(this::getPlayerTokens, tokens -> {
+        boardRenderer.updatePlayers(tokens);
+        rollDiceButton.setDisable(false);
+      }, error -> {
+        setAlertWarning(error.getMessage());
+        restartGameButton.setDisable(false);
+      });
     });
     return restartGameButton;
   }
@@ -234,11 +250,11 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
    * Updates the game board in the main layout.
    *
    * <p>This method is called when the game state changes,
-   * such as when a player rolls the dice or moves to a new tile.</p>
+   * such as when a player rolls the dice or moves to a new tile.
+   * Only the game pieces of the players who moved are updated.</p>
    */
   private void updateBoard() {
-    GridPane boardGrid = createBoard();
-    mainLayout.setCenter(boardGrid);
+    boardRenderer.updatePlayers(getPlayerTokens(controller.getGame()));
   }
 
   /**
@@ -254,84 +270,57 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
   }
 
   /**
-   * Creates and returns the board grid for the Snakes and Ladders game.
+   * Creates and returns the board for the Snakes and Ladders game.
    *
-   * <p>Each tile displays its ID and action type, and shows any player currently on it.</p>
+   * <p>Each tile displays its ID and action type, and shows any player currently on it.
+   * The tiles are kept by the {@link BoardRenderer}, which moves the players later.
+   * Large boards are drawn on a canvas instead of with one node per tile.</p>
    *
-   * @return the {@code GridPane} representing the game board.
+   * @return the {@code Node} representing the game board.
    */
-  private GridPane createBoard() {
-    GridPane grid = new GridPane();
-    grid.setAlignment(Pos.CENTER);
+  private Node createBoard() {
+    boardRenderer = createBoardRenderer(controller.getRows(), controller.getColumns(),
+        controller.getTotalTiles());
     int tileNumber = controller.getTotalTiles();
 
     for (int y = 0; y < controller.getRows(); y++) {
       if (y % 2 != 0) {
         for (int x = 0; x < controller.getColumns(); x++) {
-          StackPane tile = createTile(tileNumber--);
-          grid.add(tile, x, y);
+          addTile(tileNumber--, x, y);
         }
       } else {
         for (int x = controller.getColumns() - 1; x >= 0; x--) {
-          StackPane tile = createTile(tileNumber--);
-          grid.add(tile, x, y);
+          addTile(tileNumber--, x, y);
         }
       }
     }
+    updateBoard();
 
-    return grid;
+    return boardRenderer.getNode();
   }
 
   /**
-   * Creates and return a single tile for the board.
+   * Adds a single tile to the board.
    *
-   *<p>Each tile is represented by a {@code StackPane} containing a rectangle,
-   * and information about the tile.</p>
+   *<p>Each tile is shown with its color, and the ID of the tile
+   * or the description of its action.</p>
    *
    * @param tileId the ID of the tile.
-   * @return a {@code StackPane} representing the tile.
+   * @param column the column of the tile.
+   * @param row the row of the tile.
    */
-  private StackPane createTile(int tileId) {
-    final StackPane stack = new StackPane();
-    Rectangle rect = new Rectangle(Constants
-        .TILE_SIZE,
-        Constants.TILE_SIZE);
-    Color baseColor = (tileId % 2 == 0) ? Color.web(Constants.COLOR_TILE_EVEN)
+  private void addTile(int tileId, int column, int row) {
+    Color color = (tileId % 2 == 0) ? Color.web(Constants.COLOR_TILE_EVEN)
         : Color.web(Constants.COLOR_TILE_ODD);
-
-    rect.setFill(baseColor);
-    rect.setStroke(Color.BLACK);
-    Text text = new Text(String.valueOf(tileId));
+    String text = String.valueOf(tileId);
 
     TileAction landAction = controller.getTileAction(tileId);
     if (landAction != null) {
-      rect.setFill(landAction.getColor());
-      text.setWrappingWidth(Constants.TILE_SIZE);
-      text.setText(landAction.getDescription());
+      color = landAction.getColor();
+      text = landAction.getDescription();
     }
 
-    stack.getChildren().addAll(rect, text);
-    placePlayerOnTile(tileId, stack);
-
-    return stack;
-  }
-
-  /**
-   * Places a circle on a specified tile representing the player.
-   *
-   * @param tileId the ID of the tile
-   * @param stack the {@code StackPane} representing the tile
-   */
-  private void placePlayerOnTile(int tileId, StackPane stack) {
-    Iterator<Player> playerIterator = controller.getGame()
-        .getPlayerIterator();
-    while (playerIterator.hasNext()) {
-      Player player = playerIterator.next();
-      if (player.getCurrentTile().getTileId() == tileId) {
-        Circle circle = createPlayer(player.getColor());
-        stack.getChildren().add(circle);
-      }
-    }
+    boardRenderer.addTile(tileId, color, text, column, row);
   }
 
   private VBox createGameInfoBox() {
@@ -405,9 +394,38 @@ public class SnakesAndLaddersPage extends BaseGamePage implements BoardGameObser
   @Override
   public void observerPlayerWonInSnakesAndLadders(String name, boolean winner) {
     if (winner) {
-      Platform.runLater(() -> gameInformation.setText(MessageDisplay.winningMessage(name)));
-      rollDiceButton.setDisable(true);
-      restartGameButton.setDisable(false);
+      Platform.runLater(() -> {
+        gameInformation.setText(MessageDisplay.winningMessage(name));
+        rollDiceButton.setDisable(true);
+        restartGameButton.setDisable(false);
+      });
     }
   }
+
+  /**
+   * A notification method that is called once at the end of each turn.
+   *
+   * <p>This method shows the rolled dice, or that the player is skipped, and the
+   * winning message if the player won. Everything is updated in one task on the
+   * JavaFX Application Thread, so the page is only redrawn once per turn.</p>
+   *
+   * @param event what happened in the turn.
+   */
+  @Override
+  public void observerTurnPlayed(TurnEvent event) {
+    Platform.runLater(() -> {
+      if (event.turnSkipped() || event.skipNextTurn()) {
+        gameInformation.setText(MessageDisplay.playerSkippedMessage(event.playerName()));
+        updatePlayerSkipped(imageDice1, imageDice2, imagePlayerSkipped);
+      } else {
+        showRolledDice(gameInformation, imageDice1, imageDice2, imagePlayerSkipped,
+            event.playerName(), event.dice());
+      }
+      if (event.wonSnakesAndLadders()) {
+        gameInformation.setText(MessageDisplay.winningMessage(event.playerName()));
+        rollDiceButton.setDisable(true);
+        restartGameButton.setDisable(false);
+      }
+    });
+  }
 }
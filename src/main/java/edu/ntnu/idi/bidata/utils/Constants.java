@@ -35,6 +35,11 @@ public final class Constants {
   public static final String BOARD_SAVED_FILEPATH =
       "src/main/resources/board/BoardSaved.json";
 
+  /**
+   * The extension of board files in the binary board format.
+   */
+  public static final String BINARY_BOARD_FILE_EXTENSION = ".board";
+
   /**
    * The file path to the saved Snakes and Ladders player in a CSV file.
    */
@@ -54,6 +59,16 @@ public final class Constants {
       "src/main/resources/players/playersInGameFile.csv";
   public static final int TILE_SIZE = 60;
 
+  /**
+   * Boards with more tiles than this are drawn on a canvas instead of with one node per tile.
+   */
+  public static final int CANVAS_RENDERER_TILE_THRESHOLD = 400;
+
+  /**
+   * The largest width and height of a board drawn on a canvas, in pixels.
+   */
+  public static final int CANVAS_BOARD_MAX_SIZE = 720;
+
   /**
    * The file path to the Monopoly board JSON file.
    */
@@ -0,0 +1,108 @@
+package edu.ntnu.idi.bidata.filehandler;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardCache;
+import edu.ntnu.idi.bidata.model.engine.BoardTemplate;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardCacheTest {
+  private static final String BOARD = """
+      { "name": "Snakes and Ladders", "rows": 1, "columns": 2, "tiles": [
+        { "id": 1, "x": 0, "y": 0, "nextTile": 2 }, { "id": 2, "x": 1, "y": 0 } ] }
+      """;
+
+  @TempDir
+  Path tempDir;
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    file = tempDir.resolve("board.json");
+    Files.writeString(file, BOARD);
+  }
+
+  @AfterEach
+  void tearDown() {
+    BoardCache.clear();
+  }
+
+  @Test
+  void getBoardReturnsCopiesPositiveTest() throws IOException {
+    Board first = BoardCache.getBoard(file);
+    Board second = BoardCache.getBoard(file);
+
+    assertNotSame(first, second);
+    assertNotSame(first.getTileById(1), second.getTileById(1));
+    assertSame(second.getTileById(2), second.getTileById(1).getNextTile());
+  }
+
+  @Test
+  void getBoardCopiesActionsPositiveTest() throws IOException {
+    Path actionFile = tempDir.resolve("actions.json");
+    Files.writeString(actionFile, """
+        { "name": "Snakes and Ladders", "rows": 1, "columns": 3, "tiles": [
+          { "id": 1, "x": 0, "y": 0, "nextTile": 2, "action":
+            { "type": "LadderAction", "description": "Ladder to 3", "destinationTileId": 3 } },
+          { "id": 2, "x": 1, "y": 0, "nextTile": 3, "action":
+            { "type": "SnakeAction", "description": "Snake to 1", "destinationTileId": 1 } },
+          { "id": 3, "x": 2, "y": 0 } ] }
+        """);
+    Board changed = BoardCache.getBoard(actionFile);
+    assertNotSame(changed.getTileAction(1), BoardCache.getBoard(actionFile).getTileAction(1));
+    ((LadderAction) changed.getTileAction(1)).setDestinationTile(2);
+    ((SnakeAction) changed.getTileAction(2)).setDescription("Changed");
+
+    Board cached = BoardCache.getBoard(actionFile);
+    assertEquals(3, cached.getTileAction(1).getDestinationTile());
+    assertEquals("Snake to 1", cached.getTileAction(2).getDescription());
+  }
+
+  @Test
+  void getBoardDoesNotReadUnchangedFilePositiveTest() throws IOException {
+    FileTime lastModified = Files.getLastModifiedTime(file);
+    BoardCache.getBoard(file);
+    // Same size and modification time, so the cached board is used.
+    Files.writeString(file, BOARD.replace("\"rows\": 1", "\"rows\": 7"));
+    Files.setLastModifiedTime(file, lastModified);
+
+    assertEquals(1, BoardCache.getBoard(file).getRows());
+    BoardCache.invalidate(file);
+    assertEquals(7, BoardCache.getBoard(file).getRows());
+  }
+
+  @Test
+  void getBoardReadsChangedFilePositiveTest() throws IOException {
+    BoardCache.getBoard(file);
+    Files.writeString(file, BOARD.replace("\"columns\": 2", "\"columns\": 12"));
+    Files.setLastModifiedTime(file,
+        FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5000));
+
+    assertEquals(12, BoardCache.getBoard(file).getColumns());
+  }
+
+  @Test
+  void getBoardMissingFileNegativeTest() {
+    assertThrows(NoSuchFileException.class,
+        () -> BoardCache.getBoard(tempDir.resolve("missing.json")));
+  }
+
+  @Test
+  void getTemplateIsSharedPositiveTest() throws IOException {
+    BoardTemplate template = BoardCache.getTemplate(file);
+
+    assertSame(template, BoardCache.getTemplate(file));
+    assertEquals(2, template.getTileCount());
+    assertEquals(2, template.getNextTileId(1));
+  }
+}
@@ -0,0 +1,118 @@
+package edu.ntnu.idi.bidata.filehandler;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileConverter;
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderBinary;
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileWriterBinary;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardFileBinaryTest {
+  @TempDir
+  Path tempDir;
+
+  private Board board;
+  private SkipAction sharedSkip;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(2, 3);
+    board.setName("Snakes and Ladders");
+    board.setDescription("A board with every action – and a dash");
+    Tile previous = null;
+    for (int i = 1; i <= 6; i++) {
+      Tile tile = new Tile(i, (i - 1) % 3, (i - 1) / 3);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    sharedSkip = new SkipAction("SKIP: your turn is skipped!");
+    board.getTileById(1).setLandAction(new LadderAction(5, "Ladder from 1 to 5"));
+    board.getTileById(4).setLandAction(new SnakeAction(2, "Snake from 4 to 2"));
+    board.getTileById(2).setLandAction(new BankAction(200, "You won 200"));
+    board.getTileById(3).setLandAction(new LooseMoneyAction(50, "You lost 50"));
+    board.getTileById(5).setLandAction(sharedSkip);
+    board.getTileById(6).setLandAction(sharedSkip);
+  }
+
+  @Test
+  void writeAndReadBoardPositiveTest() throws IOException {
+    Path file = tempDir.resolve("test.board");
+    new BoardFileWriterBinary().writeBoard(board, file);
+    Board read = new BoardFileReaderBinary().readBoard(file);
+
+    assertEquals(2, read.getRows());
+    assertEquals(3, read.getColumns());
+    assertEquals("Snakes and Ladders", read.getName());
+    assertEquals("A board with every action – and a dash", read.getDescription());
+    assertEquals(6, read.getTileCount());
+    for (int i = 1; i <= 6; i++) {
+      Tile tile = read.getTileById(i);
+      assertEquals((i - 1) % 3, tile.getXCoordinate());
+      assertEquals((i - 1) / 3, tile.getYCoordinate());
+      if (i == 6) {
+        assertNull(tile.getNextTile());
+      } else {
+        assertSame(read.getTileById(i + 1), tile.getNextTile());
+      }
+    }
+
+    assertInstanceOf(LadderAction.class, read.getTileAction(1));
+    assertEquals(5, read.getTileAction(1).getDestinationTile());
+    assertEquals("Ladder from 1 to 5", read.getTileAction(1).getDescription());
+    assertInstanceOf(SnakeAction.class, read.getTileAction(4));
+    assertEquals(2, read.getTileAction(4).getDestinationTile());
+    assertEquals(200, ((BankAction) read.getTileAction(2)).getMoney());
+    assertEquals(50, ((LooseMoneyAction) read.getTileAction(3)).getLooseMoney());
+    assertInstanceOf(SkipAction.class, read.getTileAction(5));
+    assertSame(read.getTileAction(5), read.getTileAction(6));
+  }
+
+  @Test
+  void convertJsonToBinaryPositiveTest() throws IOException {
+    Path json = tempDir.resolve("board.json");
+    Files.writeString(json, """
+        { "name": "Monopoly", "rows": 1, "columns": 2, "tiles": [
+          { "id": 1, "x": 0, "y": 0, "nextTile": 2,
+            "action": { "type": "BankAction", "description": "You won 10", "amount": 10 } },
+          { "id": 2, "x": 1, "y": 0 } ] }
+        """);
+    Path binary = tempDir.resolve("board.board");
+    BoardFileConverter.convert(json, binary);
+    Board read = BoardFileConverter.readBoard(binary);
+
+    assertTrue(BoardFileConverter.isBinary(binary));
+    assertFalse(BoardFileConverter.isBinary(json));
+    assertEquals("Monopoly", read.getName());
+    assertEquals(10, ((BankAction) read.getTileAction(1)).getMoney());
+    assertSame(read.getTileById(2), read.getTileById(1).getNextTile());
+  }
+
+  @Test
+  void readBoardNotBinaryNegativeTest() throws IOException {
+    Path file = tempDir.resolve("not.board");
+    Files.writeString(file, "{ \"name\": \"Monopoly\" }");
+    assertThrows(IOException.class, () -> new BoardFileReaderBinary().readBoard(file));
+  }
+
+  @Test
+  void readBoardCutShortNegativeTest() throws IOException {
+    Path file = tempDir.resolve("short.board");
+    new BoardFileWriterBinary().writeBoard(board, file);
+    byte[] bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+    assertThrows(IOException.class, () -> new BoardFileReaderBinary().readBoard(file));
+    Files.write(file, Arrays.copyOf(bytes, 20));
+    assertThrows(IOException.class, () -> new BoardFileReaderBinary().readBoard(file));
+  }
+}
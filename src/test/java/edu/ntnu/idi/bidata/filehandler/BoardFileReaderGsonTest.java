@@ -119,4 +119,38 @@ class BoardFileReaderGsonTest {
     TileAction noTileACtion = board.getTileById(4).getLandAction();
     assertNull(noTileACtion);
   }
-}
\ No newline at end of file
+
+  @Test
+  void readBoardNameAfterTilesPositiveTest() throws IOException {
+    Path tempFile = Files.createTempFile("board-test-3", ".json");
+    Files.writeString(tempFile, """
+        {
+          "tiles": [
+            { "id": 2, "x": 1, "y": 0, "action": { "type": "SnakeAction",
+              "description": "Snake from 2 to 1", "destinationTileId": 1 }, "color": "red" },
+            { "id": 1, "x": 0, "y": 0, "nextTile": 2, "action": null }
+          ],
+          "extra": { "ignored": [1, 2, 3] },
+          "rows": 1,
+          "columns": 2,
+          "name": "Snakes and Ladders"
+        }
+        """);
+    Board board = gsonReader.readBoard(tempFile);
+
+    assertEquals(2, board.getColumns());
+    assertEquals(2, board.getTileCount());
+    assertSame(board.getTileById(2), board.getTileById(1).getNextTile());
+    assertInstanceOf(SnakeAction.class, board.getTileAction(2));
+    assertNull(board.getTileAction(1));
+  }
+
+  @Test
+  void readBoardTileWithoutIdNegativeTest() throws IOException {
+    Path tempFile = Files.createTempFile("board-test-4", ".json");
+    Files.writeString(tempFile, """
+        { "name": "Monopoly", "rows": 1, "columns": 1, "tiles": [ { "x": 0, "y": 0 } ] }
+        """);
+    assertThrows(IOException.class, () -> gsonReader.readBoard(tempFile));
+  }
+}
@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.filehandler;
 
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
 import edu.ntnu.idi.bidata.filehandler.board.BoardFileWriter;
 import edu.ntnu.idi.bidata.filehandler.board.BoardFileWriterGson;
 import edu.ntnu.idi.bidata.model.entity.Board;
@@ -7,10 +8,13 @@ import edu.ntnu.idi.bidata.model.entity.Tile;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
 import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class BoardFileWriterGsonTest {
   private BoardFileWriter boardFileWriter;
@@ -43,9 +47,28 @@ class BoardFileWriterGsonTest {
           "rows": 2,
           "columns": 2,
           "tiles": [
-            {"id": 1, "x": 0, "y": 0, "nextTile": 2, "action": { "type": "LadderAction", "description": "Ladder from 1 to 3", "destinationTileId": 3}},
-            {"id": 2, "x": 1, "y": 0, "nextTile": 3},
-            {"id": 3, "x": 2, "y": 1}
+            {
+              "id": 1,
+              "x": 0,
+              "y": 0,
+              "nextTile": 2,
+              "action": {
+                "type": "LadderAction",
+                "description": "Ladder from 1 to 3",
+                "destinationTileId": 3
+              }
+            },
+            {
+              "id": 2,
+              "x": 1,
+              "y": 0,
+              "nextTile": 3
+            },
+            {
+              "id": 3,
+              "x": 2,
+              "y": 1
+            }
           ]
         }
         """;
@@ -53,4 +76,34 @@ class BoardFileWriterGsonTest {
     String actual = Files.readString(path);
     assertEquals(expected.trim(), actual.trim());
   }
-}
\ No newline at end of file
+
+  @Test
+  void writeBoardMonopolyRoundTripPositiveTest() throws IOException {
+    Board board = new Board(1, 3);
+    board.setName("Monopoly");
+    board.setDescription("A small \"Monopoly\" board");
+    Tile tile1 = new Tile(1, 0, 0);
+    Tile tile2 = new Tile(2, 1, 0);
+    Tile tile3 = new Tile(3, 2, 0);
+    tile1.setNextTile(tile2);
+    tile2.setNextTile(tile3);
+    tile1.setLandAction(new BankAction(250, "You won 250"));
+    tile2.setLandAction(new LooseMoneyAction(75, "You lost 75"));
+    tile3.setLandAction(new SkipAction("SKIP: your turn is skipped!"));
+    board.addTile(tile1);
+    board.addTile(tile2);
+    board.addTile(tile3);
+
+    Path path = Files.createTempFile("board-writer-test-2", ".json");
+    boardFileWriter.writeBoard(board, path);
+    Board read = new BoardFileReaderGson().readBoard(path);
+
+    assertEquals("Monopoly", read.getName());
+    assertEquals("A small \"Monopoly\" board", read.getDescription());
+    assertEquals(250, assertInstanceOf(BankAction.class, read.getTileAction(1)).getMoney());
+    assertEquals(75,
+        assertInstanceOf(LooseMoneyAction.class, read.getTileAction(2)).getLooseMoney());
+    assertInstanceOf(SkipAction.class, read.getTileAction(3));
+    assertSame(read.getTileById(3), read.getTileById(2).getNextTile());
+  }
+}
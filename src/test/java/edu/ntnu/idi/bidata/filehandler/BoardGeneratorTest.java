@@ -0,0 +1,141 @@
+package edu.ntnu.idi.bidata.filehandler;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
+import edu.ntnu.idi.bidata.filehandler.board.BoardGenerator;
+import edu.ntnu.idi.bidata.filehandler.board.BoardGenerator.GameType;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.*;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGeneratorTest {
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void generateSnakesAndLaddersBoardPositiveTest() throws IOException, NullOrBlankException {
+    Path file = tempDir.resolve("board.json");
+    BoardGenerator generator = new BoardGenerator(GameType.SNAKES_AND_LADDERS, 20, 15, 42);
+    generator.setSnakesAndLaddersDensities(0.2, 0.2, 0.1);
+    generator.generate(file);
+    Board board = new BoardFileReaderGson().readBoard(file);
+
+    assertEquals("Snakes and Ladders", board.getName());
+    assertEquals(20, board.getRows());
+    assertEquals(15, board.getColumns());
+    assertEquals(300, board.getTileCount());
+    assertEquals(14, board.getTileById(16).getXCoordinate());
+    assertEquals(1, board.getTileById(16).getYCoordinate());
+    assertNull(board.getTileById(1).getLandAction());
+    assertNull(board.getTileById(300).getLandAction());
+    assertNull(board.getTileById(300).getNextTile());
+
+    int ladders = 0;
+    int snakes = 0;
+    int skips = 0;
+    for (int tileId = 1; tileId < 300; tileId++) {
+      Tile tile = board.getTileById(tileId);
+      assertEquals(tileId + 1, tile.getNextTile().getTileId());
+      TileAction action = tile.getLandAction();
+      if (action instanceof LadderAction) {
+        assertTrue(action.getDestinationTile() > tileId);
+        assertTrue(action.getDestinationTile() < 300);
+        ladders++;
+      } else if (action instanceof SnakeAction) {
+        assertTrue(action.getDestinationTile() < tileId);
+        assertTrue(action.getDestinationTile() >= 1);
+        snakes++;
+      } else if (action instanceof SkipAction) {
+        skips++;
+      } else {
+        assertNull(action);
+      }
+    }
+    assertTrue(ladders > 30 && ladders < 90);
+    assertTrue(snakes > 30 && snakes < 90);
+    assertTrue(skips > 10 && skips < 50);
+  }
+
+  @Test
+  void generateMonopolyBoardPositiveTest() throws IOException, NullOrBlankException {
+    Path file = tempDir.resolve("monopoly.json");
+    BoardGenerator generator = new BoardGenerator(GameType.MONOPOLY, 10, 10, 7);
+    generator.setBankAmounts(100, 200);
+    generator.setLooseMoneyAmounts(10, 20);
+    generator.generate(file);
+    Board board = new BoardFileReaderGson().readBoard(file);
+
+    assertEquals("Monopoly", board.getName());
+    assertEquals(100, board.getTileCount());
+    assertEquals(1, board.getTileById(100).getNextTile().getTileId());
+    boolean hasAction = false;
+    for (int tileId = 1; tileId <= 100; tileId++) {
+      TileAction action = board.getTileById(tileId).getLandAction();
+      if (action instanceof BankAction bankAction) {
+        assertTrue(bankAction.getMoney() >= 100 && bankAction.getMoney() <= 200);
+      } else if (action instanceof LooseMoneyAction looseMoneyAction) {
+        assertTrue(looseMoneyAction.getLooseMoney() >= 10
+            && looseMoneyAction.getLooseMoney() <= 20);
+      } else if (action != null) {
+        assertInstanceOf(SkipAction.class, action);
+      }
+      hasAction |= action != null;
+    }
+    assertTrue(hasAction);
+  }
+
+  @Test
+  void generateWithSameSeedGivesSameFilePositiveTest()
+      throws IOException, NullOrBlankException {
+    Path first = tempDir.resolve("first.json");
+    Path second = tempDir.resolve("second.json");
+    Path other = tempDir.resolve("other.json");
+    new BoardGenerator(GameType.SNAKES_AND_LADDERS, 30, 30, 1).generate(first);
+    new BoardGenerator(GameType.SNAKES_AND_LADDERS, 30, 30, 1).generate(second);
+    new BoardGenerator(GameType.SNAKES_AND_LADDERS, 30, 30, 2).generate(other);
+
+    assertEquals(-1, Files.mismatch(first, second));
+    assertNotEquals(-1, Files.mismatch(first, other));
+  }
+
+  @Test
+  void generateWithoutActionsPositiveTest() throws IOException, NullOrBlankException {
+    Path file = tempDir.resolve("empty.json");
+    BoardGenerator generator = new BoardGenerator(GameType.SNAKES_AND_LADDERS, 5, 5, 3);
+    generator.setSnakesAndLaddersDensities(0, 0, 0);
+    generator.generate(file);
+    Board board = new BoardFileReaderGson().readBoard(file);
+
+    for (int tileId = 1; tileId <= 25; tileId++) {
+      assertNull(board.getTileById(tileId).getLandAction());
+    }
+  }
+
+  @Test
+  void boardGeneratorNegativeTest() throws NullOrBlankException {
+    assertThrows(NullOrBlankException.class, () -> new BoardGenerator(null, 5, 5, 1));
+    assertThrows(IntegerException.class,
+        () -> new BoardGenerator(GameType.MONOPOLY, 0, 5, 1));
+    assertThrows(IntegerException.class,
+        () -> new BoardGenerator(GameType.MONOPOLY, 65_536, 65_536, 1));
+
+    BoardGenerator generator = new BoardGenerator(GameType.SNAKES_AND_LADDERS, 5, 5, 1);
+    assertThrows(IllegalArgumentException.class,
+        () -> generator.setSnakesAndLaddersDensities(0.5, 0.4, 0.2));
+    assertThrows(IllegalArgumentException.class,
+        () -> generator.setMonopolyDensities(-0.1, 0.4, 0.2));
+    assertThrows(IntegerException.class, () -> generator.setBankAmounts(200, 100));
+    assertThrows(IntegerException.class, () -> generator.setLooseMoneyAmounts(-1, 100));
+    assertThrows(IntegerException.class, () -> generator.setBankAmounts(0, 100),
+        "A bank action can not give 0");
+    assertThrows(IntegerException.class, () -> generator.setLooseMoneyAmounts(0, 100),
+        "A loose money action can not take 0");
+  }
+}
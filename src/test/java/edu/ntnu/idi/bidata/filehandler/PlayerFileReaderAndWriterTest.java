@@ -14,6 +14,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PlayerFileReaderAndWriterTest {
@@ -47,7 +48,7 @@ class PlayerFileReaderAndWriterTest {
     players.add(player4);
 
     //Creates and writes the player to the file.
-    PlayerFileWriter.writeToCsv(players, Path.of(TEST_FILE).toString());
+    assertTrue(PlayerFileWriter.writeToCsv(players, Path.of(TEST_FILE).toString()));
 
     csvReader.readCsvBuffered(TEST_FILE, game);
 
@@ -72,4 +73,13 @@ class PlayerFileReaderAndWriterTest {
     //There should not be any players in the game.
     assertTrue(game.getPlayers().isEmpty(), "No players found");
   }
+
+  @Test
+  void writeToMissingDirectoryNegativeTest() {
+    Player player = new Player("Atle", "BLACK", game, 0, 1);
+    String fileName = Path.of("missing_directory", TEST_FILE).toString();
+
+    assertFalse(PlayerFileWriter.writeToCsv(List.of(player), fileName),
+        "A failed write must be reported");
+  }
 }
\ No newline at end of file
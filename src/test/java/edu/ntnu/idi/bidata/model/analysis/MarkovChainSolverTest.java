@@ -0,0 +1,115 @@
+package edu.ntnu.idi.bidata.model.analysis;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.simulation.GameSimulator;
+import edu.ntnu.idi.bidata.model.simulation.SimulationStatistics;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkovChainSolverTest {
+
+  private static Board createBoard(int tileCount) {
+    Board board = new Board(1, tileCount);
+    Tile previous = null;
+    for (int i = 1; i <= tileCount; i++) {
+      Tile tile = new Tile(i, i - 1, 0);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    return board;
+  }
+
+  @Test
+  void expectedTurnsOnShortBoardPositiveTest() throws NullOrBlankException {
+    MarkovChainSolver solver = new MarkovChainSolver(createBoard(3), 1);
+
+    // A roll of 1 stops on tile 2, every other roll is held back on tile 3.
+    assertEquals(7.0 / 6, solver.getExpectedTurns(), 1e-12);
+    double[] finish = solver.getFinishProbabilities(3);
+    assertEquals(5.0 / 6, finish[1], 1e-12);
+    assertEquals(1.0 / 6, finish[2], 1e-12);
+    assertEquals(0, finish[3], 1e-12);
+    assertEquals(1.0 / 6, solver.getExpectedVisits(2), 1e-12);
+    assertEquals(1, solver.getExpectedVisits(3), 1e-12);
+    assertEquals(0, solver.getExpectedVisits(1), 1e-12);
+  }
+
+  @Test
+  void skipTileCostsOneTurnPositiveTest() throws NullOrBlankException {
+    Board board = createBoard(8);
+    board.getTileById(2).setLandAction(new SkipAction("Skip"));
+    MarkovChainSolver solver = new MarkovChainSolver(board, 1);
+
+    // Tile 2 can only be reached from tile 1 with a roll of 1, and then holds the player
+    // for the turn it is landed on and the skipped turn.
+    assertEquals(2.0 / 6, solver.getExpectedVisits(2), 1e-12);
+    double[] finish = solver.getFinishProbabilities(10);
+    assertEquals(0, finish[1], 1e-12, "Tile 8 is seven steps from the start");
+    double total = 0;
+    for (double probability : finish) {
+      total += probability;
+    }
+    assertEquals(1, total, 1e-12, "Every turn moves at least one step, so all games end");
+  }
+
+  @Test
+  void matchesSimulationPositiveTest() throws NullOrBlankException {
+    Board board = createBoard(30);
+    board.getTileById(4).setLandAction(new LadderAction(14, "Ladder from 4 to 14"));
+    board.getTileById(9).setLandAction(new LadderAction(21, "Ladder from 9 to 21"));
+    board.getTileById(17).setLandAction(new SnakeAction(7, "Snake from 17 to 7"));
+    board.getTileById(27).setLandAction(new SnakeAction(1, "Snake from 27 to 1"));
+    board.getTileById(12).setLandAction(new SkipAction("Skip"));
+    MarkovChainSolver solver = new MarkovChainSolver(board, 1);
+
+    SimulationStatistics statistics =
+        new GameSimulator(board, 1, 1, new SplittableRandom(42)).run(100_000);
+
+    double expectedTurns = solver.getExpectedTurns();
+    assertEquals(expectedTurns, statistics.getAverageTurns(), expectedTurns * 0.02);
+    double visits = 0;
+    for (int tileId = 1; tileId <= 30; tileId++) {
+      visits += solver.getExpectedVisits(tileId);
+      double simulated = (double) statistics.getTileVisits(tileId) / statistics.getGamesPlayed();
+      assertEquals(solver.getExpectedVisits(tileId), simulated, 0.05, "Tile " + tileId);
+    }
+    assertEquals(expectedTurns, visits, 1e-9, "Every turn ends on one tile");
+    assertEquals(0, solver.getOccupancy(17), 1e-12, "Nobody stays on a snake");
+  }
+
+  @Test
+  void expectedTurnsIsInfiniteWhenStuckNegativeTest() throws NullOrBlankException {
+    Board board = createBoard(20);
+    for (int tileId = 3; tileId <= 8; tileId++) {
+      board.getTileById(tileId).setLandAction(new SnakeAction(1, "Snake to 1"));
+    }
+    MarkovChainSolver solver = new MarkovChainSolver(board, 1);
+
+    assertEquals(Double.POSITIVE_INFINITY, solver.getExpectedTurns());
+    assertEquals(Double.POSITIVE_INFINITY, solver.getExpectedVisits(2));
+    assertEquals(0, solver.getFinishProbabilities(50)[50]);
+  }
+
+  @Test
+  void constructorNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> new MarkovChainSolver(null, 1));
+    assertThrows(IntegerException.class, () -> new MarkovChainSolver(createBoard(5), 0));
+    assertThrows(NullOrBlankException.class, () -> new MarkovChainSolver(new Board(1, 1), 1));
+  }
+
+  @Test
+  void getFinishProbabilitiesNegativeTest() throws NullOrBlankException {
+    MarkovChainSolver solver = new MarkovChainSolver(createBoard(5), 1);
+    assertThrows(IntegerException.class, () -> solver.getFinishProbabilities(-1));
+  }
+}
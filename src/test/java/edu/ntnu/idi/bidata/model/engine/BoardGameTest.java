@@ -1,11 +1,23 @@
 package edu.ntnu.idi.bidata.model.engine;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 import edu.ntnu.idi.bidata.model.entity.Board;
 import edu.ntnu.idi.bidata.model.entity.Player;
 import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.observer.BoardGameObserver;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.observer.TurnEvent;
+import edu.ntnu.idi.bidata.observer.event.BalanceChangedEvent;
+import edu.ntnu.idi.bidata.observer.event.GameEvent;
+import edu.ntnu.idi.bidata.observer.event.GameEventBus;
+import edu.ntnu.idi.bidata.observer.event.PlayerMovedEvent;
+import edu.ntnu.idi.bidata.observer.event.TileActionEvent;
+import edu.ntnu.idi.bidata.observer.event.TurnSkippedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
@@ -132,4 +144,251 @@ class BoardGameTest {
     game.play();
     assertFalse(player1.isPlayerIsSkipped());
   }
-}
\ No newline at end of file
+
+  @Test
+  void restartPositiveTest() throws NullOrBlankException {
+    Board board = new Board(1, 3);
+    for (int i = 1; i <= 3; i++) {
+      board.addTile(new Tile(i, i - 1, 0));
+    }
+    boardGame.createBoard(board);
+    boardGame.createDice(1);
+    boardGame.addPlayer(player1);
+    boardGame.addPlayer(player2);
+    player1.placeOnTile(board.getTileById(3));
+    player2.placeOnTile(board.getTileById(2));
+    player2.setInSkipped(true);
+    boardGame.play();
+
+    Board newBoard = board.copy();
+    boardGame.restart(newBoard);
+
+    assertSame(newBoard, boardGame.getBoard());
+    assertSame(newBoard, boardGame.getCompiledBoard().getBoard());
+    assertSame(player1, boardGame.getCurrentPlayer());
+    assertSame(newBoard.getTileById(1), player1.getCurrentTile());
+    assertSame(newBoard.getTileById(1), player2.getCurrentTile());
+    assertFalse(player2.isPlayerIsSkipped());
+  }
+
+  @Test
+  void restartNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> boardGame.restart(null));
+  }
+
+  @Test
+  void batchNotificationsPositiveTest() throws NullOrBlankException {
+    Board board = new Board(1, 20);
+    for (int i = 1; i <= 20; i++) {
+      board.addTile(new Tile(i, i - 1, 0));
+    }
+    for (int i = 1; i < 20; i++) {
+      board.getTileById(i).setNextTile(board.getTileById(i + 1));
+    }
+    boardGame.createBoard(board);
+    boardGame.createDice(2, new SplittableRandom(7));
+    boardGame.addPlayer(player1);
+    boardGame.addPlayer(player2);
+    player1.placeOnTile(board.getTileById(1));
+    player2.placeOnTile(board.getTileById(1));
+    player2.setInSkipped(true);
+
+    List<TurnEvent> events = new ArrayList<>();
+    int[] legacyCalls = new int[1];
+    boardGame.addObserver(new BoardGameObserver() {
+      @Override
+      public void observerPlayerMoved(String name, Dice dice) {
+        legacyCalls[0]++;
+      }
+
+      @Override
+      public void observerIsPlayerSkipped(String name, boolean isInJail) {
+        legacyCalls[0]++;
+      }
+
+      @Override
+      public void observerPlayerWonInMonopoly(String name, boolean winner) {
+        legacyCalls[0]++;
+      }
+
+      @Override
+      public void observerPlayerWonInSnakesAndLadders(String name, boolean winner) {
+        legacyCalls[0]++;
+      }
+
+      @Override
+      public void observerTurnPlayed(TurnEvent event) {
+        events.add(event);
+      }
+    });
+    boardGame.setBatchNotifications(true);
+    assertTrue(boardGame.isBatchNotifications());
+
+    boardGame.play();
+    boardGame.play();
+
+    assertEquals(0, legacyCalls[0]);
+    assertEquals(2, events.size());
+    TurnEvent moved = events.get(0);
+    assertEquals("Player1", moved.playerName());
+    assertEquals(2, moved.dice().size());
+    assertEquals(1, moved.fromTileId());
+    assertEquals(1 + moved.steps(), moved.toTileId());
+    assertEquals(player1.getCurrentTile().getTileId(), moved.toTileId());
+    assertFalse(moved.turnSkipped());
+
+    TurnEvent skipped = events.get(1);
+    assertEquals("Player2", skipped.playerName());
+    assertTrue(skipped.turnSkipped());
+    assertTrue(skipped.dice().isEmpty());
+    assertEquals(1, skipped.toTileId());
+    assertSame(player1, boardGame.getCurrentPlayer());
+  }
+
+  @Test
+  void batchNotificationsNegativeTest() throws NullOrBlankException {
+    Board board = new Board(1, 3);
+    for (int i = 1; i <= 3; i++) {
+      board.addTile(new Tile(i, i - 1, 0));
+    }
+    boardGame.createBoard(board);
+    boardGame.createDice(1);
+    boardGame.addPlayer(player1);
+    player1.placeOnTile(board.getTileById(1));
+    List<TurnEvent> events = new ArrayList<>();
+    boardGame.addObserver(new BoardGameObserver() {
+      @Override
+      public void observerPlayerMoved(String name, Dice dice) {
+      }
+
+      @Override
+      public void observerIsPlayerSkipped(String name, boolean isInJail) {
+      }
+
+      @Override
+      public void observerPlayerWonInMonopoly(String name, boolean winner) {
+      }
+
+      @Override
+      public void observerPlayerWonInSnakesAndLadders(String name, boolean winner) {
+      }
+
+      @Override
+      public void observerTurnPlayed(TurnEvent event) {
+        events.add(event);
+      }
+    });
+
+    boardGame.play();
+
+    assertFalse(boardGame.isBatchNotifications());
+    assertTrue(events.isEmpty());
+  }
+
+  @Test
+  void subscribePositiveTest() throws NullOrBlankException {
+    Board board = new Board(1, 20);
+    for (int i = 1; i <= 20; i++) {
+      board.addTile(new Tile(i, i - 1, 0));
+    }
+    for (int i = 1; i < 20; i++) {
+      board.getTileById(i).setNextTile(board.getTileById(i + 1));
+    }
+    for (int i = 2; i <= 7; i++) {
+      board.getTileById(i).setLandAction(new BankAction(100, "Bank"));
+    }
+    boardGame.createBoard(board);
+    boardGame.createDice(1, new SplittableRandom(3));
+    Player banker = new Player("Banker", "RED", boardGame, 0, 1);
+    boardGame.addPlayer(banker);
+    boardGame.addPlayer(player2);
+    banker.placeOnTile(board.getTileById(1));
+    player2.placeOnTile(board.getTileById(1));
+    player2.setInSkipped(true);
+
+    List<GameEvent> events = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Void> done = boardGame.getEventPublisher().consume(events::add);
+    boardGame.play();
+    boardGame.play();
+    boardGame.getEventPublisher().close();
+    done.join();
+
+    assertEquals(4, events.size());
+    PlayerMovedEvent moved = assertInstanceOf(PlayerMovedEvent.class, events.get(0));
+    assertEquals(1, moved.turn());
+    assertEquals(1, moved.fromTileId());
+    assertEquals(moved.dice().getFirst(), moved.path().size());
+    assertEquals(banker.getCurrentTile().getTileId(), moved.landedTileId());
+
+    TileActionEvent action = assertInstanceOf(TileActionEvent.class, events.get(1));
+    assertEquals("BankAction", action.actionType());
+    assertEquals(moved.landedTileId(), action.tileId());
+    assertFalse(action.movedPlayer());
+
+    BalanceChangedEvent balance = assertInstanceOf(BalanceChangedEvent.class, events.get(2));
+    assertEquals(100, balance.change());
+
+    TurnSkippedEvent skipped = assertInstanceOf(TurnSkippedEvent.class, events.get(3));
+    assertEquals(2, skipped.turn());
+    assertEquals("Player2", skipped.playerName());
+    assertEquals(2, boardGame.getTurns());
+  }
+
+  @Test
+  void subscribeNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> boardGame.subscribe(null));
+  }
+
+  @Test
+  void eventBusAndObserverRemovalPositiveTest() throws NullOrBlankException {
+    Board board = new Board(1, 20);
+    for (int i = 1; i <= 20; i++) {
+      board.addTile(new Tile(i, i - 1, 0));
+    }
+    for (int i = 1; i < 20; i++) {
+      board.getTileById(i).setNextTile(board.getTileById(i + 1));
+    }
+    boardGame.createBoard(board);
+    boardGame.createDice(1);
+    boardGame.addPlayer(player1);
+    player1.placeOnTile(board.getTileById(1));
+    boardGame.setBatchNotifications(true);
+    List<TurnEvent> turns = new ArrayList<>();
+    boardGame.addObserver(new BoardGameObserver() {
+      @Override
+      public void observerPlayerMoved(String name, Dice dice) {
+      }
+
+      @Override
+      public void observerIsPlayerSkipped(String name, boolean isInJail) {
+      }
+
+      @Override
+      public void observerPlayerWonInMonopoly(String name, boolean winner) {
+      }
+
+      @Override
+      public void observerPlayerWonInSnakesAndLadders(String name, boolean winner) {
+      }
+
+      @Override
+      public void observerTurnPlayed(TurnEvent event) {
+        turns.add(event);
+        boardGame.removeObserver(this);
+      }
+    });
+    List<GameEvent> events = Collections.synchronizedList(new ArrayList<>());
+    GameEventBus bus = new GameEventBus();
+    bus.subscribe(events::add);
+    boardGame.setEventBus(bus);
+
+    boardGame.play();
+    boardGame.play();
+    bus.close();
+
+    assertEquals(1, turns.size());
+    assertEquals(2, events.size());
+    assertSame(bus, boardGame.getEventBus());
+    assertThrows(NullOrBlankException.class, () -> boardGame.setEventBus(null));
+  }
+}
@@ -0,0 +1,102 @@
+package edu.ntnu.idi.bidata.model.engine;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardTemplateTest {
+  Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(2, 5);
+    board.setName("Snakes and Ladders");
+    Tile previous = null;
+    for (int i = 1; i <= 10; i++) {
+      Tile tile = new Tile(i, (i - 1) % 5, (i - 1) / 5);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    board.getTileById(2).setLandAction(new LadderAction(7, "Ladder from 2 to 7"));
+    board.getTileById(8).setLandAction(new SnakeAction(3, "Snake from 8 to 3"));
+    board.getTileById(4).setLandAction(new SkipAction("Skip"));
+    board.getTileById(5).setLandAction(new BankAction(100, "You won 100"));
+    board.getTileById(6).setLandAction(new LooseMoneyAction(40, "You lost 40"));
+  }
+
+  @Test
+  void ofPositiveTest() throws NullOrBlankException {
+    BoardTemplate template = BoardTemplate.of(board);
+
+    assertEquals("Snakes and Ladders", template.getName());
+    assertEquals(2, template.getRows());
+    assertEquals(5, template.getColumns());
+    assertEquals(10, template.getTileCount());
+    assertEquals(10, template.getLastTileId());
+    assertEquals(3, template.getXCoordinate(9));
+    assertEquals(1, template.getYCoordinate(9));
+
+    assertEquals(BoardTemplate.ActionType.MOVE, template.getActionType(2));
+    assertEquals(7, template.getActionValue(2));
+    assertEquals(BoardTemplate.ActionType.MOVE, template.getActionType(8));
+    assertEquals(3, template.getActionValue(8));
+    assertEquals(BoardTemplate.ActionType.SKIP, template.getActionType(4));
+    assertEquals(BoardTemplate.ActionType.MONEY, template.getActionType(5));
+    assertEquals(100, template.getActionValue(5));
+    assertEquals(-40, template.getActionValue(6));
+    assertEquals("You lost 40", template.getActionDescription(6));
+    assertEquals(BoardTemplate.ActionType.NONE, template.getActionType(1));
+    assertNull(template.getActionDescription(1));
+  }
+
+  @Test
+  void getTileAfterPositiveTest() throws NullOrBlankException {
+    BoardTemplate template = BoardTemplate.of(board);
+
+    assertEquals(4, template.getTileAfter(1, 3));
+    assertEquals(1, template.getTileAfter(1, 0));
+    assertEquals(10, template.getTileAfter(8, 6), "The last tile has no next tile");
+    assertEquals(2, template.getNextTileId(1));
+    assertEquals(10, template.getNextTileId(10));
+  }
+
+  @Test
+  void templateIgnoresLaterChangesPositiveTest() throws NullOrBlankException {
+    BoardTemplate template = BoardTemplate.of(board);
+    board.getTileById(1).setLandAction(new SkipAction("Skip"));
+    board.getTileById(1).setNextTile(board.getTileById(9));
+
+    assertEquals(BoardTemplate.ActionType.NONE, template.getActionType(1));
+    assertEquals(2, template.getNextTileId(1));
+  }
+
+  @Test
+  void missingTileNegativeTest() throws NullOrBlankException {
+    board.getTileById(3).setLandAction(new LadderAction(50, "Ladder off the board"));
+    BoardTemplate template = BoardTemplate.of(board);
+
+    assertEquals(BoardTemplate.ActionType.NONE, template.getActionType(3));
+    assertFalse(template.hasTile(0));
+    assertFalse(template.hasTile(11));
+    assertFalse(template.hasTile(-1));
+    assertEquals(BoardTemplate.NO_TILE, template.getTileAfter(11, 2));
+    assertEquals(BoardTemplate.NO_TILE, template.getNextTileId(-3));
+    assertEquals(BoardTemplate.ActionType.NONE, template.getActionType(42));
+  }
+
+  @Test
+  void ofNullNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> BoardTemplate.of(null));
+  }
+}
@@ -0,0 +1,146 @@
+package edu.ntnu.idi.bidata.model.engine;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledBoardTest {
+  Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(2, 10);
+    Tile previous = null;
+    for (int i = 1; i <= 20; i++) {
+      Tile tile = new Tile(i, i - 1, 0);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    board.getTileById(3).setLandAction(new LadderAction(12, "Ladder from 3 to 12"));
+    board.getTileById(16).setLandAction(new SnakeAction(5, "Snake from 16 to 5"));
+    board.getTileById(7).setLandAction(new SkipAction("Skip"));
+    board.getTileById(9).setLandAction(new BankAction(100, "Bank"));
+    board.getTileById(11).setLandAction(new LadderAction(7, "Ladder from 11 to 7"));
+  }
+
+  @Test
+  void getDestinationPositiveTest() throws NullOrBlankException {
+    CompiledBoard compiledBoard = CompiledBoard.compile(board, 12);
+    assertEquals(12, compiledBoard.getDestination(1, 2), "Ladder should be folded in");
+    assertEquals(5, compiledBoard.getDestination(10, 6), "Snake should be folded in");
+    assertEquals(4, compiledBoard.getDestination(1, 3));
+    assertEquals(20, compiledBoard.getDestination(18, 12), "Moves should stop on the last tile");
+    assertEquals(1, compiledBoard.getDestination(1, 0));
+  }
+
+  @Test
+  void getDestinationNegativeTest() throws NullOrBlankException {
+    CompiledBoard compiledBoard = CompiledBoard.compile(board, 6);
+    assertEquals(0, compiledBoard.getDestination(1, 7));
+    assertEquals(0, compiledBoard.getDestination(21, 1));
+    assertEquals(0, compiledBoard.getDestination(0, 1));
+  }
+
+  @Test
+  void moveMatchesWalkingTest() throws NullOrBlankException {
+    BoardGame compiledGame = createGame(true);
+    BoardGame walkingGame = createGame(false);
+
+    for (int tileId = 1; tileId <= 20; tileId++) {
+      for (int steps = 0; steps <= 12; steps++) {
+        Player compiledPlayer = compiledGame.getPlayers().getFirst();
+        Player walkingPlayer = walkingGame.getPlayers().getFirst();
+        compiledPlayer.placeOnTile(board.getTileById(tileId));
+        walkingPlayer.placeOnTile(board.getTileById(tileId));
+        compiledPlayer.setInSkipped(false);
+        walkingPlayer.setInSkipped(false);
+        compiledPlayer.setBalance(0);
+        walkingPlayer.setBalance(0);
+
+        compiledPlayer.move(steps);
+        walkingPlayer.move(steps);
+
+        assertSame(walkingPlayer.getCurrentTile(), compiledPlayer.getCurrentTile());
+        assertEquals(walkingPlayer.isPlayerIsSkipped(), compiledPlayer.isPlayerIsSkipped());
+        assertEquals(walkingPlayer.getBalance(), compiledPlayer.getBalance());
+      }
+    }
+  }
+
+  @Test
+  void moveCountsSameActionsAsWalkingTest() throws NullOrBlankException {
+    BoardGame compiledGame = createGame(true);
+    BoardGame walkingGame = createGame(false);
+    EngineMetrics compiledMetrics = new EngineMetrics("Compiled");
+    EngineMetrics walkingMetrics = new EngineMetrics("Walking");
+    compiledMetrics.setLatencySampleRate(1);
+    compiledGame.setMetrics(compiledMetrics);
+    walkingGame.setMetrics(walkingMetrics);
+    Player compiledPlayer = compiledGame.getPlayers().getFirst();
+    Player walkingPlayer = walkingGame.getPlayers().getFirst();
+    for (int tileId = 1; tileId <= 20; tileId++) {
+      for (int steps = 0; steps <= 12; steps++) {
+        compiledPlayer.placeOnTile(board.getTileById(tileId));
+        walkingPlayer.placeOnTile(board.getTileById(tileId));
+        compiledPlayer.move(steps);
+        walkingPlayer.move(steps);
+      }
+    }
+
+    assertEquals(walkingMetrics.getActionCounts(), compiledMetrics.getActionCounts());
+    assertTrue(compiledMetrics.getActionCount("LadderAction") > 0);
+    assertTrue(compiledMetrics.getActionCount("SnakeAction") > 0);
+    assertEquals(20 * 13, compiledMetrics.getMoves());
+    assertEquals(20 * 13, compiledMetrics.getMoveLatency().getCount());
+  }
+
+  @Test
+  void ladderToActionTileDoesNotPerformActionTest() throws NullOrBlankException {
+    BoardGame game = createGame(true);
+    Player player = game.getPlayers().getFirst();
+    player.placeOnTile(board.getTileById(10));
+
+    player.move(1);
+
+    assertEquals(7, player.getCurrentTile().getTileId());
+    assertFalse(player.isPlayerIsSkipped(), "Only the action of the tile landed on is performed");
+  }
+
+  @Test
+  void compileNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> CompiledBoard.compile(null, 6));
+    assertThrows(IntegerException.class, () -> CompiledBoard.compile(board, -1));
+  }
+
+  @Test
+  void setCompiledBoardNegativeTest() throws NullOrBlankException {
+    BoardGame game = createGame(false);
+    CompiledBoard otherBoard = CompiledBoard.compile(new Board(1, 1), 6);
+    assertThrows(NullOrBlankException.class, () -> game.setCompiledBoard(otherBoard));
+    assertThrows(NullOrBlankException.class, () -> new BoardGame().compileBoard());
+  }
+
+  private BoardGame createGame(boolean compiled) throws NullOrBlankException {
+    BoardGame game = new BoardGame();
+    game.createBoard(board);
+    game.createDice(2);
+    if (compiled) {
+      game.compileBoard();
+    }
+    game.addPlayer(new Player("Player", "RED", game));
+    return game;
+  }
+}
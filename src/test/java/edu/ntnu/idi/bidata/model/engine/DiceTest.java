@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.model.engine;
 
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,4 +44,20 @@ class DiceTest {
     int lastRoll = dice.getLastRollS();
     assertEquals(0, lastRoll, "Checking that the last roll is 0 before rolling the dice");
   }
-}
\ No newline at end of file
+
+  @Test
+  void rollWithSameSeedPositiveTest() {
+    Dice first = new Dice(2, new SplittableRandom(42));
+    Dice second = new Dice(2, new SplittableRandom(42));
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(first.roll(), second.roll());
+      assertEquals(first.getDie(0), second.getDie(0));
+      assertEquals(first.getDie(1), second.getDie(1));
+    }
+  }
+
+  @Test
+  void constructorNullRandomNegativeTest() {
+    assertThrows(IllegalArgumentException.class, () -> new Dice(2, null));
+  }
+}
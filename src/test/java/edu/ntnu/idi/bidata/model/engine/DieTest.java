@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.model.engine;
 
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,4 +26,13 @@ class DieTest {
     int lastRolledValue = die.roll();
     assertEquals(lastRolledValue, die.getValue());
   }
-}
\ No newline at end of file
+
+  @Test
+  void testRollWithSameSeedCorrectly() {
+    Die first = new Die(new SplittableRandom(7));
+    Die second = new Die(new SplittableRandom(7));
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(first.roll(), second.roll());
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package edu.ntnu.idi.bidata.model.engine;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.model.tileactions.LooseMoneyAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateTest {
+  BoardTemplate template;
+
+  @BeforeEach
+  void setUp() throws NullOrBlankException {
+    Board board = new Board(2, 5);
+    Tile previous = null;
+    for (int i = 1; i <= 10; i++) {
+      Tile tile = new Tile(i, (i - 1) % 5, (i - 1) / 5);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    board.getTileById(2).setLandAction(new LadderAction(7, "Ladder from 2 to 7"));
+    board.getTileById(8).setLandAction(new SnakeAction(3, "Snake from 8 to 3"));
+    board.getTileById(4).setLandAction(new SkipAction("Skip"));
+    board.getTileById(5).setLandAction(new BankAction(100, "You won 100"));
+    board.getTileById(6).setLandAction(new LooseMoneyAction(40, "You lost 40"));
+    template = BoardTemplate.of(board);
+  }
+
+  @Test
+  void playTurnPositiveTest() throws NullOrBlankException {
+    GameState state = new GameState(template, 2);
+
+    assertEquals(0, state.playTurn(1));
+    assertEquals(7, state.getPosition(0), "The ladder on tile 2 leads to tile 7");
+    assertEquals(1, state.playTurn(3));
+    assertEquals(4, state.getPosition(1));
+    assertTrue(state.isSkipped(1));
+    assertEquals(0, state.playTurn(1));
+    assertEquals(3, state.getPosition(0), "The snake on tile 8 leads to tile 3");
+    assertEquals(1, state.playTurn(6), "A skipped player still uses the turn");
+    assertEquals(4, state.getPosition(1));
+    assertFalse(state.isSkipped(1));
+    assertEquals(0, state.playTurn(2));
+    assertEquals(100, state.getBalance(0));
+    assertEquals(1, state.playTurn(2));
+    assertEquals(0, state.getBalance(1), "The balance can not go below 0");
+    assertEquals(6, state.getTurns());
+    assertFalse(state.isFinished());
+  }
+
+  @Test
+  void playTurnToLastTilePositiveTest() throws NullOrBlankException {
+    GameState state = new GameState(template, 2);
+    state.setPosition(1, 9);
+    state.playTurn(2);
+    state.playTurn(12);
+
+    assertTrue(state.isFinished());
+    assertEquals(1, state.getWinner());
+    assertEquals(1, state.getCurrentPlayer());
+    assertEquals(10, state.getPosition(1));
+    assertEquals(GameState.NO_WINNER, state.playTurn(1), "A finished game is not played");
+    assertEquals(2, state.getTurns());
+
+    state.reset();
+    assertFalse(state.isFinished());
+    assertEquals(BoardTemplate.START_TILE_ID, state.getPosition(1));
+    assertEquals(0, state.getTurns());
+  }
+
+  @Test
+  void playMonopolyTurnPositiveTest() throws IOException, NullOrBlankException {
+    BoardTemplate monopoly = BoardTemplate.of(
+        new BoardFileReaderGson().readBoard(Path.of(Constants.MONOPOLY_BOARD_FILE_PATH)));
+    GameState state = new GameState(monopoly, 2);
+    assertEquals(GameState.WinRule.BALANCE, state.getWinRule());
+    assertEquals(GameState.WinRule.LAST_TILE, new GameState(template, 2).getWinRule());
+
+    state.setPosition(0, 34);
+    state.playTurn(6);
+    assertEquals(40, state.getPosition(0));
+    assertTrue(state.isSkipped(0), "Tile 40 is the jail");
+    assertFalse(state.isFinished(), "Going to jail does not win the game");
+
+    state.setBalance(1, Constants.WINNING_BALANCE - 500_000);
+    state.playTurn(1);
+    assertEquals(2, state.getPosition(1));
+    assertEquals(Constants.WINNING_BALANCE, state.getBalance(1));
+    assertTrue(state.isFinished(), "Reaching the winning balance wins the game");
+    assertEquals(1, state.getWinner());
+  }
+
+  @Test
+  void winRulePositiveTest() throws NullOrBlankException {
+    GameState byBalance = new GameState(template, 1, GameState.WinRule.BALANCE);
+    byBalance.playTurn(9);
+    assertEquals(10, byBalance.getPosition(0));
+    assertFalse(byBalance.isFinished(), "The last tile does not win a game for the balance");
+  }
+
+  @Test
+  void sharedTemplatePositiveTest() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int seed = 0; seed < 8; seed++) {
+        long gameSeed = seed;
+        results.add(executor.submit(() -> playGames(gameSeed)));
+      }
+      for (int seed = 0; seed < 8; seed++) {
+        assertEquals(playGames(seed), results.get(seed).get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Plays games on the shared template and returns the total number of turns.
+   */
+  private long playGames(long seed) throws NullOrBlankException {
+    SplittableRandom random = new SplittableRandom(seed);
+    long turns = 0;
+    for (int game = 0; game < 2_000; game++) {
+      GameState state = new GameState(template, 3);
+      while (!state.isFinished()) {
+        state.playTurn(random.nextInt(1, 7) + random.nextInt(1, 7));
+      }
+      turns += state.getTurns();
+    }
+    return turns;
+  }
+
+  @Test
+  void constructorNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> new GameState(null, 2));
+    assertThrows(IntegerException.class, () -> new GameState(template, 0));
+    assertThrows(NullOrBlankException.class, () -> new GameState(template, 2, null));
+  }
+
+  @Test
+  void playerIndexNegativeTest() throws NullOrBlankException {
+    GameState state = new GameState(template, 2);
+    assertThrows(IntegerException.class, () -> state.getPosition(2));
+    assertThrows(IntegerException.class, () -> state.getBalance(-1));
+    assertThrows(IntegerException.class, () -> state.setPosition(0, 11));
+    assertThrows(IntegerException.class, () -> state.setBalance(0, -5));
+  }
+}
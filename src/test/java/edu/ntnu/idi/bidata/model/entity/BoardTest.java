@@ -1,10 +1,14 @@
 package edu.ntnu.idi.bidata.model.entity;
 
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import static org.junit.jupiter.api.Assertions.*;
 
 class BoardTest {
@@ -154,4 +158,135 @@ class BoardTest {
 
     assertEquals(3, board.getTileCount());
   }
-}
\ No newline at end of file
+
+  @Test
+  void getTileIteratorFollowsTileIdOrderTest() {
+    board.addTile(new Tile(150, 0, 0));
+    board.addTile(tile3);
+    board.addTile(new Tile(0, 0, 0));
+    board.addTile(tile1);
+    board.addTile(new Tile(101, 0, 0));
+    board.addTile(tile2);
+
+    Iterator<Tile> iterator = board.getTileIterator();
+    int[] expectedIds = {0, 1, 2, 3, 101, 150};
+    for (int expectedId : expectedIds) {
+      assertEquals(expectedId, iterator.next().getTileId());
+    }
+    assertFalse(iterator.hasNext());
+    assertEquals(6, board.getTileCount());
+    assertEquals(List.of(0, 1, 2, 3, 101, 150), List.copyOf(board.getTiles().keySet()));
+  }
+
+  @Test
+  void getTileByIdSparseIdPositiveTest() {
+    Tile farTile = new Tile(10_000, 0, 0);
+    board.addTile(farTile);
+
+    assertSame(farTile, board.getTileById(10_000));
+    assertNull(board.getTileById(9_999));
+    assertNull(board.getTileById(-5));
+  }
+
+  @Test
+  void addTileReplacesTileWithSameIdTest() {
+    Tile replacement = new Tile(1, 5, 5);
+    board.addTile(tile1);
+    board.addTile(replacement);
+
+    assertSame(replacement, board.getTileById(1));
+    assertEquals(1, board.getTileCount());
+  }
+
+  @Test
+  void addTileAfterBoardGrowsPositiveTest() {
+    Tile tile150 = new Tile(150, 0, 0);
+    Tile tile120 = new Tile(120, 0, 0);
+    board.addTile(tile150);
+    board.setRows(20);
+    board.addTile(tile120);
+
+    assertSame(tile150, board.getTileById(150));
+    assertSame(tile120, board.getTileById(120));
+    Iterator<Tile> iterator = board.getTileIterator();
+    assertSame(tile120, iterator.next());
+    assertSame(tile150, iterator.next());
+    assertEquals(2, board.getTileCount());
+  }
+
+  @Test
+  void getTilesCanNotBeChangedNegativeTest() {
+    board.addTile(tile1);
+    Map<Integer, Tile> boardTiles = board.getTiles();
+    assertThrows(UnsupportedOperationException.class, () -> boardTiles.put(2, tile2));
+  }
+
+  @Test
+  void getTileIteratorNoMoreTilesNegativeTest() {
+    board.addTile(tile1);
+    Iterator<Tile> iterator = board.getTileIterator();
+    iterator.next();
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  void getTileActionPositiveTest() {
+    LadderAction ladderAction = new LadderAction(3, "Ladder from 1 to 3");
+    tile1.setLandAction(ladderAction);
+    board.addTile(tile1);
+    board.addTile(tile2);
+
+    assertSame(ladderAction, board.getTileAction(1));
+    assertNull(board.getTileAction(2));
+  }
+
+  @Test
+  void getTileActionNegativeTest() {
+    assertNull(board.getTileAction(4));
+    assertNull(board.getTileAction(-1));
+  }
+
+  @Test
+  void copyPositiveTest() {
+    LadderAction ladderAction = new LadderAction(3, "Ladder from 1 to 3");
+    tile1.setLandAction(ladderAction);
+    tile2.setLandAction(new BankAction(100, "Bank"));
+    tile1.setNextTile(tile2);
+    tile2.setNextTile(tile3);
+    board.addTile(tile1);
+    board.addTile(tile2);
+    board.addTile(tile3);
+    board.addTile(new Tile(500, 4, 2));
+    board.setName("Snakes and Ladders");
+
+    Board copy = board.copy();
+
+    assertEquals(board.getRows(), copy.getRows());
+    assertEquals(board.getColumns(), copy.getColumns());
+    assertEquals("Snakes and Ladders", copy.getName());
+    assertEquals(4, copy.getTileCount());
+    assertNotSame(tile1, copy.getTileById(1));
+    assertSame(copy.getTileById(2), copy.getTileById(1).getNextTile());
+    assertSame(copy.getTileById(3), copy.getTileById(2).getNextTile());
+    assertNull(copy.getTileById(3).getNextTile());
+    assertNotSame(ladderAction, copy.getTileAction(1));
+    assertEquals(3, copy.getTileAction(1).getDestinationTile());
+    assertEquals("Ladder from 1 to 3", copy.getTileAction(1).getDescription());
+    ((BankAction) copy.getTileAction(2)).setMoney(5);
+    assertEquals(100, ((BankAction) board.getTileAction(2)).getMoney());
+    assertNull(copy.getTileAction(3));
+    assertEquals(4, copy.getTileById(500).getXCoordinate());
+    assertEquals(2, copy.getTileById(500).getYCoordinate());
+  }
+
+  @Test
+  void copyIsIndependentNegativeTest() {
+    board.addTile(tile1);
+    Board copy = board.copy();
+    copy.addTile(tile2);
+    copy.getTileById(1).setNextTile(tile2);
+
+    assertEquals(1, board.getTileCount());
+    assertNull(tile1.getNextTile());
+  }
+}
@@ -0,0 +1,140 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.model.engine.BoardGame;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineMetricsTest {
+
+  @Test
+  void recordPositiveTest() throws NullOrBlankException {
+    EngineMetrics metrics = new EngineMetrics("Table 1");
+    metrics.setLatencySampleRate(1);
+    metrics.recordTurn(metrics.startTimer(), false);
+    metrics.recordTurn(System.nanoTime() - 3000, true);
+    metrics.recordMove(metrics.startTimer());
+    metrics.recordAction(new SkipAction("Skip"), metrics.startTimer());
+    metrics.countAction(new SkipAction("Skip"));
+    metrics.countAction(new BankAction(100, "Bank"));
+
+    assertEquals("Table 1", metrics.getName());
+    assertEquals(2, metrics.getTurns());
+    assertEquals(1, metrics.getSkippedTurns());
+    assertEquals(1, metrics.getMoves());
+    assertEquals(Map.of("BankAction", 1L, "SkipAction", 2L), metrics.getActionCounts());
+    assertEquals(0, metrics.getActionCount("LadderAction"));
+    assertEquals(1, metrics.getActionLatency().getCount(), "Counted actions have no latency");
+    assertEquals(2, metrics.getTurnLatency().getCount());
+    assertTrue(metrics.getTurnLatencyMax() >= 3000);
+    assertTrue(metrics.getTurnLatencyP99() >= 2800);
+    assertTrue(metrics.getTurnsPerSecond() > 0);
+
+    metrics.reset();
+    assertEquals(0, metrics.getTurns());
+    assertEquals(0, metrics.getActionCount("SkipAction"));
+    assertEquals(0, metrics.getTurnLatencyMax());
+  }
+
+  @Test
+  void playRecordsTurnsMovesAndActionsTest() throws NullOrBlankException {
+    Board board = new Board(1, 10);
+    Tile previous = null;
+    for (int i = 1; i <= 10; i++) {
+      Tile tile = new Tile(i, i - 1, 0);
+      tile.setLandAction(i > 1 ? new BankAction(10, "Bank") : null);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    BoardGame game = new BoardGame();
+    game.createBoard(board);
+    game.createDice(1, new SplittableRandom(3));
+    game.compileBoard();
+    Player player = new Player("Player", "RED", game, 0, 1);
+    player.placeOnTile(board.getTileById(1));
+    game.addPlayer(player);
+    game.play();
+
+    EngineMetrics metrics = new EngineMetrics("Table 2");
+    metrics.setLatencySampleRate(1);
+    game.setMetrics(metrics);
+    assertSame(metrics, game.getMetrics());
+    game.play();
+    player.setInSkipped(true);
+    game.play();
+
+    assertEquals(2, metrics.getTurns());
+    assertEquals(1, metrics.getSkippedTurns());
+    assertEquals(1, metrics.getMoves());
+    assertEquals(1, metrics.getActionCount("BankAction"));
+    assertEquals(2, metrics.getTurnLatency().getCount());
+    assertEquals(1, metrics.getActionLatency().getCount());
+  }
+
+  @Test
+  void parentPositiveTest() throws NullOrBlankException {
+    EngineMetrics all = new EngineMetrics("All tables");
+    EngineMetrics first = new EngineMetrics("Table 1", all);
+    EngineMetrics second = new EngineMetrics("Table 2", all);
+    first.setLatencySampleRate(1);
+    first.recordTurn(first.startTimer(), false);
+    first.recordMove(first.startTimer());
+    first.recordAction(new SkipAction("Skip"), first.startTimer());
+    second.recordTurn(EngineMetrics.NOT_TIMED, true);
+    second.countAction(new BankAction(100, "Bank"));
+
+    assertSame(all, first.getParent());
+    assertNull(all.getParent());
+    assertEquals(1, first.getTurns());
+    assertEquals(1, second.getSkippedTurns());
+    assertEquals(Map.of("SkipAction", 1L), first.getActionCounts());
+    assertEquals(2, all.getTurns());
+    assertEquals(1, all.getSkippedTurns());
+    assertEquals(1, all.getMoves());
+    assertEquals(Map.of("BankAction", 1L, "SkipAction", 1L), all.getActionCounts());
+    assertSame(all.getTurnLatency(), second.getTurnLatency());
+    assertEquals(1, all.getTurnLatency().getCount());
+    assertEquals(1, all.getActionLatency().getCount());
+
+    first.reset();
+    assertEquals(0, first.getTurns());
+    assertEquals(2, all.getTurns());
+    assertEquals(1, all.getTurnLatency().getCount(), "A table can not reset the parent");
+  }
+
+  @Test
+  void latencySampleRateTest() throws NullOrBlankException {
+    EngineMetrics metrics = new EngineMetrics("Table 3");
+    metrics.setLatencySampleRate(1024);
+    for (int i = 0; i < 10_000; i++) {
+      metrics.recordMove(metrics.startTimer());
+    }
+
+    assertEquals(10_000, metrics.getMoves());
+    assertTrue(metrics.getMoveLatency().getCount() < 100, "Only a sample should be timed");
+    metrics.recordMove(EngineMetrics.NOT_TIMED);
+    assertEquals(10_001, metrics.getMoves());
+  }
+
+  @Test
+  void engineMetricsNegativeTest() throws NullOrBlankException {
+    EngineMetrics metrics = new EngineMetrics("Table");
+    assertThrows(IntegerException.class, () -> metrics.setLatencySampleRate(0));
+    assertThrows(IntegerException.class, () -> metrics.setLatencySampleRate(12));
+    assertThrows(NullOrBlankException.class, () -> new EngineMetrics(null));
+    assertThrows(NullOrBlankException.class, () -> new EngineMetrics(" "));
+    assertThrows(NullOrBlankException.class, () -> new EngineMetrics("Table", null));
+    assertThrows(NullOrBlankException.class, () -> new EngineMetrics(null, metrics));
+  }
+}
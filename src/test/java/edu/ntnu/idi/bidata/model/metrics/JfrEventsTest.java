@@ -0,0 +1,115 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardFileReaderGson;
+import edu.ntnu.idi.bidata.filehandler.board.BoardGenerator;
+import edu.ntnu.idi.bidata.filehandler.player.PlayerFileReader;
+import edu.ntnu.idi.bidata.filehandler.player.PlayerFileWriter;
+import edu.ntnu.idi.bidata.model.engine.BoardGame;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Player;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.BankAction;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void eventsAreRecordedTest() throws NullOrBlankException, IOException {
+    Path boardFile = tempDir.resolve("board.json");
+    new BoardGenerator(BoardGenerator.GameType.SNAKES_AND_LADDERS, 5, 4, 7).generate(boardFile);
+    Path playerFile = tempDir.resolve("players.csv");
+    BoardGame game = new BoardGame();
+    PlayerFileWriter.writeToCsv(
+        List.of(new Player("Atle", "RED", game, 0, 1), new Player("Bjorn", "BLUE", game, 0, 1)),
+        playerFile.toString());
+
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable("edu.ntnu.idi.bidata.Turn");
+      recording.enable("edu.ntnu.idi.bidata.TileAction");
+      recording.enable("edu.ntnu.idi.bidata.BoardLoad");
+      recording.enable("edu.ntnu.idi.bidata.PlayerLoad");
+      recording.start();
+
+      Board board = new BoardFileReaderGson().readBoard(boardFile);
+      new PlayerFileReader().readCsvBuffered(playerFile.toString(), new BoardGame());
+      playOneTurn();
+
+      recording.stop();
+      Path dump = tempDir.resolve("recording.jfr");
+      recording.dump(dump);
+      events = RecordingFile.readAllEvents(dump);
+      assertEquals(20, board.getTileCount());
+    }
+
+    RecordedEvent boardLoad = single(events, "edu.ntnu.idi.bidata.BoardLoad");
+    assertEquals("JSON", boardLoad.getString("format"));
+    assertEquals(20, boardLoad.getInt("tileCount"));
+    assertEquals(Files.size(boardFile), boardLoad.getLong("bytesRead"));
+
+    RecordedEvent playerLoad = single(events, "edu.ntnu.idi.bidata.PlayerLoad");
+    assertEquals(2, playerLoad.getInt("playerCount"));
+    assertEquals(Files.size(playerFile), playerLoad.getLong("bytesRead"));
+
+    RecordedEvent turn = single(events, "edu.ntnu.idi.bidata.Turn");
+    assertEquals("Player", turn.getString("playerName"));
+    assertEquals(1, turn.getInt("fromTileId"));
+    assertTrue(turn.getInt("toTileId") > 1);
+    assertEquals(3, turn.getInt("tileCount"));
+    assertFalse(turn.getBoolean("skipped"));
+
+    RecordedEvent action = single(events, "edu.ntnu.idi.bidata.TileAction");
+    assertEquals("BankAction", action.getString("actionType"));
+    assertEquals(turn.getInt("toTileId"), action.getInt("tileId"));
+  }
+
+  @Test
+  void fileSizeOfMissingFileTest() {
+    assertEquals(0, JfrEvents.fileSize(tempDir.resolve("missing.json")));
+  }
+
+  /**
+   * Plays one turn on a board of three tiles, where every tile after the first is a bank.
+   */
+  private static void playOneTurn() throws NullOrBlankException {
+    Board board = new Board(1, 3);
+    Tile previous = null;
+    for (int i = 1; i <= 3; i++) {
+      Tile tile = new Tile(i, i - 1, 0);
+      tile.setLandAction(i > 1 ? new BankAction(10, "Bank") : null);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    BoardGame game = new BoardGame();
+    game.createBoard(board);
+    game.createDice(1, new SplittableRandom(3));
+    Player player = new Player("Player", "RED", game, 0, 1);
+    player.placeOnTile(board.getTileById(1));
+    game.addPlayer(player);
+    game.play();
+  }
+
+  private static RecordedEvent single(List<RecordedEvent> events, String name) {
+    List<RecordedEvent> matching = events.stream()
+        .filter(event -> event.getEventType().getName().equals(name))
+        .toList();
+    assertEquals(1, matching.size(), "Expected one " + name + " event");
+    return matching.get(0);
+  }
+}
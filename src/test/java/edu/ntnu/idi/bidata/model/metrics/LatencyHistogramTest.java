@@ -0,0 +1,62 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+  @Test
+  void bucketHoldsValueWithinPrecisionTest() {
+    long value = 1;
+    while (value > 0) {
+      for (long candidate : new long[] {value - 1, value, value + value / 3}) {
+        if (candidate < 0) {
+          continue;
+        }
+        int index = LatencyHistogram.bucketIndex(candidate);
+        long upperBound = LatencyHistogram.bucketUpperBound(index);
+        assertTrue(upperBound >= candidate, "Bucket must hold " + candidate);
+        assertTrue(upperBound - candidate <= candidate / 16 + 1,
+            "Bucket of " + candidate + " is too wide");
+        if (index > 0) {
+          assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < candidate);
+        }
+      }
+      value <<= 1;
+    }
+    assertEquals(Long.MAX_VALUE,
+        LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+  }
+
+  @Test
+  void getValueAtPercentilePositiveTest() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+
+    assertEquals(1000, histogram.getCount());
+    assertEquals(1_000_000, histogram.getMax());
+    assertEquals(500_500, histogram.getMean(), 0.001);
+    assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / 16.0);
+    assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / 16.0);
+    assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    assertEquals(1000, histogram.getValueAtPercentile(0), 1000 / 16.0);
+  }
+
+  @Test
+  void emptyAndResetTest() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getValueAtPercentile(99));
+    assertEquals(0, histogram.getMean());
+
+    histogram.record(-5);
+    histogram.record(42);
+    assertEquals(0, histogram.getValueAtPercentile(50), "Negative values are recorded as 0");
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(100));
+  }
+}
@@ -0,0 +1,84 @@
+package edu.ntnu.idi.bidata.model.metrics;
+
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+  @Test
+  void getOrCreateRegistersMBeanTest() throws NullOrBlankException, JMException {
+    MBeanServer server = MBeanServerFactory.newMBeanServer();
+    MetricsRegistry registry = new MetricsRegistry(server);
+    EngineMetrics metrics = registry.getOrCreate("Table, 1");
+    metrics.setLatencySampleRate(1);
+    metrics.recordTurn(metrics.startTimer(), false);
+    metrics.recordTurn(System.nanoTime() - 200, true);
+    ObjectName name = MetricsRegistry.getObjectName("Table, 1");
+
+    assertSame(metrics, registry.getOrCreate("Table, 1"));
+    assertSame(metrics, registry.get("Table, 1"));
+    assertEquals(Set.of("Table, 1"), registry.getNames());
+    assertEquals(2L, server.getAttribute(name, "Turns"));
+    assertEquals(1L, server.getAttribute(name, "SkippedTurns"));
+    assertTrue((Long) server.getAttribute(name, "TurnLatencyMax") >= 200);
+
+    server.invoke(name, "reset", null, null);
+    assertEquals(0, metrics.getTurns());
+
+    assertTrue(registry.remove("Table, 1"));
+    assertFalse(server.isRegistered(name));
+    assertFalse(registry.remove("Table, 1"));
+    assertNull(registry.get("Table, 1"));
+  }
+
+  @Test
+  void registryWithoutServerTest() throws NullOrBlankException {
+    MetricsRegistry registry = new MetricsRegistry();
+    EngineMetrics metrics = registry.getOrCreate("Table");
+
+    assertSame(metrics, registry.get("Table"));
+    assertTrue(registry.remove("Table"));
+    assertNotNull(MetricsRegistry.getDefault());
+  }
+
+  @Test
+  void createUniqueTest() throws NullOrBlankException {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.getOrCreate("Monopoly 1");
+    EngineMetrics first = registry.createUnique("Monopoly");
+    EngineMetrics second = registry.createUnique("Monopoly");
+
+    assertNotSame(first, second);
+    assertEquals("Monopoly 2", first.getName(), "A name in use is skipped");
+    assertEquals("Monopoly 3", second.getName());
+    assertSame(second, registry.get("Monopoly 3"));
+  }
+
+  @Test
+  void addTest() throws NullOrBlankException {
+    MetricsRegistry registry = new MetricsRegistry();
+    EngineMetrics all = registry.getOrCreate("Sessions");
+    EngineMetrics session = new EngineMetrics("Session 1", all);
+
+    assertTrue(registry.add(session));
+    assertSame(session, registry.get("Session 1"));
+    assertFalse(registry.add(new EngineMetrics("Session 1")), "A name in use is not added");
+    assertSame(session, registry.get("Session 1"));
+  }
+
+  @Test
+  void metricsRegistryNegativeTest() {
+    MetricsRegistry registry = new MetricsRegistry();
+    assertThrows(NullOrBlankException.class, () -> new MetricsRegistry(null));
+    assertThrows(NullOrBlankException.class, () -> registry.getOrCreate(""));
+    assertThrows(NullOrBlankException.class, () -> registry.createUnique(" "));
+    assertThrows(NullOrBlankException.class, () -> registry.add(null));
+    assertNull(registry.get(null));
+  }
+}
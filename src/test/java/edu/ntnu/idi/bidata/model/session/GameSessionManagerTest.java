@@ -0,0 +1,238 @@
+package edu.ntnu.idi.bidata.model.session;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardCache;
+import edu.ntnu.idi.bidata.model.engine.BoardTemplate;
+import edu.ntnu.idi.bidata.model.engine.GameState;
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.metrics.EngineMetrics;
+import edu.ntnu.idi.bidata.model.metrics.MetricsRegistry;
+import edu.ntnu.idi.bidata.model.tileactions.SkipAction;
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionManagerTest {
+  BoardTemplate template;
+  GameSessionManager manager;
+
+  @BeforeEach
+  void setUp() throws NullOrBlankException {
+    Board board = new Board(3, 10);
+    Tile previous = null;
+    for (int i = 1; i <= 30; i++) {
+      Tile tile = new Tile(i, (i - 1) % 10, (i - 1) / 10);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    board.getTileById(5).setLandAction(new SkipAction("Skip"));
+    template = BoardTemplate.of(board);
+    manager = new GameSessionManager(new SplittableRandom(7));
+  }
+
+  @AfterEach
+  void tearDown() {
+    manager.close();
+  }
+
+  @Test
+  void playPositiveTest() throws NullOrBlankException {
+    long sessionId = manager.createSession(template, 2, 1);
+
+    TurnResult first = manager.play(sessionId).join();
+    TurnResult second = manager.play(sessionId).join();
+
+    assertEquals(sessionId, first.sessionId());
+    assertEquals(0, first.player());
+    assertEquals(1, second.player());
+    assertTrue(first.steps() >= 1 && first.steps() <= 6);
+    assertEquals(1 + first.steps(), first.tileId());
+    assertEquals(1, manager.getSessionCount());
+  }
+
+  @Test
+  void commandsOfOneSessionRunInOrderPositiveTest() throws Exception {
+    long sessionId = manager.createSession(template, 3, 2);
+    List<CompletableFuture<TurnResult>> turns = new ArrayList<>();
+    List<Integer> runOrder = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      threads.add(Thread.ofVirtual().start(() -> {
+        for (int j = 0; j < 25; j++) {
+          // Submitted under the lock, so the list order is the order of the queue.
+          synchronized (turns) {
+            int index = turns.size();
+            turns.add(manager.play(sessionId));
+            manager.submit(sessionId, state -> runOrder.add(index));
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    CompletableFuture.allOf(turns.toArray(new CompletableFuture[0])).join();
+
+    long played = manager.submit(sessionId, GameState::getTurns).join();
+    long expected = turns.stream().filter(turn -> turn.join().steps() > 0
+        || turn.join().skipped()).count();
+    assertEquals(expected, played, "Every turn is played exactly once");
+    List<Integer> submitted = new ArrayList<>();
+    for (int i = 0; i < turns.size(); i++) {
+      submitted.add(i);
+    }
+    assertEquals(submitted, runOrder, "Commands run in the order they were submitted");
+    // Until the game is won, the players take their turns in order.
+    for (int i = 1; i < turns.size() && !turns.get(i - 1).join().finished(); i++) {
+      assertEquals((turns.get(i - 1).join().player() + 1) % 3, turns.get(i).join().player());
+    }
+  }
+
+  @Test
+  void errorInCommandDoesNotStopSessionNegativeTest() throws Exception {
+    long sessionId = manager.createSession(template, 2, 1);
+    CompletableFuture<Object> failed = manager.submit(sessionId, state -> {
+      throw new AssertionError("Broken command");
+    });
+
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> failed.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(AssertionError.class, exception.getCause());
+    assertEquals(0, manager.play(sessionId).get(5, TimeUnit.SECONDS).player(),
+        "Commands after the error still run");
+  }
+
+  @Test
+  void slowSessionDoesNotBlockOthersPositiveTest() throws Exception {
+    long slow = manager.createSession(template, 2, 1);
+    long fast = manager.createSession(template, 2, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Boolean> blocked = manager.submit(slow, state -> {
+      try {
+        return release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    });
+
+    assertEquals(0, manager.play(fast).get(5, TimeUnit.SECONDS).player());
+    assertFalse(blocked.isDone());
+    release.countDown();
+    assertTrue(blocked.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void evictPositiveTest() throws NullOrBlankException {
+    long first = manager.createSession(template, 2, 1);
+    long second = manager.createSession(template, 2, 1);
+    manager.play(first).join();
+
+    assertTrue(manager.evict(first));
+    assertFalse(manager.hasSession(first));
+    assertTrue(manager.hasSession(second));
+    assertEquals(1, manager.evictIdle(Duration.ZERO));
+    assertEquals(0, manager.getSessionCount());
+    assertEquals(0, manager.evictIdle(Duration.ofHours(1)));
+  }
+
+  @Test
+  void sessionMetricsPositiveTest() throws NullOrBlankException {
+    MetricsRegistry registry = new MetricsRegistry();
+    try (GameSessionManager metered = new GameSessionManager(new SplittableRandom(7),
+        registry)) {
+      long first = metered.createSession(template, 2, 1);
+      long second = metered.createSession(template, 2, 1);
+      EngineMetrics metrics = metered.getMetrics(first);
+      metrics.setLatencySampleRate(1);
+      for (int i = 0; i < 10; i++) {
+        metered.play(first).join();
+      }
+
+      assertSame(metrics, registry.get(GameSessionManager.getMetricsName(first)));
+      assertEquals(10, metrics.getTurns());
+      assertEquals(10, metrics.getMoves() + metrics.getSkippedTurns());
+      assertEquals(10, metrics.getTurnLatency().getCount());
+      assertEquals(0, metered.getMetrics(second).getTurns(), "Every table has its own");
+      EngineMetrics all = metered.getAllMetrics();
+      assertSame(all, registry.get(GameSessionManager.ALL_SESSIONS_METRICS));
+      assertSame(all, metrics.getParent());
+      assertSame(all.getTurnLatency(), metered.getMetrics(second).getTurnLatency(),
+          "The sessions share the histograms");
+      assertEquals(10, all.getTurns());
+
+      assertTrue(metered.evict(first));
+      assertNull(metered.getMetrics(first));
+      assertNull(registry.get(GameSessionManager.getMetricsName(first)));
+    }
+    assertTrue(registry.getNames().isEmpty(), "Closing the manager removes the metrics");
+  }
+
+  @Test
+  void monopolySessionPositiveTest() throws IOException, NullOrBlankException {
+    BoardTemplate monopoly = BoardCache.getTemplate(Path.of(Constants.MONOPOLY_BOARD_FILE_PATH));
+    long sessionId = manager.createSession(monopoly, 2, 2);
+    manager.submit(sessionId, state -> {
+      state.setPosition(0, 34);
+      return null;
+    }).join();
+
+    TurnResult result = null;
+    for (int turn = 0; turn < 100_000; turn++) {
+      result = manager.play(sessionId).join();
+      if (result.tileId() == 40 && !result.skipped()) {
+        assertFalse(result.finished(), "Going to jail does not win the game");
+      }
+      if (result.finished()) {
+        break;
+      }
+    }
+
+    assertTrue(result.finished());
+    assertTrue(result.balance() >= Constants.WINNING_BALANCE,
+        "A Monopoly table is won on the balance");
+    assertEquals(GameState.WinRule.BALANCE,
+        manager.submit(sessionId, GameState::getWinRule).join());
+    BoardCache.clear();
+  }
+
+  @Test
+  void unknownSessionNegativeTest() throws NullOrBlankException {
+    long sessionId = manager.createSession(template, 2, 1);
+    manager.evict(sessionId);
+
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> manager.play(sessionId).join());
+    assertInstanceOf(IntegerException.class, exception.getCause());
+    assertFalse(manager.evict(sessionId));
+  }
+
+  @Test
+  void createSessionNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> manager.createSession(null, 2, 1));
+    assertThrows(IntegerException.class, () -> manager.createSession(template, 0, 1));
+    assertThrows(IntegerException.class, () -> manager.createSession(template, 2, 0));
+    assertThrows(NullOrBlankException.class, () -> new GameSessionManager(null));
+    assertThrows(NullOrBlankException.class,
+        () -> new GameSessionManager(new SplittableRandom(), null));
+  }
+}
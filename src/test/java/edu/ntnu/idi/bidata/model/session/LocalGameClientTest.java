@@ -0,0 +1,57 @@
+package edu.ntnu.idi.bidata.model.session;
+
+import edu.ntnu.idi.bidata.filehandler.board.BoardCache;
+import edu.ntnu.idi.bidata.model.engine.GameState;
+import edu.ntnu.idi.bidata.utils.Constants;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalGameClientTest {
+  GameSessionManager manager;
+  LocalGameClient client;
+
+  @BeforeEach
+  void setUp() throws NullOrBlankException {
+    manager = new GameSessionManager(new SplittableRandom(3));
+    client = new LocalGameClient(manager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    manager.close();
+    BoardCache.clear();
+  }
+
+  @Test
+  void playToEndPositiveTest() throws IOException, NullOrBlankException {
+    Path boardFile = Path.of(Constants.SNAKES_AND_LADDERS_EASY_BOARD_FILE_PATH);
+    long first = client.openTable(boardFile, 2, 2);
+    long second = client.openTable(boardFile, 4, 2);
+
+    TurnResult last = client.playToEnd(first, 100_000);
+
+    assertTrue(last.finished());
+    assertEquals(last.player(), client.getWinner(first));
+    assertEquals(last.tileId(), client.getPositions(first)[last.player()]);
+    assertEquals(GameState.NO_WINNER, client.getWinner(second));
+    assertArrayEquals(new int[] {1, 1, 1, 1}, client.getPositions(second));
+    assertTrue(client.closeTable(first));
+  }
+
+  @Test
+  void closedTableNegativeTest() throws IOException, NullOrBlankException {
+    long table = client.openTable(Path.of(Constants.MONOPOLY_BOARD_FILE_PATH), 2, 2);
+    client.closeTable(table);
+
+    assertThrows(IntegerException.class, () -> client.roll(table));
+    assertFalse(client.closeTable(table));
+    assertThrows(NullOrBlankException.class, () -> new LocalGameClient(null));
+  }
+}
@@ -0,0 +1,60 @@
+package edu.ntnu.idi.bidata.model.simulation;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.LadderAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+  Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(2, 5);
+    Tile previous = null;
+    for (int i = 1; i <= 10; i++) {
+      Tile tile = new Tile(i, i - 1, 0);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    board.getTileById(2).setLandAction(new LadderAction(9, "Ladder from 2 to 9"));
+  }
+
+  @Test
+  void runPositiveTest() throws NullOrBlankException {
+    GameSimulator simulator = new GameSimulator(board, 3, 1);
+    SimulationStatistics statistics = simulator.run(500);
+
+    assertEquals(500, statistics.getGamesPlayed());
+    assertEquals(0, statistics.getUnfinishedGames());
+    assertEquals(500, statistics.getWins(0) + statistics.getWins(1) + statistics.getWins(2));
+    assertTrue(statistics.getAverageTurns() >= 1);
+    assertEquals(500, statistics.getTileVisits(10), "Every game should end on the last tile");
+    assertEquals(0, statistics.getTileVisits(2), "No turn should end on the ladder tile");
+    assertTrue(statistics.getTileVisits(9) > 0);
+  }
+
+  @Test
+  void runUnfinishedGamesTest() throws NullOrBlankException {
+    board.getTileById(5).setNextTile(null);
+    GameSimulator simulator = new GameSimulator(board, 1, 6);
+    SimulationStatistics statistics = simulator.run(1);
+
+    assertEquals(1, statistics.getUnfinishedGames());
+    assertEquals(GameSimulator.MAX_TURNS_PER_GAME, statistics.getTotalTurns());
+  }
+
+  @Test
+  void constructorNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> new GameSimulator(null, 2, 2));
+    assertThrows(IntegerException.class, () -> new GameSimulator(board, 0, 2));
+    assertThrows(IntegerException.class, () -> new GameSimulator(board, 2, 0));
+  }
+}
@@ -0,0 +1,97 @@
+package edu.ntnu.idi.bidata.model.simulation;
+
+import edu.ntnu.idi.bidata.model.entity.Board;
+import edu.ntnu.idi.bidata.model.entity.Tile;
+import edu.ntnu.idi.bidata.model.tileactions.SnakeAction;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelGameSimulatorTest {
+
+  private static Board createBoard() {
+    Board board = new Board(4, 5);
+    Tile previous = null;
+    for (int i = 1; i <= 20; i++) {
+      Tile tile = new Tile(i, i - 1, 0);
+      board.addTile(tile);
+      if (previous != null) {
+        previous.setNextTile(tile);
+      }
+      previous = tile;
+    }
+    board.getTileById(17).setLandAction(new SnakeAction(3, "Snake from 17 to 3"));
+    return board;
+  }
+
+  @Test
+  void runPositiveTest() throws NullOrBlankException {
+    Set<Board> boards = Collections.synchronizedSet(
+        Collections.newSetFromMap(new IdentityHashMap<>()));
+    ParallelGameSimulator simulator = new ParallelGameSimulator(() -> {
+      Board board = createBoard();
+      boards.add(board);
+      return board;
+    }, 2, 2, 4);
+
+    SimulationStatistics statistics = simulator.run(20_000);
+
+    assertEquals(20_000, statistics.getGamesPlayed());
+    assertEquals(20_000, statistics.getWins(0) + statistics.getWins(1));
+    assertEquals(20_000, statistics.getTileVisits(20));
+    assertEquals(0, statistics.getTileVisits(17));
+    assertTrue(boards.size() > 1, "Each part of the simulation should get its own board");
+  }
+
+  @Test
+  void runWithSeedIsReproducibleTest() throws NullOrBlankException {
+    SimulationStatistics first = new ParallelGameSimulator(
+        ParallelGameSimulatorTest::createBoard, 2, 2, 1).run(5_000, 123L);
+    SimulationStatistics second = new ParallelGameSimulator(
+        ParallelGameSimulatorTest::createBoard, 2, 2, 3).run(5_000, 123L);
+
+    assertEquals(first.getTotalTurns(), second.getTotalTurns());
+    assertEquals(first.getWins(0), second.getWins(0));
+    for (int tileId = 1; tileId <= 20; tileId++) {
+      assertEquals(first.getTileVisits(tileId), second.getTileVisits(tileId));
+    }
+  }
+
+  @Test
+  void mergePositiveTest() {
+    SimulationStatistics first = new SimulationStatistics(2, 3);
+    first.recordGame(0, 4);
+    first.recordVisit(3);
+    SimulationStatistics second = new SimulationStatistics(2, 3);
+    second.recordGame(1, 6);
+    second.recordGame(-1, 10);
+    second.recordVisit(3);
+
+    first.merge(second);
+
+    assertEquals(3, first.getGamesPlayed());
+    assertEquals(1, first.getUnfinishedGames());
+    assertEquals(20, first.getTotalTurns());
+    assertEquals(1, first.getWins(0));
+    assertEquals(1, first.getWins(1));
+    assertEquals(2, first.getTileVisits(3));
+  }
+
+  @Test
+  void mergeNegativeTest() {
+    SimulationStatistics first = new SimulationStatistics(2, 3);
+    SimulationStatistics second = new SimulationStatistics(3, 3);
+    assertThrows(IntegerException.class, () -> first.merge(second));
+  }
+
+  @Test
+  void constructorNegativeTest() {
+    assertThrows(NullOrBlankException.class, () -> new ParallelGameSimulator(null, 2, 2, 2));
+    assertThrows(IntegerException.class,
+        () -> new ParallelGameSimulator(ParallelGameSimulatorTest::createBoard, 2, 2, 0));
+  }
+}
@@ -0,0 +1,33 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingBufferTest {
+
+  @Test
+  void offerAndPollPositiveTest() {
+    EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+    assertEquals(4, buffer.capacity());
+    assertTrue(buffer.isEmpty());
+
+    for (int lap = 0; lap < 3; lap++) {
+      for (int i = 0; i < 4; i++) {
+        assertTrue(buffer.offer(i));
+      }
+      assertFalse(buffer.offer(4));
+      for (int i = 0; i < 4; i++) {
+        assertEquals(i, buffer.poll());
+      }
+      assertTrue(buffer.isEmpty());
+    }
+  }
+
+  @Test
+  void pollNegativeTest() {
+    EventRingBuffer<Integer> buffer = new EventRingBuffer<>(1);
+    assertEquals(2, buffer.capacity());
+    assertNull(buffer.poll());
+  }
+}
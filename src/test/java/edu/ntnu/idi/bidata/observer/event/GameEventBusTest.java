@@ -0,0 +1,116 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+import edu.ntnu.idi.bidata.observer.event.GameEventBus.OverflowPolicy;
+import edu.ntnu.idi.bidata.observer.event.GameEventBus.Subscription;
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+  @Test
+  void publishPositiveTest() throws NullOrBlankException {
+    List<GameEvent> first = Collections.synchronizedList(new ArrayList<>());
+    List<GameEvent> second = Collections.synchronizedList(new ArrayList<>());
+    GameEventBus bus = new GameEventBus();
+    Subscription firstSubscription = bus.subscribe(first::add, 4, OverflowPolicy.BLOCK);
+    bus.subscribe(second::add);
+    assertEquals(2, bus.getNumberOfSubscribers());
+
+    for (int turn = 1; turn <= 1000; turn++) {
+      bus.publish(new TurnSkippedEvent(turn, "Player", 1));
+    }
+    bus.close();
+
+    assertEquals(1000, first.size());
+    assertEquals(1000, firstSubscription.getDelivered());
+    assertEquals(0, firstSubscription.getDropped());
+    for (int i = 0; i < first.size(); i++) {
+      assertEquals(i + 1, first.get(i).turn());
+    }
+    assertEquals(first, second);
+    assertFalse(bus.hasSubscribers());
+  }
+
+  @Test
+  void publishDropsForSlowSubscriberTest() throws NullOrBlankException,
+      InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    GameEventBus bus = new GameEventBus();
+    Subscription slow = bus.subscribe(event -> {
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, 2, OverflowPolicy.DROP);
+
+    for (int turn = 1; turn <= 100; turn++) {
+      bus.publish(new TurnSkippedEvent(turn, "Player", 1));
+    }
+    release.countDown();
+    bus.close();
+
+    assertTrue(slow.getDropped() > 0);
+    assertEquals(100, slow.getDelivered() + slow.getDropped());
+    assertTrue(slow.isCancelled());
+  }
+
+  @Test
+  void cancelPositiveTest() throws NullOrBlankException, InterruptedException {
+    List<GameEvent> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch handled = new CountDownLatch(1);
+    GameEventBus bus = new GameEventBus();
+    Subscription subscription = bus.subscribe(event -> {
+      received.add(event);
+      handled.countDown();
+    });
+    bus.publish(new TurnSkippedEvent(1, "Player", 1));
+    subscription.cancel();
+    bus.publish(new TurnSkippedEvent(2, "Player", 1));
+    bus.close();
+
+    assertTrue(handled.await(5, TimeUnit.SECONDS));
+    assertEquals(1, received.size());
+    assertFalse(bus.hasSubscribers());
+  }
+
+  @Test
+  void handlerErrorCancelsSubscriptionTest() throws NullOrBlankException {
+    GameEventBus bus = new GameEventBus();
+    Subscription failing = bus.subscribe(event -> {
+      throw new Error("Handler failed");
+    }, 1, OverflowPolicy.BLOCK);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      for (int turn = 1; turn <= 100; turn++) {
+        bus.publish(new TurnSkippedEvent(turn, "Player", 1));
+      }
+    }, "The publisher must not wait for a subscriber whose thread has stopped");
+    bus.close();
+
+    assertTrue(failing.isCancelled());
+    assertFalse(bus.hasSubscribers());
+    assertEquals(0, failing.getDelivered());
+  }
+
+  @Test
+  void subscribeNegativeTest() {
+    GameEventBus bus = new GameEventBus();
+    assertThrows(NullOrBlankException.class, () -> bus.subscribe(null));
+    assertThrows(NullOrBlankException.class,
+        () -> bus.subscribe(event -> { }, 8, null));
+    assertThrows(IntegerException.class,
+        () -> bus.subscribe(event -> { }, 0, OverflowPolicy.DROP));
+    bus.close();
+    assertThrows(IllegalStateException.class, () -> bus.subscribe(event -> { }));
+  }
+}
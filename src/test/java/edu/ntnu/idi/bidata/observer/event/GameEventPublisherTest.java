@@ -0,0 +1,101 @@
+package edu.ntnu.idi.bidata.observer.event;
+
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import edu.ntnu.idi.bidata.utils.exception.NullOrBlankException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventPublisherTest {
+
+  @Test
+  void publishPositiveTest() throws NullOrBlankException, InterruptedException {
+    List<GameEvent> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch completed = new CountDownLatch(1);
+    GameEventPublisher publisher = new GameEventPublisher(1);
+    publisher.subscribe(new Flow.Subscriber<>() {
+      private Flow.Subscription subscription;
+
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+      }
+
+      @Override
+      public void onNext(GameEvent event) {
+        received.add(event);
+        subscription.request(1);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        completed.countDown();
+      }
+
+      @Override
+      public void onComplete() {
+        completed.countDown();
+      }
+    });
+    assertTrue(publisher.hasSubscribers());
+    assertEquals(1, publisher.getNumberOfSubscribers());
+
+    for (int turn = 1; turn <= 50; turn++) {
+      publisher.publish(new TurnSkippedEvent(turn, "Player", 1));
+    }
+    publisher.close();
+
+    assertTrue(completed.await(5, TimeUnit.SECONDS));
+    assertEquals(50, received.size());
+    for (int i = 0; i < received.size(); i++) {
+      assertEquals(i + 1, received.get(i).turn());
+    }
+  }
+
+  @Test
+  void closeWhilePublishingNegativeTest() throws NullOrBlankException, InterruptedException {
+    for (int round = 0; round < 200; round++) {
+      GameEventPublisher publisher = new GameEventPublisher();
+      publisher.consume(event -> { });
+      CountDownLatch publishing = new CountDownLatch(1);
+      List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+      Thread game = Thread.ofVirtual().start(() -> {
+        try {
+          for (int turn = 1; turn <= 1000; turn++) {
+            publisher.publish(new TurnSkippedEvent(turn, "Player", 1));
+            publishing.countDown();
+          }
+        } catch (RuntimeException e) {
+          failures.add(e);
+        }
+      });
+      assertTrue(publishing.await(5, TimeUnit.SECONDS));
+      publisher.close();
+      game.join();
+
+      assertEquals(List.of(), failures, "Closing must not break a publishing turn");
+    }
+  }
+
+  @Test
+  void publishNegativeTest() throws NullOrBlankException {
+    List<GameEvent> received = Collections.synchronizedList(new ArrayList<>());
+    GameEventPublisher publisher = new GameEventPublisher();
+    publisher.consume(received::add);
+    publisher.close();
+
+    publisher.publish(new TurnSkippedEvent(1, "Player", 1));
+
+    assertTrue(received.isEmpty());
+    assertThrows(IntegerException.class, () -> new GameEventPublisher(0));
+    assertThrows(NullOrBlankException.class, () -> publisher.subscribe(null));
+    assertThrows(NullOrBlankException.class, () -> publisher.consume(null));
+  }
+}
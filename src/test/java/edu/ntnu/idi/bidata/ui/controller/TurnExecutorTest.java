@@ -0,0 +1,89 @@
+package edu.ntnu.idi.bidata.ui.controller;
+
+import edu.ntnu.idi.bidata.utils.exception.IntegerException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnExecutorTest {
+
+  @Test
+  void turnsAndUpdatesRunInSubmissionOrderTest() {
+    List<String> log = Collections.synchronizedList(new ArrayList<>());
+    try (TurnExecutor executor = new TurnExecutor(Runnable::run)) {
+      CompletableFuture<Integer> last = null;
+      for (int i = 0; i < 100; i++) {
+        int turn = i;
+        last = executor.submit(() -> {
+          log.add("turn " + turn);
+          return turn;
+        }, value -> log.add("update " + value), error -> log.add("failure " + turn));
+      }
+      assertEquals(99, last.join());
+    }
+
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      expected.add("turn " + i);
+      expected.add("update " + i);
+    }
+    assertEquals(expected, log);
+  }
+
+  @Test
+  void failedTurnRunsFailureUpdateTest() {
+    List<Object> updates = Collections.synchronizedList(new ArrayList<>());
+    IntegerException thrown = new IntegerException("Money must be positive");
+    try (TurnExecutor executor = new TurnExecutor(Runnable::run)) {
+      CompletableFuture<String> failed = executor.submit(() -> {
+        throw thrown;
+      }, updates::add, updates::add);
+      CompletionException exception = assertThrows(CompletionException.class, failed::join);
+      assertSame(thrown, exception.getCause());
+
+      String next = executor.submit(() -> "next", updates::add, updates::add).join();
+      assertEquals("next", next);
+    }
+
+    assertEquals(List.of(thrown, "next"), updates, "The failure is given to the UI unwrapped");
+  }
+
+  @Test
+  void closeDropsQueuedTurnsTest() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger updates = new AtomicInteger();
+    AtomicInteger queuedTurns = new AtomicInteger();
+    TurnExecutor executor = new TurnExecutor(Runnable::run);
+
+    CompletableFuture<String> running = executor.submit(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "running";
+    }, value -> updates.incrementAndGet(), error -> updates.incrementAndGet());
+    CompletableFuture<Integer> queued = executor.submit(queuedTurns::incrementAndGet,
+        value -> updates.incrementAndGet(), error -> updates.incrementAndGet());
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    executor.close();
+
+    assertEquals("running", running.join(), "The running turn is finished");
+    Thread.sleep(50);
+    assertFalse(queued.isDone());
+    assertEquals(0, queuedTurns.get(), "The queued turn is dropped");
+    assertEquals(1, updates.get());
+    assertThrows(RejectedExecutionException.class,
+        () -> executor.submit(() -> "late", value -> { }, error -> { }));
+  }
+}